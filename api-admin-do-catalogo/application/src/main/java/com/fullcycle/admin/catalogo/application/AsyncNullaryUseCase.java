@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncNullaryUseCase<OUT> {
+    public abstract CompletableFuture<OUT> execute();
+}
@@ -0,0 +1,142 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking use cases off the caller thread. Each execution gets its own
+ * virtual thread when the runtime supports them (JDK 21+), at most
+ * {@code maxConcurrency} of them running the use case at once. Older runtimes
+ * fall back to a fixed pool of {@code maxConcurrency} platform threads.
+ */
+public final class AsyncUseCaseExecutor implements AutoCloseable {
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final boolean virtualThreads;
+
+    private AsyncUseCaseExecutor(final ExecutorService anExecutor, final int maxConcurrency, final boolean virtualThreads) {
+        this.executor = anExecutor;
+        this.permits = new Semaphore(maxConcurrency);
+        this.virtualThreads = virtualThreads;
+    }
+
+    public static AsyncUseCaseExecutor create(final int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("'maxConcurrency' must be greater than 0");
+        }
+
+        final var virtualExecutor = newVirtualThreadPerTaskExecutor();
+        if (virtualExecutor != null) {
+            return new AsyncUseCaseExecutor(virtualExecutor, maxConcurrency, true);
+        }
+
+        final var counter = new AtomicInteger();
+        final var platformExecutor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            final var thread = new Thread(runnable, "use-case-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new AsyncUseCaseExecutor(platformExecutor, maxConcurrency, false);
+    }
+
+    /**
+     * Executor creating one virtual thread per task, or null when the runtime
+     * has no virtual threads.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
+    public <IN, OUT> AsyncUseCase<IN, OUT> async(final UseCase<IN, OUT> aUseCase) {
+        Objects.requireNonNull(aUseCase);
+        return new AsyncUseCase<>() {
+            @Override
+            public CompletableFuture<OUT> execute(final IN aInput) {
+                return submit(() -> aUseCase.execute(aInput));
+            }
+        };
+    }
+
+    public <IN> AsyncUnitUseCase<IN> async(final UnitUseCase<IN> aUseCase) {
+        Objects.requireNonNull(aUseCase);
+        return new AsyncUnitUseCase<>() {
+            @Override
+            public CompletableFuture<Void> execute(final IN aInput) {
+                return submit(() -> {
+                    aUseCase.execute(aInput);
+                    return null;
+                });
+            }
+        };
+    }
+
+    public <OUT> AsyncNullaryUseCase<OUT> async(final NullaryUseCase<OUT> aUseCase) {
+        Objects.requireNonNull(aUseCase);
+        return new AsyncNullaryUseCase<>() {
+            @Override
+            public CompletableFuture<OUT> execute() {
+                return submit(aUseCase::execute);
+            }
+        };
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException ex) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <OUT> CompletableFuture<OUT> submit(final Supplier<OUT> aTask) {
+        final var future = new CompletableFuture<OUT>();
+        try {
+            this.executor.execute(() -> run(aTask, future));
+        } catch (final RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    private <OUT> void run(final Supplier<OUT> aTask, final CompletableFuture<OUT> future) {
+        try {
+            this.permits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(ex);
+            return;
+        }
+
+        try {
+            future.complete(aTask.get());
+        } catch (final Throwable t) {
+            future.completeExceptionally(t);
+        } finally {
+            this.permits.release();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.List;
+
+public record BatchCreateCategoryOutput(
+    CategoryID id,
+    List<Error> errors
+) {
+    public static BatchCreateCategoryOutput from(final Category aCategory) {
+        return new BatchCreateCategoryOutput(aCategory.getId(), List.of());
+    }
+
+    public static BatchCreateCategoryOutput with(final List<Error> anErrors) {
+        return new BatchCreateCategoryOutput(null, anErrors);
+    }
+
+    public boolean isCreated() {
+        return id != null;
+    }
+}
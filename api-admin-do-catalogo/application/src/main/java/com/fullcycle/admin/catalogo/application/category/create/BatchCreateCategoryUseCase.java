@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class BatchCreateCategoryUseCase
+    extends UseCase<List<CreateCategoryCommand>, List<BatchCreateCategoryOutput>> {
+}
@@ -1,15 +1,25 @@
 package com.fullcycle.admin.catalogo.application.category.create;
 
+/**
+ * Request to create a category. Retries of the same request should carry the
+ * same {@code idempotencyKey}, so they are answered with the first result
+ * instead of creating a duplicate; a null key disables that.
+ */
 public record CreateCategoryCommand(
     String name,
     String description,
-    boolean isActive
+    boolean isActive,
+    String idempotencyKey
 ) {
     public static CreateCategoryCommand with(
         final String aName,
         final String aDescription,
         final boolean isActive
     ) {
-        return new CreateCategoryCommand(aName, aDescription, isActive);
+        return new CreateCategoryCommand(aName, aDescription, isActive, null);
+    }
+
+    public CreateCategoryCommand withIdempotencyKey(final String aKey) {
+        return new CreateCategoryCommand(name, description, isActive, aKey);
     }
 }
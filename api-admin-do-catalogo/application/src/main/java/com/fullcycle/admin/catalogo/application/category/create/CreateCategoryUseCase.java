@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalogo.application.category.create;
 
 import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import io.vavr.control.Either;
 
 public abstract class CreateCategoryUseCase
-    extends UseCase<CreateCategoryCommand, CreateCategoryOutput> {
+    extends UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> {
 }
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchCreateCategoryUseCase extends BatchCreateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBatchCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<BatchCreateCategoryOutput> execute(final List<CreateCategoryCommand> aCommands) {
+        final var outputs = new BatchCreateCategoryOutput[aCommands.size()];
+        final var validCategories = new ArrayList<Category>(aCommands.size());
+        final var validPositions = new int[aCommands.size()];
+
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            final var notification = Notification.create();
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                outputs[i] = BatchCreateCategoryOutput.with(notification.getErrors());
+            } else {
+                validPositions[validCategories.size()] = i;
+                validCategories.add(aCategory);
+            }
+        }
+
+        if (!validCategories.isEmpty()) {
+            final var createdCategories = this.categoryGateway.createAll(validCategories);
+            for (int i = 0; i < createdCategories.size(); i++) {
+                outputs[validPositions[i]] = BatchCreateCategoryOutput.from(createdCategories.get(i));
+            }
+        }
+
+        return Arrays.asList(outputs);
+    }
+}
@@ -1,9 +1,9 @@
 package com.fullcycle.admin.catalogo.application.category.create;
 
-import com.fullcycle.admin.catalogo.application.UseCase;
-import com.fullcycle.admin.catalogo.domain.Validation.handler.ThrowsValidationHandler;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import io.vavr.control.Either;
 
 import java.util.Objects;
 
@@ -16,15 +16,19 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
     }
 
     @Override
-    public CreateCategoryOutput execute(CreateCategoryCommand aCommand) {
+    public Either<Notification, CreateCategoryOutput> execute(CreateCategoryCommand aCommand) {
         final var aName = aCommand.name();
         final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
 
+        final var notification = Notification.create();
         final var aCategory = Category.newCategory(aName, aDescription, isActive);
-        aCategory.validate(new ThrowsValidationHandler());
+        aCategory.validate(notification);
 
+        if (notification.hasError()) {
+            return Either.left(notification);
+        }
 
-        return CreateCategoryOutput.from(this.categoryGateway.create(aCategory));
+        return Either.right(CreateCategoryOutput.from(this.categoryGateway.create(aCategory)));
     }
 }
@@ -0,0 +1,178 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs each idempotency key once within a time window. A retry that arrives
+ * while the first request is still running waits for it and shares its
+ * result; one that arrives within the window after it finished gets the
+ * remembered result. Failures are forgotten, so the next retry runs again.
+ * At most {@code maximumKeys} are remembered, the earliest finished ones being
+ * dropped first; a running request is never dropped, and a new key is turned
+ * down while the bound is taken by running ones.
+ */
+public class IdempotentCreateCategoryUseCase extends CreateCategoryUseCase {
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(10);
+    public static final int DEFAULT_MAXIMUM_KEYS = 10_000;
+
+    private final CreateCategoryUseCase delegate;
+    private final long windowNanos;
+    private final int maximumKeys;
+    private final LongSupplier clock;
+    private final Map<String, Attempt> attempts;
+    private final Queue<Attempt> finished;
+
+    public IdempotentCreateCategoryUseCase(final CreateCategoryUseCase aDelegate) {
+        this(aDelegate, DEFAULT_WINDOW, DEFAULT_MAXIMUM_KEYS);
+    }
+
+    public IdempotentCreateCategoryUseCase(
+        final CreateCategoryUseCase aDelegate,
+        final Duration aWindow,
+        final int aMaximumKeys
+    ) {
+        this(aDelegate, aWindow, aMaximumKeys, System::nanoTime);
+    }
+
+    IdempotentCreateCategoryUseCase(
+        final CreateCategoryUseCase aDelegate,
+        final Duration aWindow,
+        final int aMaximumKeys,
+        final LongSupplier aClock
+    ) {
+        if (aMaximumKeys <= 0) {
+            throw new IllegalArgumentException("'maximumKeys' must be greater than 0");
+        }
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.windowNanos = aWindow.toNanos();
+        this.maximumKeys = aMaximumKeys;
+        this.clock = Objects.requireNonNull(aClock);
+        this.attempts = new ConcurrentHashMap<>();
+        this.finished = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand aCommand) {
+        final var aKey = aCommand.idempotencyKey();
+        if (aKey == null) {
+            return this.delegate.execute(aCommand);
+        }
+
+        final var attempt = new Attempt(aCommand);
+        while (true) {
+            final var now = this.clock.getAsLong();
+            final var previous = this.attempts.putIfAbsent(aKey, attempt);
+            if (previous == null) {
+                evict(now);
+                if (this.attempts.size() > this.maximumKeys) {
+                    return turnDown(attempt, now);
+                }
+                return run(attempt);
+            }
+            if (!previous.hasExpired(now, this.windowNanos)) {
+                return previous.command.equals(aCommand) ? await(previous) : reused(aKey);
+            }
+            this.attempts.remove(aKey, previous);
+        }
+    }
+
+    public int size() {
+        return this.attempts.size();
+    }
+
+    private Either<Notification, CreateCategoryOutput> run(final Attempt anAttempt) {
+        try {
+            final var result = this.delegate.execute(anAttempt.command);
+            anAttempt.finish(result, this.clock.getAsLong());
+            this.finished.add(anAttempt);
+            return result;
+        } catch (final Throwable ex) {
+            this.attempts.remove(anAttempt.command.idempotencyKey(), anAttempt);
+            anAttempt.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private static Either<Notification, CreateCategoryOutput> await(final Attempt anAttempt) {
+        try {
+            return anAttempt.result.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof java.lang.Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // every remembered key is still running; waiters on this attempt get the same answer
+    private Either<Notification, CreateCategoryOutput> turnDown(final Attempt anAttempt, final long now) {
+        final Either<Notification, CreateCategoryOutput> result = Either.left(Notification.create(
+            new Error("too many requests are in progress, retry later")
+        ));
+        this.attempts.remove(anAttempt.command.idempotencyKey(), anAttempt);
+        anAttempt.finish(result, now);
+        return result;
+    }
+
+    private static Either<Notification, CreateCategoryOutput> reused(final String aKey) {
+        return Either.left(Notification.create(
+            new Error("idempotency key '%s' was already used for a different request".formatted(aKey))
+        ));
+    }
+
+    // attempts are queued as they finish, so the head is always the next to expire
+    private void evict(final long now) {
+        Attempt oldest;
+        while ((oldest = this.finished.peek()) != null) {
+            final var aKey = oldest.command.idempotencyKey();
+            final boolean remembered = this.attempts.get(aKey) == oldest;
+            final boolean expired = oldest.hasExpired(now, this.windowNanos);
+            final boolean overflow = this.attempts.size() > this.maximumKeys;
+            if (remembered && !expired && !overflow) {
+                return;
+            }
+            if (this.finished.remove(oldest) && remembered) {
+                this.attempts.remove(aKey, oldest);
+            }
+        }
+    }
+
+    private static final class Attempt {
+        private final CreateCategoryCommand command;
+        private final CompletableFuture<Either<Notification, CreateCategoryOutput>> result;
+        private volatile long finishedAt;
+
+        private Attempt(final CreateCategoryCommand aCommand) {
+            this.command = aCommand;
+            this.result = new CompletableFuture<>();
+        }
+
+        private void finish(final Either<Notification, CreateCategoryOutput> aResult, final long now) {
+            this.finishedAt = now;
+            this.result.complete(aResult);
+        }
+
+        // a running attempt never expires, a failed one is already forgotten
+        private boolean hasExpired(final long now, final long aWindowNanos) {
+            if (!this.result.isDone()) {
+                return false;
+            }
+            return this.result.isCompletedExceptionally() || now - this.finishedAt >= aWindowNanos;
+        }
+    }
+}
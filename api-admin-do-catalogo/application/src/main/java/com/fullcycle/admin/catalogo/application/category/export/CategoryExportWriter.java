@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+
+public interface CategoryExportWriter {
+    void write(Category aCategory);
+
+    void flush();
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+
+import java.util.Objects;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+    static final int FETCH_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public ExportCategoriesOutput execute(final ExportCategoriesCommand aCommand) {
+        final var writer = Objects.requireNonNull(aCommand.writer());
+        final var aQuery = new CategorySearchQuery(0, FETCH_SIZE, aCommand.terms(), aCommand.sort(), aCommand.direction());
+
+        long exported = 0;
+        try (final var categories = this.categoryGateway.streamAll(aQuery)) {
+            final var iterator = categories.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                exported++;
+            }
+        }
+        writer.flush();
+        return ExportCategoriesOutput.from(exported);
+    }
+}
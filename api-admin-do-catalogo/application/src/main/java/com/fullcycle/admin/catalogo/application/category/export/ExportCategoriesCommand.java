@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+public record ExportCategoriesCommand(
+    String terms,
+    String sort,
+    String direction,
+    CategoryExportWriter writer
+) {
+    public static ExportCategoriesCommand with(
+        final String terms,
+        final String sort,
+        final String direction,
+        final CategoryExportWriter aWriter
+    ) {
+        return new ExportCategoriesCommand(terms, sort, direction, aWriter);
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class ExportCategoriesUseCase extends UseCase<ExportCategoriesCommand, ExportCategoriesOutput> {
+}
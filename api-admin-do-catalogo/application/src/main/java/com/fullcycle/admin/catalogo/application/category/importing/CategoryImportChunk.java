@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.util.List;
+
+public interface CategoryImportChunk {
+    List<CategoryImportRow> rows();
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+
+import java.util.List;
+
+public interface CategoryImportRejections {
+    void reject(long aLine, String aRaw, List<Error> anErrors);
+
+    void flush();
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+
+/**
+ * One parsed row of an import file: either a command, or the reason it could
+ * not be read. The raw text is kept for the rejected-rows report.
+ */
+public record CategoryImportRow(
+    long line,
+    String raw,
+    CreateCategoryCommand command,
+    String error
+) {
+    public static CategoryImportRow parsed(final long aLine, final String aRaw, final CreateCategoryCommand aCommand) {
+        return new CategoryImportRow(aLine, aRaw, aCommand, null);
+    }
+
+    public static CategoryImportRow malformed(final long aLine, final String aRaw, final String anError) {
+        return new CategoryImportRow(aLine, aRaw, null, anError);
+    }
+
+    public boolean isMalformed() {
+        return command == null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an import file sequentially in chunks of whole rows. Chunks are parsed
+ * later, possibly on other threads, so handing one out must not depend on
+ * parsing the previous ones.
+ */
+public interface CategoryImportSource extends Closeable {
+    /**
+     * Returns the next chunk, or null once the input is exhausted.
+     */
+    CategoryImportChunk nextChunk() throws IOException;
+}
@@ -0,0 +1,204 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Three-stage import: a reader thread pulls chunks from the source, each chunk
+ * is parsed and validated as a task on the fork-join pool, and the calling
+ * thread writes valid categories in batches and reports rejected rows.
+ *
+ * <p>The reader hands tasks to the writer through a bounded queue in file
+ * order, so at most {@code maxChunksInFlight} chunks are held at once and the
+ * reader stalls whenever the writer falls behind.
+ */
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Future<PreparedChunk> END = CompletableFuture.completedFuture(null);
+
+    private final CategoryGateway categoryGateway;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final int maxChunksInFlight;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, ForkJoinPool.getCommonPoolParallelism() * 2);
+    }
+
+    public DefaultImportCategoriesUseCase(
+        final CategoryGateway categoryGateway,
+        final ForkJoinPool aPool,
+        final int aBatchSize,
+        final int maxChunksInFlight
+    ) {
+        if (aBatchSize <= 0 || maxChunksInFlight <= 0) {
+            throw new IllegalArgumentException("'batchSize' and 'maxChunksInFlight' must be greater than 0");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.pool = Objects.requireNonNull(aPool);
+        this.batchSize = aBatchSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+        final var source = Objects.requireNonNull(aCommand.source());
+        final var rejections = Objects.requireNonNull(aCommand.rejections());
+        final var onProgress = aCommand.onProgress();
+
+        final var queue = new ArrayBlockingQueue<Future<PreparedChunk>>(this.maxChunksInFlight);
+        final var reader = new Thread(() -> read(source, queue), "category-import-reader");
+        reader.setDaemon(true);
+
+        final var startedAt = System.nanoTime();
+        var lastReportAt = startedAt;
+        long rows = 0;
+        long imported = 0;
+        long rejected = 0;
+        final var batch = new ArrayList<Category>(this.batchSize);
+
+        reader.start();
+        try {
+            while (true) {
+                final var next = take(queue);
+                if (next == END) {
+                    break;
+                }
+
+                final var aChunk = await(next);
+                rows += aChunk.rows();
+                for (final var aRejection : aChunk.rejected()) {
+                    rejections.reject(aRejection.row().line(), aRejection.row().raw(), aRejection.errors());
+                    rejected++;
+                }
+                for (final var aCategory : aChunk.categories()) {
+                    batch.add(aCategory);
+                    if (batch.size() == this.batchSize) {
+                        imported += write(batch);
+                    }
+                }
+
+                final var now = System.nanoTime();
+                if (onProgress != null && now - lastReportAt >= PROGRESS_INTERVAL_NANOS) {
+                    lastReportAt = now;
+                    onProgress.accept(ImportCategoriesOutput.with(rows, imported, rejected, Duration.ofNanos(now - startedAt)));
+                }
+            }
+            imported += write(batch);
+            rejections.flush();
+        } finally {
+            if (reader.isAlive()) {
+                reader.interrupt();
+                queue.forEach(aTask -> aTask.cancel(false));
+            }
+        }
+
+        final var output = ImportCategoriesOutput.with(rows, imported, rejected, Duration.ofNanos(System.nanoTime() - startedAt));
+        if (onProgress != null) {
+            onProgress.accept(output);
+        }
+        return output;
+    }
+
+    private void read(final CategoryImportSource aSource, final BlockingQueue<Future<PreparedChunk>> aQueue) {
+        try {
+            try {
+                CategoryImportChunk aChunk;
+                while ((aChunk = aSource.nextChunk()) != null) {
+                    final var chunk = aChunk;
+                    aQueue.put(this.pool.submit(() -> prepare(chunk)));
+                }
+                aQueue.put(END);
+            } catch (final IOException | RuntimeException ex) {
+                aQueue.put(CompletableFuture.failedFuture(ex));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int write(final List<Category> aBatch) {
+        if (aBatch.isEmpty()) {
+            return 0;
+        }
+        final var created = this.categoryGateway.createAll(List.copyOf(aBatch)).size();
+        aBatch.clear();
+        return created;
+    }
+
+    private static PreparedChunk prepare(final CategoryImportChunk aChunk) {
+        final var rows = aChunk.rows();
+        final var categories = new ArrayList<Category>(rows.size());
+        final var rejected = new ArrayList<RejectedRow>();
+
+        for (final var aRow : rows) {
+            if (aRow.isMalformed()) {
+                rejected.add(new RejectedRow(aRow, List.of(new Error(aRow.error()))));
+                continue;
+            }
+
+            final var aCommand = aRow.command();
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            final var notification = Notification.create();
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                rejected.add(new RejectedRow(aRow, notification.getErrors()));
+            } else {
+                categories.add(aCategory);
+            }
+        }
+        return new PreparedChunk(rows.size(), categories, rejected);
+    }
+
+    private static Future<PreparedChunk> take(final BlockingQueue<Future<PreparedChunk>> aQueue) {
+        try {
+            return aQueue.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("import interrupted", ex);
+        }
+    }
+
+    private static PreparedChunk await(final Future<PreparedChunk> aTask) {
+        try {
+            return aTask.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("import interrupted", ex);
+        } catch (final ExecutionException ex) {
+            final var cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private record RejectedRow(CategoryImportRow row, List<Error> errors) {
+    }
+
+    private record PreparedChunk(int rows, List<Category> categories, List<RejectedRow> rejected) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.util.function.Consumer;
+
+public record ImportCategoriesCommand(
+    CategoryImportSource source,
+    CategoryImportRejections rejections,
+    Consumer<ImportCategoriesOutput> onProgress
+) {
+    public static ImportCategoriesCommand with(
+        final CategoryImportSource aSource,
+        final CategoryImportRejections aRejections,
+        final Consumer<ImportCategoriesOutput> onProgress
+    ) {
+        return new ImportCategoriesCommand(aSource, aRejections, onProgress);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import java.time.Duration;
+
+public record ImportCategoriesOutput(
+    long rows,
+    long imported,
+    long rejected,
+    Duration elapsed
+) {
+    public static ImportCategoriesOutput with(
+        final long rows,
+        final long imported,
+        final long rejected,
+        final Duration elapsed
+    ) {
+        return new ImportCategoriesOutput(rows, imported, rejected, elapsed);
+    }
+
+    public double rowsPerSecond() {
+        final var nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rows * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+
+public record CategoryOutput(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    long version
+) {
+    public static CategoryOutput from(final Category aCategory) {
+        return new CategoryOutput(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.getIsActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getUpdatedAt(),
+            aCategory.getDeletedAt(),
+            aCategory.getVersion()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+public class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryByIdUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryOutput execute(final String anId) {
+        final var aCategoryID = CategoryID.from(anId);
+        return this.categoryGateway.findById(aCategoryID)
+            .map(CategoryOutput::from)
+            .orElseThrow(() -> NotFoundException.with(Category.class, aCategoryID));
+    }
+}
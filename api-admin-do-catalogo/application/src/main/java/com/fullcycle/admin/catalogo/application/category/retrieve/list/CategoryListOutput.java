@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryListing;
+
+import java.time.Instant;
+
+public record CategoryListOutput(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant createdAt,
+    Instant deletedAt
+) {
+    public static CategoryListOutput from(final Category aCategory) {
+        return new CategoryListOutput(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.getIsActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getDeletedAt()
+        );
+    }
+
+    public static CategoryListOutput from(final CategoryListing aListing) {
+        return new CategoryListOutput(
+            aListing.id(),
+            aListing.name(),
+            aListing.description(),
+            aListing.isActive(),
+            aListing.createdAt(),
+            aListing.deletedAt()
+        );
+    }
+}
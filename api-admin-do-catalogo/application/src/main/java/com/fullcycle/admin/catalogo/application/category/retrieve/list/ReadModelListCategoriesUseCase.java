@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryListingGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+/**
+ * Lists categories from the read model instead of the aggregates, so listings
+ * don't wait on writes. A category shows up once its events are applied.
+ */
+public class ReadModelListCategoriesUseCase extends ListCategoriesUseCase {
+
+    private final CategoryListingGateway listingGateway;
+
+    public ReadModelListCategoriesUseCase(final CategoryListingGateway listingGateway) {
+        this.listingGateway = Objects.requireNonNull(listingGateway);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+        return this.listingGateway.findAll(aQuery).map(CategoryListOutput::from);
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+/**
+ * Applies a patch to the stored category. When the patch leaves every field
+ * as it was, nothing is written and the stored version is returned.
+ */
+public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+        final var stored = this.categoryGateway.findById(anId)
+            .orElseThrow(() -> NotFoundException.with(Category.class, anId));
+
+        final var aCategory = aCommand.version() == null ? stored : Category.with(stored, aCommand.version());
+        if (aCategory.getVersion() != stored.getVersion()) {
+            throw VersionConflictException.with(aCategory, stored.getVersion());
+        }
+
+        aCategory.update(
+            aCommand.has(CategoryField.NAME) ? aCommand.name() : aCategory.getName(),
+            aCommand.has(CategoryField.DESCRIPTION) ? aCommand.description() : aCategory.getDescription(),
+            aCommand.has(CategoryField.ACTIVE) ? aCommand.isActive() : aCategory.getIsActive()
+        );
+        if (!aCategory.hasChanges()) {
+            return Either.right(UpdateCategoryOutput.from(aCategory));
+        }
+
+        final var notification = Notification.create();
+        aCategory.validate(notification);
+        if (notification.hasError()) {
+            return Either.left(notification);
+        }
+
+        return Either.right(UpdateCategoryOutput.from(this.categoryGateway.update(aCategory)));
+    }
+}
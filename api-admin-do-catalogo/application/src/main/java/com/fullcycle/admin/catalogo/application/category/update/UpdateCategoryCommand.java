@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Patch of a category: only the fields listed in {@code fields} are applied,
+ * the others keep their stored value. A null {@code version} skips the
+ * optimistic check against what the caller last read.
+ */
+public record UpdateCategoryCommand(
+    String id,
+    Long version,
+    String name,
+    String description,
+    boolean isActive,
+    Set<CategoryField> fields
+) {
+    public UpdateCategoryCommand {
+        fields = Set.copyOf(fields);
+    }
+
+    public static UpdateCategoryCommand with(final String anId) {
+        return new UpdateCategoryCommand(anId, null, null, null, false, Set.of());
+    }
+
+    public static UpdateCategoryCommand with(
+        final String anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive
+    ) {
+        return new UpdateCategoryCommand(anId, null, aName, aDescription, isActive, EnumSet.allOf(CategoryField.class));
+    }
+
+    public UpdateCategoryCommand withName(final String aName) {
+        return new UpdateCategoryCommand(id, version, aName, description, isActive, plus(CategoryField.NAME));
+    }
+
+    public UpdateCategoryCommand withDescription(final String aDescription) {
+        return new UpdateCategoryCommand(id, version, name, aDescription, isActive, plus(CategoryField.DESCRIPTION));
+    }
+
+    public UpdateCategoryCommand withActive(final boolean isActive) {
+        return new UpdateCategoryCommand(id, version, name, description, isActive, plus(CategoryField.ACTIVE));
+    }
+
+    public UpdateCategoryCommand withVersion(final long aVersion) {
+        return new UpdateCategoryCommand(id, aVersion, name, description, isActive, fields);
+    }
+
+    public boolean has(final CategoryField aField) {
+        return fields.contains(aField);
+    }
+
+    private Set<CategoryField> plus(final CategoryField aField) {
+        final var result = EnumSet.of(aField);
+        result.addAll(fields);
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+public record UpdateCategoryOutput(
+    CategoryID id,
+    long version
+) {
+    public static UpdateCategoryOutput from(final Category aCategory) {
+        return new UpdateCategoryOutput(aCategory.getId(), aCategory.getVersion());
+    }
+}
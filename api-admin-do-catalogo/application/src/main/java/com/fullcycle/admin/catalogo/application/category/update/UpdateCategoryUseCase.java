@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class UpdateCategoryUseCase
+    extends UseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AsyncUseCaseExecutorTest {
+
+    @Test
+    public void givenAUseCase_whenCallsAsyncExecute_thenShouldCompleteWithItsOutput() {
+        try (final var executor = AsyncUseCaseExecutor.create(4)) {
+            final var useCase = executor.async(new UseCase<String, Integer>() {
+                @Override
+                public Integer execute(final String aInput) {
+                    return aInput.length();
+                }
+            });
+
+            Assertions.assertEquals(6, useCase.execute("Filmes").join());
+        }
+    }
+
+    @Test
+    public void givenAFailingUseCase_whenCallsAsyncExecute_thenShouldCompleteExceptionally() {
+        final var expectedException = new IllegalStateException("Gateway error");
+
+        try (final var executor = AsyncUseCaseExecutor.create(4)) {
+            final var useCase = executor.async(new NullaryUseCase<String>() {
+                @Override
+                public String execute() {
+                    throw expectedException;
+                }
+            });
+
+            final var actualException = Assertions.assertThrows(
+                CompletionException.class,
+                () -> useCase.execute().join()
+            );
+
+            Assertions.assertSame(expectedException, actualException.getCause());
+        }
+    }
+
+    @Test
+    public void givenManyConcurrentCalls_whenCallsAsyncExecute_thenShouldNotExceedMaxConcurrency() {
+        final var expectedMaxConcurrency = 3;
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var executed = new AtomicInteger();
+
+        try (final var executor = AsyncUseCaseExecutor.create(expectedMaxConcurrency)) {
+            final var useCase = executor.async(new UnitUseCase<Integer>() {
+                @Override
+                public void execute(final Integer aInput) {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    executed.incrementAndGet();
+                }
+            });
+
+            final var futures = new ArrayList<CompletableFuture<Void>>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(useCase.execute(i));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        Assertions.assertEquals(100, executed.get());
+        Assertions.assertTrue(maxRunning.get() <= expectedMaxConcurrency);
+    }
+}
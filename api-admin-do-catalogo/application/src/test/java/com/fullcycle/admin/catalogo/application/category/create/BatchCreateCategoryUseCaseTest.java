@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class BatchCreateCategoryUseCaseTest {
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBatchCreate_thenShouldPersistValidOnesInOneCall() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var aCommands = List.of(
+            CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+            CreateCategoryCommand.with(null, "Sem nome", true),
+            CreateCategoryCommand.with("Series", null, false)
+        );
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var useCase = new DefaultBatchCreateCategoryUseCase(categoryGateway);
+
+        final var actualOutputs = useCase.execute(aCommands);
+
+        Assertions.assertEquals(3, actualOutputs.size());
+        Assertions.assertTrue(actualOutputs.get(0).isCreated());
+        Assertions.assertFalse(actualOutputs.get(1).isCreated());
+        Assertions.assertEquals(expectedErrorMessage, actualOutputs.get(1).errors().get(0).message());
+        Assertions.assertTrue(actualOutputs.get(2).isCreated());
+        Assertions.assertNotEquals(actualOutputs.get(0).id(), actualOutputs.get(2).id());
+
+        Mockito.verify(categoryGateway, times(1))
+            .createAll(argThat(categories ->
+                categories.size() == 2
+                    && "Filmes".equals(categories.get(0).getName())
+                    && "Series".equals(categories.get(1).getName())
+            ));
+        Mockito.verify(categoryGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsBatchCreate_thenShouldNotCallGateway() {
+        final var aCommands = List.of(
+            CreateCategoryCommand.with(" ", null, true),
+            CreateCategoryCommand.with("Fi", null, true)
+        );
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+
+        final var useCase = new DefaultBatchCreateCategoryUseCase(categoryGateway);
+
+        final var actualOutputs = useCase.execute(aCommands);
+
+        Assertions.assertEquals(2, actualOutputs.size());
+        Assertions.assertEquals("'name' should not be empty", actualOutputs.get(0).errors().get(0).message());
+        Assertions.assertEquals("'name' must be between 3 and 255 characters", actualOutputs.get(1).errors().get(0).message());
+        Mockito.verify(categoryGateway, never()).createAll(any());
+    }
+}
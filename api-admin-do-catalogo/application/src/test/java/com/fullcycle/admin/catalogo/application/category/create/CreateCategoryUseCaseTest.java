@@ -10,6 +10,7 @@ import java.util.Objects;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.when;
@@ -33,7 +34,7 @@ public class CreateCategoryUseCaseTest {
 
         final var useCase = new DefaultCreateCategoryUseCase(categoryGateway);
 
-        final var actualOutput = useCase.execute(aCommand);
+        final var actualOutput = useCase.execute(aCommand).get();
 
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
@@ -49,4 +50,30 @@ public class CreateCategoryUseCaseTest {
                     && Objects.isNull(aCategory.getDeletedAt())
             ));
     }
+
+    @Test
+    public void givenAnInvalidName_whenCallsCreateCategory_thenShouldReturnNotificationWithoutCallingGateway() {
+        final String expectedName = null;
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = true;
+        final var expectedErrorMessage = "'name' should not be null";
+        final var expectedErrorCount = 1;
+
+        final var aCommand = CreateCategoryCommand.with(
+            expectedName,
+            expectedDescription,
+            expectedIsActive
+        );
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+
+        final var useCase = new DefaultCreateCategoryUseCase(categoryGateway);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+
+        Mockito.verify(categoryGateway, never()).create(any());
+    }
 }
@@ -0,0 +1,266 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IdempotentCreateCategoryUseCaseTest {
+
+    @Test
+    public void givenARetriedCommand_whenCallsCreateCategory_thenShouldCreateOnceAndReturnTheSameId() {
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+        final var useCase = new IdempotentCreateCategoryUseCase(new DefaultCreateCategoryUseCase(categoryGateway));
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1");
+
+        final var first = useCase.execute(aCommand).get();
+        final var retried = useCase.execute(aCommand).get();
+        final var unkeyed = useCase.execute(CreateCategoryCommand.with("Filmes", null, true)).get();
+
+        Assertions.assertEquals(first.id(), retried.id());
+        Assertions.assertNotEquals(first.id(), unkeyed.id());
+        verify(categoryGateway, times(2)).create(any());
+    }
+
+    @Test
+    public void givenConcurrentDuplicates_whenTheFirstIsStillRunning_thenShouldWaitAndShareItsResult() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var runs = new AtomicInteger();
+        final var slow = new CountingUseCase(runs, () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+        });
+        final var useCase = new IdempotentCreateCategoryUseCase(slow);
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1");
+
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var results = new ArrayList<Future<Either<Notification, CreateCategoryOutput>>>();
+            results.add(executor.submit(() -> useCase.execute(aCommand)));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> useCase.execute(aCommand)));
+            }
+            release.countDown();
+
+            final var ids = new HashSet<>();
+            for (final var result : results) {
+                ids.add(result.get(5, TimeUnit.SECONDS).get().id());
+            }
+            Assertions.assertEquals(1, ids.size());
+            Assertions.assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenAKeyReusedForAnotherRequest_whenCallsCreateCategory_thenShouldReturnNotification() {
+        final var runs = new AtomicInteger();
+        final var useCase = new IdempotentCreateCategoryUseCase(new CountingUseCase(runs, () -> {}));
+
+        useCase.execute(CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1"));
+        final var notification = useCase.execute(CreateCategoryCommand.with("Series", null, true).withIdempotencyKey("req-1")).getLeft();
+
+        Assertions.assertEquals("idempotency key 'req-1' was already used for a different request", notification.getErrors().get(0).message());
+        Assertions.assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void givenAFailedOrExpiredAttempt_whenRetried_thenShouldRunAgain() {
+        final var runs = new AtomicInteger();
+        final var failures = new AtomicInteger(1);
+        final var now = new AtomicLong();
+        final var useCase = new IdempotentCreateCategoryUseCase(new CountingUseCase(runs, () -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("gateway is unavailable");
+            }
+        }), Duration.ofMinutes(1), 100, now::get);
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(aCommand));
+        final var first = useCase.execute(aCommand).get();
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        Assertions.assertEquals(first.id(), useCase.execute(aCommand).get().id());
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        Assertions.assertNotEquals(first.id(), useCase.execute(aCommand).get().id());
+        Assertions.assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void givenAnAttemptFailingWithAnError_whenRetried_thenShouldForgetItAndRunAgain() {
+        final var runs = new AtomicInteger();
+        final var failures = new AtomicInteger(1);
+        final var useCase = new IdempotentCreateCategoryUseCase(new CountingUseCase(runs, () -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new AssertionError("delegate crashed");
+            }
+        }));
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1");
+
+        Assertions.assertThrows(AssertionError.class, () -> useCase.execute(aCommand));
+        Assertions.assertEquals(0, useCase.size());
+        Assertions.assertTrue(useCase.execute(aCommand).isRight());
+        Assertions.assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void givenMoreKeysThanTheBound_whenCallsCreateCategory_thenShouldForgetTheOldestOnes() {
+        final var runs = new AtomicInteger();
+        final var useCase = new IdempotentCreateCategoryUseCase(new CountingUseCase(runs, () -> {}), Duration.ofMinutes(1), 2);
+
+        for (int i = 0; i < 5; i++) {
+            useCase.execute(CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-" + i));
+        }
+        useCase.execute(CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-0"));
+
+        Assertions.assertTrue(useCase.size() <= 2);
+        Assertions.assertEquals(6, runs.get());
+    }
+
+    @Test
+    public void givenAnAttemptRunningPastTheWindow_whenRetried_thenShouldWaitAndRememberItFromWhenItFinished() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var runs = new AtomicInteger();
+        final var now = new AtomicLong();
+        final var useCase = new IdempotentCreateCategoryUseCase(new CountingUseCase(runs, () -> {
+            if (runs.get() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+        }), Duration.ofMinutes(1), 100, now::get);
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1");
+
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            final var first = executor.submit(() -> useCase.execute(aCommand));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            now.addAndGet(Duration.ofMinutes(2).toNanos());
+            useCase.execute(CreateCategoryCommand.with("Series", null, true).withIdempotencyKey("req-2"));
+            final var retried = executor.submit(() -> useCase.execute(aCommand));
+            release.countDown();
+
+            final var id = first.get(5, TimeUnit.SECONDS).get().id();
+            Assertions.assertEquals(id, retried.get(5, TimeUnit.SECONDS).get().id());
+            now.addAndGet(Duration.ofSeconds(59).toNanos());
+            Assertions.assertEquals(id, useCase.execute(aCommand).get().id());
+            Assertions.assertEquals(2, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenARunningAttemptAtTheBound_whenNewKeysArrive_thenShouldDropTheFinishedOnesAndKeepIt() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var runs = new AtomicInteger();
+        final var useCase = new IdempotentCreateCategoryUseCase(new CountingUseCase(runs, () -> {
+            if (runs.get() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+        }), Duration.ofMinutes(1), 2);
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1");
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var first = executor.submit(() -> useCase.execute(aCommand));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 2; i <= 4; i++) {
+                Assertions.assertTrue(useCase.execute(CreateCategoryCommand.with("Series", null, true).withIdempotencyKey("req-" + i)).isRight());
+                Assertions.assertEquals(2, useCase.size());
+            }
+            release.countDown();
+
+            final var id = first.get(5, TimeUnit.SECONDS).get().id();
+            Assertions.assertEquals(id, useCase.execute(aCommand).get().id());
+            Assertions.assertEquals(4, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenOnlyRunningAttemptsAtTheBound_whenANewKeyArrives_thenShouldTurnItDown() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var runs = new AtomicInteger();
+        final var useCase = new IdempotentCreateCategoryUseCase(new CountingUseCase(runs, () -> {
+            if (runs.get() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+        }), Duration.ofMinutes(1), 1);
+        final var aCommand = CreateCategoryCommand.with("Series", null, true).withIdempotencyKey("req-2");
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var first = executor.submit(() -> useCase.execute(CreateCategoryCommand.with("Filmes", null, true).withIdempotencyKey("req-1")));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            final var notification = useCase.execute(aCommand).getLeft();
+            Assertions.assertEquals("too many requests are in progress, retry later", notification.getErrors().get(0).message());
+            Assertions.assertEquals(1, useCase.size());
+            release.countDown();
+
+            Assertions.assertTrue(first.get(5, TimeUnit.SECONDS).isRight());
+            Assertions.assertTrue(useCase.execute(aCommand).isRight());
+            Assertions.assertEquals(2, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    private static class CountingUseCase extends CreateCategoryUseCase {
+        private final AtomicInteger runs;
+        private final Step step;
+        private final DefaultCreateCategoryUseCase delegate;
+
+        private CountingUseCase(final AtomicInteger aRuns, final Step aStep) {
+            this.runs = aRuns;
+            this.step = aStep;
+            final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+            when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+            this.delegate = new DefaultCreateCategoryUseCase(categoryGateway);
+        }
+
+        @Override
+        public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand aCommand) {
+            this.runs.incrementAndGet();
+            try {
+                this.step.run();
+            } catch (final RuntimeException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return this.delegate.execute(aCommand);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.application.category.export;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExportCategoriesUseCaseTest {
+
+    @Test
+    public void givenAValidCommand_whenCallsExportCategories_thenShouldWriteEveryCategoryAndCloseTheStream() {
+        final var categories = List.of(
+            Category.newCategory("Filmes", null, true),
+            Category.newCategory("Series", null, false)
+        );
+        final var expectedQuery = new CategorySearchQuery(0, DefaultExportCategoriesUseCase.FETCH_SIZE, "", "name", "asc");
+        final var closed = new AtomicBoolean();
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.streamAll(eq(expectedQuery))).thenReturn(categories.stream().onClose(() -> closed.set(true)));
+
+        final var written = new ArrayList<Category>();
+        final var flushed = new AtomicBoolean();
+        final var aWriter = new CategoryExportWriter() {
+            @Override
+            public void write(final Category aCategory) {
+                written.add(aCategory);
+            }
+
+            @Override
+            public void flush() {
+                flushed.set(true);
+            }
+        };
+
+        final var useCase = new DefaultExportCategoriesUseCase(categoryGateway);
+
+        final var actualOutput = useCase.execute(ExportCategoriesCommand.with("", "name", "asc", aWriter));
+
+        Assertions.assertEquals(2, actualOutput.exported());
+        Assertions.assertEquals(categories, written);
+        Assertions.assertTrue(flushed.get());
+        Assertions.assertTrue(closed.get());
+    }
+}
@@ -0,0 +1,119 @@
+package com.fullcycle.admin.catalogo.application.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class ImportCategoriesUseCaseTest {
+
+    @Test
+    public void givenChunksWithInvalidRows_whenCallsImport_thenShouldWriteValidRowsInBatchesAndRejectTheOthers() {
+        final var aSource = sourceOf(
+            List.of(
+                CategoryImportRow.parsed(1, "Filmes", CreateCategoryCommand.with("Filmes", null, true)),
+                CategoryImportRow.malformed(2, "{", "unexpected end of input"),
+                CategoryImportRow.parsed(3, "Series", CreateCategoryCommand.with("Series", null, true))
+            ),
+            List.of(
+                CategoryImportRow.parsed(4, "Fi", CreateCategoryCommand.with("Fi", null, true)),
+                CategoryImportRow.parsed(5, "Documentarios", CreateCategoryCommand.with("Documentarios", null, false))
+            )
+        );
+        final var rejected = new ArrayList<String>();
+        final var aRejections = new CategoryImportRejections() {
+            @Override
+            public void reject(final long aLine, final String aRaw, final List<Error> anErrors) {
+                rejected.add(aLine + ":" + anErrors.get(0).message());
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+        final var progress = new ArrayList<ImportCategoriesOutput>();
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var useCase = new DefaultImportCategoriesUseCase(categoryGateway, ForkJoinPool.commonPool(), 2, 1);
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(aSource, aRejections, progress::add));
+
+        Assertions.assertEquals(5, actualOutput.rows());
+        Assertions.assertEquals(3, actualOutput.imported());
+        Assertions.assertEquals(2, actualOutput.rejected());
+        Assertions.assertEquals(
+            List.of("2:unexpected end of input", "4:'name' must be between 3 and 255 characters"),
+            rejected
+        );
+        Assertions.assertEquals(actualOutput, progress.get(progress.size() - 1));
+
+        Mockito.verify(categoryGateway, times(1))
+            .createAll(argThat(categories -> categories.size() == 2 && "Filmes".equals(categories.get(0).getName())));
+        Mockito.verify(categoryGateway, times(1))
+            .createAll(argThat(categories -> categories.size() == 1 && "Documentarios".equals(categories.get(0).getName())));
+    }
+
+    @Test
+    public void givenASourceThatFails_whenCallsImport_thenShouldReceiveTheError() {
+        final CategoryImportSource aSource = new CategoryImportSource() {
+            @Override
+            public CategoryImportChunk nextChunk() {
+                throw new IllegalStateException("disk on fire");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final var aRejections = new CategoryImportRejections() {
+            @Override
+            public void reject(final long aLine, final String aRaw, final List<Error> anErrors) {
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+
+        final var useCase = new DefaultImportCategoriesUseCase(mock(CategoryGateway.class));
+
+        final var actualException = Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> useCase.execute(ImportCategoriesCommand.with(aSource, aRejections, null))
+        );
+
+        Assertions.assertEquals("disk on fire", actualException.getMessage());
+    }
+
+    @SafeVarargs
+    private static CategoryImportSource sourceOf(final List<CategoryImportRow>... aChunks) {
+        final var chunks = new ArrayDeque<List<CategoryImportRow>>(List.of(aChunks));
+        return new CategoryImportSource() {
+            @Override
+            public CategoryImportChunk nextChunk() {
+                final var rows = chunks.poll();
+                return rows == null ? null : () -> rows;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
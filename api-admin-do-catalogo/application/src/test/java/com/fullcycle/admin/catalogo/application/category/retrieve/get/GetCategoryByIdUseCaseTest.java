@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.get;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GetCategoryByIdUseCaseTest {
+
+    @Test
+    public void givenAValidId_whenCallsGetCategory_shouldReturnCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.findById(any())).thenReturn(Optional.of(Category.with(aCategory)));
+
+        final var useCase = new DefaultGetCategoryByIdUseCase(categoryGateway);
+
+        final var actualOutput = useCase.execute(aCategory.getId().getValue());
+
+        Assertions.assertEquals(aCategory.getId(), actualOutput.id());
+        Assertions.assertEquals("Filmes", actualOutput.name());
+        Assertions.assertEquals("A categoria mais assistida", actualOutput.description());
+        Assertions.assertTrue(actualOutput.isActive());
+        Assertions.assertEquals(aCategory.getCreatedAt(), actualOutput.createdAt());
+        Assertions.assertNull(actualOutput.deletedAt());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetCategory_shouldThrowNotFound() {
+        final var anId = CategoryID.unique();
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.findById(any())).thenReturn(Optional.empty());
+
+        final var useCase = new DefaultGetCategoryByIdUseCase(categoryGateway);
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(anId.getValue()));
+
+        Assertions.assertEquals("Category with ID %s was not found".formatted(anId.getValue()), actualException.getErrors().get(0).message());
+    }
+}
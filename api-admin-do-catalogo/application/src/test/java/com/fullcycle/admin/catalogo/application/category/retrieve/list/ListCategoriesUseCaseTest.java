@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryListing;
+import com.fullcycle.admin.catalogo.domain.category.CategoryListingGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ListCategoriesUseCaseTest {
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategories_shouldReturnMappedPage() {
+        final var categories = List.of(
+            Category.newCategory("Filmes", null, true),
+            Category.newCategory("Series", null, false)
+        );
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.findAll(eq(aQuery))).thenReturn(new Pagination<>(0, 10, 2, categories));
+
+        final var useCase = new DefaultListCategoriesUseCase(categoryGateway);
+
+        final var actualPage = useCase.execute(aQuery);
+
+        Assertions.assertEquals(0, actualPage.currentPage());
+        Assertions.assertEquals(10, actualPage.perPage());
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(categories.get(0).getId(), actualPage.items().get(0).id());
+        Assertions.assertEquals("Series", actualPage.items().get(1).name());
+        Assertions.assertFalse(actualPage.items().get(1).isActive());
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategoriesFromTheReadModel_shouldReturnMappedPage() {
+        final var aCategory = Category.newCategory("Series", "Da semana", false);
+        final var aQuery = CategorySearchQuery.after("", 10, "", "createdAt", "desc");
+
+        final CategoryListingGateway listingGateway = mock(CategoryListingGateway.class);
+        when(listingGateway.findAll(eq(aQuery)))
+            .thenReturn(Pagination.keyset(10, List.of(CategoryListing.from(aCategory)), "next"));
+
+        final var useCase = new ReadModelListCategoriesUseCase(listingGateway);
+
+        final var actualPage = useCase.execute(aQuery);
+
+        Assertions.assertEquals("next", actualPage.nextCursor());
+        Assertions.assertEquals(aCategory.getId(), actualPage.items().get(0).id());
+        Assertions.assertEquals("Da semana", actualPage.items().get(0).description());
+        Assertions.assertEquals(aCategory.getDeletedAt(), actualPage.items().get(0).deletedAt());
+    }
+}
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.application.category.update;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class UpdateCategoryUseCaseTest {
+
+    @Test
+    public void givenAPatchOfTheDescription_whenCallsUpdateCategory_thenShouldKeepTheOtherFieldsAndWriteOnlyThatChange() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", "A categoria mais assistida", true), 3);
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue()).withDescription(null).withVersion(3);
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.update(any())).thenAnswer(invocation -> Category.with(invocation.<Category>getArgument(0), 4));
+
+        final var actualOutput = new DefaultUpdateCategoryUseCase(categoryGateway).execute(aCommand).get();
+
+        Assertions.assertEquals(aCategory.getId(), actualOutput.id());
+        Assertions.assertEquals(4, actualOutput.version());
+        Mockito.verify(categoryGateway, times(1))
+            .update(argThat(anUpdated ->
+                Objects.equals("Filmes", anUpdated.getName())
+                    && anUpdated.getDescription() == null
+                    && anUpdated.getIsActive()
+                    && anUpdated.getVersion() == 3
+                    && anUpdated.getChangedFields().equals(Set.of(CategoryField.DESCRIPTION))
+            ));
+    }
+
+    @Test
+    public void givenAPatchWithTheStoredValues_whenCallsUpdateCategory_thenShouldNotCallTheGatewayUpdate() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", null, true), 7);
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue(), "Filmes", null, true);
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Optional.of(Category.with(aCategory)));
+
+        final var actualOutput = new DefaultUpdateCategoryUseCase(categoryGateway).execute(aCommand).get();
+
+        Assertions.assertEquals(7, actualOutput.version());
+        Mockito.verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsUpdateCategory_thenShouldReturnNotificationWithoutCallingGateway() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue()).withName(" ");
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Optional.of(Category.with(aCategory)));
+
+        final var notification = new DefaultUpdateCategoryUseCase(categoryGateway).execute(aCommand).getLeft();
+
+        Assertions.assertEquals("'name' should not be empty", notification.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAStaleOrUnknownCategory_whenCallsUpdateCategory_thenShouldThrowWithoutCallingGateway() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", null, true), 2);
+        final var aStaleCommand = UpdateCategoryCommand.with(aCategory.getId().getValue()).withName("Series").withVersion(1);
+        final var anUnknownCommand = UpdateCategoryCommand.with("0190a4b2-7c3e-7000-8000-000000000000").withName("Series");
+
+        final CategoryGateway categoryGateway = mock(CategoryGateway.class);
+        when(categoryGateway.findById(any())).thenReturn(Optional.empty());
+        when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Optional.of(Category.with(aCategory)));
+        final var useCase = new DefaultUpdateCategoryUseCase(categoryGateway);
+
+        final var conflict = Assertions.assertThrows(VersionConflictException.class, () -> useCase.execute(aStaleCommand));
+        Assertions.assertEquals(1, conflict.getExpectedVersion());
+        Assertions.assertEquals(2, conflict.getActualVersion());
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(anUnknownCommand));
+        Mockito.verify(categoryGateway, never()).update(any());
+    }
+}
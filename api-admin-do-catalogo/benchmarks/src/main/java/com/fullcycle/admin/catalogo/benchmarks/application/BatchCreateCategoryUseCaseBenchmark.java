@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.benchmarks.application;
+
+import com.fullcycle.admin.catalogo.application.category.create.BatchCreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultBatchCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(BatchCreateCategoryUseCaseBenchmark.BATCH_SIZE)
+public class BatchCreateCategoryUseCaseBenchmark {
+    static final int BATCH_SIZE = 1_000;
+
+    private DefaultCreateCategoryUseCase createUseCase;
+    private DefaultBatchCreateCategoryUseCase batchUseCase;
+    private List<CreateCategoryCommand> commands;
+
+    @Setup
+    public void setup() {
+        final var gateway = new StubCategoryGateway();
+        this.createUseCase = new DefaultCreateCategoryUseCase(gateway);
+        this.batchUseCase = new DefaultBatchCreateCategoryUseCase(gateway);
+        this.commands = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            // one invalid command out of ten
+            final var aName = i % 10 == 0 ? null : "Categoria " + i;
+            this.commands.add(CreateCategoryCommand.with(aName, "Descricao " + i, true));
+        }
+    }
+
+    @Benchmark
+    public List<BatchCreateCategoryOutput> batchCreate() {
+        return this.batchUseCase.execute(this.commands);
+    }
+
+    @Benchmark
+    public List<Either<Notification, CreateCategoryOutput>> createOneByOne() {
+        final var outputs = new ArrayList<Either<Notification, CreateCategoryOutput>>(this.commands.size());
+        for (final var aCommand : this.commands) {
+            outputs.add(this.createUseCase.execute(aCommand));
+        }
+        return outputs;
+    }
+}
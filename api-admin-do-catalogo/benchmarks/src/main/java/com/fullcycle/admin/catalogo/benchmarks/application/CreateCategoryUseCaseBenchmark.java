@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.benchmarks.application;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateCategoryUseCaseBenchmark {
+
+    private DefaultCreateCategoryUseCase useCase;
+    private CreateCategoryCommand validCommand;
+    private CreateCategoryCommand invalidCommand;
+
+    @Setup
+    public void setup() {
+        this.useCase = new DefaultCreateCategoryUseCase(new StubCategoryGateway());
+        this.validCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+        this.invalidCommand = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeValidCommand() {
+        return this.useCase.execute(this.validCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeInvalidCommand() {
+        return this.useCase.execute(this.invalidCommand);
+    }
+}
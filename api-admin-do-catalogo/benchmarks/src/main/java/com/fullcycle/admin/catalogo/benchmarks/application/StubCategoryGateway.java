@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.benchmarks.application;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+class StubCategoryGateway implements CategoryGateway {
+
+    @Override
+    public Category create(final Category aCategory) {
+        return aCategory;
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return aCategory;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+    }
+
+    @Override
+    public List<CategoryID> purgeDeletedBefore(final Instant anInstant, final int aLimit) {
+        return List.of();
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+    }
+}
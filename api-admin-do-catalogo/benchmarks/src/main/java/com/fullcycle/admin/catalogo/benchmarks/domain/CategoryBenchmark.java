@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.benchmarks.domain;
+
+import com.fullcycle.admin.catalogo.domain.Validation.handler.ThrowsValidationHandler;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryBenchmark {
+
+    private Category validCategory;
+    private ThrowsValidationHandler handler;
+
+    @Setup
+    public void setup() {
+        this.validCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.handler = new ThrowsValidationHandler();
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Category newInactiveCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", false);
+    }
+
+    @Benchmark
+    public Category validateValidCategory() {
+        new CategoryValidator(this.validCategory, this.handler).validate();
+        return this.validCategory;
+    }
+}
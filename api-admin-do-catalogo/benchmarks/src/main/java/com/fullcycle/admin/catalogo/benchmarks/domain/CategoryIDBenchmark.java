@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.benchmarks.domain;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryIDBenchmark {
+
+    private String serializedId;
+    private CategoryID anId;
+    private CategoryID sameId;
+
+    @Setup
+    public void setup() {
+        this.anId = CategoryID.unique();
+        this.serializedId = this.anId.getValue();
+        this.sameId = CategoryID.from(this.serializedId);
+    }
+
+    @Benchmark
+    public CategoryID unique() {
+        return CategoryID.unique();
+    }
+
+    @Benchmark
+    public CategoryID fromString() {
+        return CategoryID.from(this.serializedId);
+    }
+
+    @Benchmark
+    public String getValue() {
+        return this.anId.getValue();
+    }
+
+    @Benchmark
+    public boolean equalsAndHashCode() {
+        return this.anId.hashCode() == this.sameId.hashCode() && this.anId.equals(this.sameId);
+    }
+}
@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.benchmarks.domain;
+
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationBenchmark {
+
+    private Category validCategory;
+    private Category nullName;
+    private Category blankName;
+    private Category shortName;
+
+    @Setup
+    public void setup() {
+        this.validCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.nullName = Category.newCategory(null, "A categoria mais assistida", true);
+        this.blankName = Category.newCategory("   ", "A categoria mais assistida", true);
+        this.shortName = Category.newCategory("Fi ", "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Notification validName() {
+        return validate(this.validCategory);
+    }
+
+    @Benchmark
+    public Notification nullName() {
+        return validate(this.nullName);
+    }
+
+    @Benchmark
+    public Notification blankName() {
+        return validate(this.blankName);
+    }
+
+    @Benchmark
+    public Notification invalidNameLength() {
+        return validate(this.shortName);
+    }
+
+    private Notification validate(final Category aCategory) {
+        final var notification = Notification.create();
+        aCategory.validate(notification);
+        return notification;
+    }
+}
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.benchmarks.domain;
+
+import com.fullcycle.admin.catalogo.domain.Validation.handler.ThrowsValidationHandler;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThrowsValidationHandlerBenchmark {
+
+    private Category nullName;
+    private Category blankName;
+    private Category shortName;
+    private ThrowsValidationHandler handler;
+
+    @Setup
+    public void setup() {
+        this.nullName = Category.newCategory(null, "A categoria mais assistida", true);
+        this.blankName = Category.newCategory("   ", "A categoria mais assistida", true);
+        this.shortName = Category.newCategory("Fi ", "A categoria mais assistida", true);
+        this.handler = new ThrowsValidationHandler();
+    }
+
+    @Benchmark
+    public Object nullName() {
+        return validate(this.nullName);
+    }
+
+    @Benchmark
+    public Object blankName() {
+        return validate(this.blankName);
+    }
+
+    @Benchmark
+    public Object invalidNameLength() {
+        return validate(this.shortName);
+    }
+
+    private Object validate(final Category aCategory) {
+        try {
+            aCategory.validate(this.handler);
+            return aCategory;
+        } catch (final DomainException ex) {
+            return ex.getErrors();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.benchmarks.infrastructure;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryCodecBenchmark {
+
+    private Category category;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setup() {
+        this.category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.buffer = ByteBuffer.allocate(256);
+        this.encoded = CategoryCodec.encode(this.category);
+    }
+
+    @Benchmark
+    public int encode() {
+        this.buffer.clear();
+        CategoryCodec.encode(this.category, this.buffer);
+        return this.buffer.position();
+    }
+
+    @Benchmark
+    public Category decode() {
+        return CategoryCodec.decode(this.encoded.duplicate());
+    }
+
+    @Benchmark
+    public CategoryID viewId() {
+        return CategoryCodec.view(this.encoded).id();
+    }
+}
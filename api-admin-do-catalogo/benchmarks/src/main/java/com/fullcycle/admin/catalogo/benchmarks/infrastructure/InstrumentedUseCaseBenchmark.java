@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.benchmarks.infrastructure;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.metrics.MetricsRegistry;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class InstrumentedUseCaseBenchmark {
+
+    private UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> plain;
+    private UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> instrumented;
+    private CreateCategoryCommand invalidCommand;
+
+    @Setup
+    public void setup() {
+        // invalid commands never reach the gateway, so only the wrapper cost differs
+        this.plain = new DefaultCreateCategoryUseCase(new InMemoryCategoryGateway());
+        this.instrumented = new MetricsRegistry().instrument("CreateCategory", this.plain, Either::isLeft);
+        this.invalidCommand = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> plain() {
+        return this.plain.execute(this.invalidCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> instrumented() {
+        return this.instrumented.execute(this.invalidCommand);
+    }
+}
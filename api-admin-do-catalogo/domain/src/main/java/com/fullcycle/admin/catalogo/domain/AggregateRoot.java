@@ -1,7 +1,56 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
+    private final long version;
+    private List<DomainEvent> domainEvents;
+
     protected AggregateRoot(final ID id) {
+        this(id, 0);
+    }
+
+    protected AggregateRoot(final ID id, final long version) {
         super(id);
+        if (version < 0) {
+            throw new IllegalArgumentException("'version' should not be negative");
+        }
+        this.version = version;
+    }
+
+    /**
+     * Version of the stored state this instance was read from, 0 until first
+     * stored. Gateways accept an update only when it still matches the stored
+     * version, and store the result as the next one.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return domainEvents == null ? List.of() : Collections.unmodifiableList(domainEvents);
+    }
+
+    /**
+     * Returns the recorded events and forgets them, so they are published once.
+     */
+    public List<DomainEvent> pullDomainEvents() {
+        if (domainEvents == null) {
+            return List.of();
+        }
+        final var events = domainEvents;
+        domainEvents = null;
+        return events;
+    }
+
+    protected void registerEvent(final DomainEvent anEvent) {
+        if (domainEvents == null) {
+            domainEvents = new ArrayList<>(2);
+        }
+        domainEvents.add(anEvent);
     }
 }
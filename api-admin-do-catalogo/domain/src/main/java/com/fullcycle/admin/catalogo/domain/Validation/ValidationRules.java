@@ -0,0 +1,145 @@
+package com.fullcycle.admin.catalogo.domain.Validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Field rules for one entity type, declared once and compiled into a flat array
+ * of checks:
+ *
+ * <pre>{@code
+ * ValidationRules.<Category>builder()
+ *     .field("name", Category::getName).notNull().notBlank().trimmedLength(3, 255)
+ *     .build();
+ * }</pre>
+ *
+ * Rules of a field run in the order they were declared and the first failing one
+ * stops the others of that field, so {@code notNull} guards the ones after it.
+ * Every error is built when the rules are compiled; checking a valid entity
+ * doesn't allocate.
+ */
+public final class ValidationRules<T> {
+    private final Check<T>[] checks;
+
+    private ValidationRules(final Check<T>[] aChecks) {
+        this.checks = aChecks;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public void validate(final T aTarget, final ValidationHandler aHandler) {
+        int failedField = -1;
+        for (final var check : this.checks) {
+            if (check.field() == failedField) {
+                continue;
+            }
+            if (!check.passes().test(aTarget)) {
+                aHandler.append(check.error());
+                failedField = check.field();
+            }
+        }
+    }
+
+    public int size() {
+        return this.checks.length;
+    }
+
+    private record Check<T>(int field, Predicate<T> passes, Error error) {
+    }
+
+    public static final class Builder<T> {
+        private final List<Check<T>> checks;
+        private int fields;
+
+        private Builder() {
+            this.checks = new ArrayList<>();
+        }
+
+        public StringField<T> field(final String aName, final Function<T, String> anAccessor) {
+            return new StringField<>(this, this.fields++, Objects.requireNonNull(aName), Objects.requireNonNull(anAccessor));
+        }
+
+        @SuppressWarnings("unchecked")
+        public ValidationRules<T> build() {
+            return new ValidationRules<>(this.checks.toArray(Check[]::new));
+        }
+
+        private void add(final int aField, final Predicate<T> aPasses, final String aMessage) {
+            this.checks.add(new Check<>(aField, aPasses, new Error(aMessage)));
+        }
+    }
+
+    public static final class StringField<T> {
+        private final Builder<T> builder;
+        private final int index;
+        private final String name;
+        private final Function<T, String> accessor;
+
+        private StringField(final Builder<T> aBuilder, final int anIndex, final String aName, final Function<T, String> anAccessor) {
+            this.builder = aBuilder;
+            this.index = anIndex;
+            this.name = aName;
+            this.accessor = anAccessor;
+        }
+
+        public StringField<T> notNull() {
+            return rule(value -> value != null, "'%s' should not be null".formatted(this.name));
+        }
+
+        public StringField<T> notBlank() {
+            return rule(value -> value == null || !value.isBlank(), "'%s' should not be empty".formatted(this.name));
+        }
+
+        /**
+         * Length once leading and trailing control characters and spaces are
+         * left out, the same as {@link String#trim()} but without the copy.
+         */
+        public StringField<T> trimmedLength(final int aMin, final int aMax) {
+            return rule(
+                value -> {
+                    if (value == null) {
+                        return true;
+                    }
+                    final int length = trimmedLengthOf(value);
+                    return length >= aMin && length <= aMax;
+                },
+                "'%s' must be between %d and %d characters".formatted(this.name, aMin, aMax)
+            );
+        }
+
+        public StringField<T> maxLength(final int aMax) {
+            return rule(value -> value == null || value.length() <= aMax, "'%s' must have at most %d characters".formatted(this.name, aMax));
+        }
+
+        public StringField<T> field(final String aName, final Function<T, String> anAccessor) {
+            return this.builder.field(aName, anAccessor);
+        }
+
+        public ValidationRules<T> build() {
+            return this.builder.build();
+        }
+
+        private StringField<T> rule(final Predicate<String> aPasses, final String aMessage) {
+            final var anAccessor = this.accessor;
+            this.builder.add(this.index, target -> aPasses.test(anAccessor.apply(target)), aMessage);
+            return this;
+        }
+
+        static int trimmedLengthOf(final String aValue) {
+            int start = 0;
+            int end = aValue.length();
+            while (start < end && aValue.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && aValue.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            return end - start;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.domain.Validation.handler;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.Validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Notification implements ValidationHandler {
+    private List<Error> errors;
+
+    private Notification() {
+    }
+
+    public static Notification create() {
+        return new Notification();
+    }
+
+    public static Notification create(final Error anError) {
+        return new Notification().append(anError);
+    }
+
+    public static Notification create(final Throwable t) {
+        return create(new Error(t.getMessage()));
+    }
+
+    @Override
+    public Notification append(final Error anError) {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>(2);
+        }
+        this.errors.add(anError);
+        return this;
+    }
+
+    @Override
+    public Notification append(final ValidationHandler aHandler) {
+        for (final var anError : aHandler.getErrors()) {
+            append(anError);
+        }
+        return this;
+    }
+
+    @Override
+    public Notification validate(final Validation aValidation) {
+        try {
+            aValidation.validate();
+        } catch (final DomainException ex) {
+            for (final var anError : ex.getErrors()) {
+                append(anError);
+            }
+        } catch (final Throwable t) {
+            append(new Error(t.getMessage()));
+        }
+        return this;
+    }
+
+    @Override
+    public boolean hasError() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    @Override
+    public List<Error> getErrors() {
+        return this.errors == null ? List.of() : this.errors;
+    }
+}
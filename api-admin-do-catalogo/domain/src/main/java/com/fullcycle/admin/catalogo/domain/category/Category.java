@@ -2,9 +2,15 @@ package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.AggregateRoot;
 import com.fullcycle.admin.catalogo.domain.Validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
 
 import java.time.Instant;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 public class Category extends AggregateRoot<CategoryID> {
     private String name;
@@ -13,6 +19,7 @@ public class Category extends AggregateRoot<CategoryID> {
     private final Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private final Set<CategoryField> changedFields;
 
     private Category(
         final CategoryID anId,
@@ -21,15 +28,17 @@ public class Category extends AggregateRoot<CategoryID> {
         final boolean isActive,
         final Instant aCreationDate,
         final Instant aUpdateDate,
-        final Instant aDeleteDate
+        final Instant aDeleteDate,
+        final long aVersion
     ) {
-        super(anId);
+        super(anId, aVersion);
         this.name = aName;
         this.description = aDescription;
         this.active = isActive;
         this.createdAt = aCreationDate;
         this.updatedAt = aUpdateDate;
         this.deletedAt = aDeleteDate;
+        this.changedFields = EnumSet.noneOf(CategoryField.class);
     }
 
     public static Category newCategory(
@@ -41,7 +50,55 @@ public class Category extends AggregateRoot<CategoryID> {
         final var now = Instant.now();
         final var deletedAt = aIsActive ? null : Instant.now();
 
-        return new Category(id, aName, aDescription, aIsActive, now, now, deletedAt);
+        final var category = new Category(id, aName, aDescription, aIsActive, now, now, deletedAt, 0);
+        category.registerEvent(CategoryCreated.from(category));
+        return category;
+    }
+
+    public static Category with(
+        final CategoryID anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive,
+        final Instant aCreationDate,
+        final Instant aUpdateDate,
+        final Instant aDeleteDate
+    ) {
+        return with(anId, aName, aDescription, isActive, aCreationDate, aUpdateDate, aDeleteDate, 0);
+    }
+
+    public static Category with(
+        final CategoryID anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive,
+        final Instant aCreationDate,
+        final Instant aUpdateDate,
+        final Instant aDeleteDate,
+        final long aVersion
+    ) {
+        return new Category(anId, aName, aDescription, isActive, aCreationDate, aUpdateDate, aDeleteDate, aVersion);
+    }
+
+    public static Category with(final Category aCategory) {
+        return with(aCategory, aCategory.getVersion());
+    }
+
+    /**
+     * Copy of the category's state labelled with another version, as gateways
+     * store it after a successful update.
+     */
+    public static Category with(final Category aCategory, final long aVersion) {
+        return with(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.getIsActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getUpdatedAt(),
+            aCategory.getDeletedAt(),
+            aVersion
+        );
     }
 
     @Override
@@ -50,33 +107,103 @@ public class Category extends AggregateRoot<CategoryID> {
     }
 
     public Category deactivate() {
-        if(getDeletedAt() == null) {
-            this.deletedAt = Instant.now();
+        if (!this.active) {
+            return this;
         }
-        this.active = false;
-        this.updatedAt = Instant.now();
+        this.changedFields.add(CategoryField.ACTIVE);
+        applyDeactivation();
+        registerEvent(CategoryDeactivated.from(this));
         return this;
     }
 
     public Category activate() {
-        this.deletedAt = null;
-        this.active = true;
-        this.updatedAt = Instant.now();
+        if (this.active) {
+            return this;
+        }
+        this.changedFields.add(CategoryField.ACTIVE);
+        applyActivation();
+        registerEvent(CategoryUpdated.from(this));
         return this;
     }
 
+    /**
+     * Sets every field at once. Only the fields whose value differs are
+     * recorded as changed; when none does, the category is left untouched.
+     */
     public Category update(final String aName, final String aDescription, final boolean isActive) {
-        this.name = aName;
-        this.description = aDescription;
+        final var wasActive = this.active;
+        boolean changed = false;
+        if (!Objects.equals(this.name, aName)) {
+            this.name = aName;
+            this.changedFields.add(CategoryField.NAME);
+            changed = true;
+        }
+        if (!Objects.equals(this.description, aDescription)) {
+            this.description = aDescription;
+            this.changedFields.add(CategoryField.DESCRIPTION);
+            changed = true;
+        }
+        if (wasActive != isActive) {
+            this.changedFields.add(CategoryField.ACTIVE);
+            changed = true;
+            if (isActive) {
+                applyActivation();
+            } else {
+                applyDeactivation();
+            }
+        }
+        if (!changed) {
+            return this;
+        }
+
         this.updatedAt = Instant.now();
-        if(isActive) {
-            this.activate();
-        } else {
-            this.deactivate();
+        registerEvent(CategoryUpdated.from(this));
+        if (wasActive && !isActive) {
+            registerEvent(CategoryDeactivated.from(this));
         }
         return this;
     }
 
+    /**
+     * Returns the recorded events, labelled with the version the gateway
+     * stored this category under, and forgets them.
+     */
+    public List<DomainEvent> pullDomainEvents(final long aStoredVersion) {
+        final var events = pullDomainEvents();
+        final var labelled = new ArrayList<DomainEvent>(events.size());
+        for (final var anEvent : events) {
+            labelled.add(anEvent instanceof CategoryEvent aCategoryEvent ? aCategoryEvent.withVersion(aStoredVersion) : anEvent);
+        }
+        return labelled;
+    }
+
+    /**
+     * Fields changed on this instance since it was created or copied. Copies
+     * made with {@link #with(Category)} start with none, so gateways treat an
+     * empty set as "unknown" and store such categories whole.
+     */
+    public Set<CategoryField> getChangedFields() {
+        return Collections.unmodifiableSet(this.changedFields);
+    }
+
+    public boolean hasChanges() {
+        return !this.changedFields.isEmpty();
+    }
+
+    private void applyDeactivation() {
+        if(getDeletedAt() == null) {
+            this.deletedAt = Instant.now();
+        }
+        this.active = false;
+        this.updatedAt = Instant.now();
+    }
+
+    private void applyActivation() {
+        this.deletedAt = null;
+        this.active = true;
+        this.updatedAt = Instant.now();
+    }
+
     public CategoryID getId() {
         return id;
     }
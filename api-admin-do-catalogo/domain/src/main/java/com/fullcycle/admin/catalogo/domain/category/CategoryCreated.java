@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryCreated(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant occurredOn,
+    long version
+) implements CategoryEvent {
+
+    public static CategoryCreated from(final Category aCategory) {
+        return new CategoryCreated(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.getIsActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getVersion()
+        );
+    }
+
+    @Override
+    public CategoryCreated withVersion(final long aVersion) {
+        return new CategoryCreated(id, name, description, isActive, occurredOn, aVersion);
+    }
+}
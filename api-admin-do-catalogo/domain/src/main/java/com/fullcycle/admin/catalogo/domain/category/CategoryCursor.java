@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last item of a keyset page: the sort field, that item's sort
+ * key and its id as tie breaker. Clients only see the opaque encoded form.
+ */
+public record CategoryCursor(
+    String sort,
+    String key,
+    CategoryID id
+) {
+    private static final char SEPARATOR = '|';
+
+    public CategoryCursor {
+        Objects.requireNonNull(sort);
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(id);
+    }
+
+    public static CategoryCursor of(final String aSort, final String aKey, final CategoryID anId) {
+        return new CategoryCursor(aSort, aKey, anId);
+    }
+
+    public static CategoryCursor decode(final String aCursor) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException ex) {
+            throw invalid();
+        }
+
+        final int sortEnd = decoded.indexOf(SEPARATOR);
+        final int idEnd = sortEnd < 0 ? -1 : decoded.indexOf(SEPARATOR, sortEnd + 1);
+        if (idEnd < 0) {
+            throw invalid();
+        }
+
+        final CategoryID anId;
+        try {
+            anId = CategoryID.from(decoded.substring(sortEnd + 1, idEnd));
+        } catch (final DomainException ex) {
+            throw invalid();
+        }
+
+        return new CategoryCursor(decoded.substring(0, sortEnd), decoded.substring(idEnd + 1), anId);
+    }
+
+    public String encode() {
+        final var raw = sort + SEPARATOR + id.getValue() + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryDeactivated(
+    CategoryID id,
+    Instant occurredOn,
+    long version
+) implements CategoryEvent {
+
+    public static CategoryDeactivated from(final Category aCategory) {
+        return new CategoryDeactivated(aCategory.getId(), aCategory.getDeletedAt(), aCategory.getVersion());
+    }
+
+    @Override
+    public CategoryDeactivated withVersion(final long aVersion) {
+        return new CategoryDeactivated(id, occurredOn, aVersion);
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Published by gateways when a category is removed for good, by a delete or a
+ * purge, with the last version it was stored under. Aggregates don't record it
+ * since nothing is left to change.
+ */
+public record CategoryDeleted(
+    CategoryID id,
+    Instant occurredOn,
+    long version
+) implements CategoryEvent {
+
+    public static CategoryDeleted with(final CategoryID anId, final long aVersion) {
+        return new CategoryDeleted(anId, Instant.now(), aVersion);
+    }
+
+    @Override
+    public CategoryDeleted withVersion(final long aVersion) {
+        return new CategoryDeleted(id, occurredOn, aVersion);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+/**
+ * Event about a single category. Gateways label it with the version the write
+ * that published it stored, so subscribers receiving events out of order can
+ * drop those older than, or as old as, what they already applied.
+ */
+public interface CategoryEvent extends DomainEvent {
+    CategoryID id();
+
+    long version();
+
+    CategoryEvent withVersion(long aVersion);
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+/**
+ * Fields of a {@link Category} that an update can change. Changing
+ * {@link #ACTIVE} also sets or clears the deletion time; any change moves the
+ * update time.
+ */
+public enum CategoryField {
+    NAME,
+    DESCRIPTION,
+    ACTIVE
+}
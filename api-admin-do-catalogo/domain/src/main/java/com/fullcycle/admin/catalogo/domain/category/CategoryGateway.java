@@ -2,16 +2,58 @@ package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface CategoryGateway {
     Category create(Category aCategory);
 
+    default List<Category> createAll(final List<Category> aCategories) {
+        final var created = new ArrayList<Category>(aCategories.size());
+        for (final var aCategory : aCategories) {
+            created.add(create(aCategory));
+        }
+        return created;
+    }
+
+    /**
+     * Stores the category only if the stored one still has the category's
+     * version, and returns it with the next version. Throws
+     * {@link com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException}
+     * when it changed in between, and
+     * {@link com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException}
+     * when it is gone.
+     */
     Category update(Category aCategory);
 
-    Optional<Category> findById(Category aCategory);
+    Optional<Category> findById(CategoryID anId);
 
     void deleteById(CategoryID anId);
 
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    /**
+     * Permanently removes up to {@code aLimit} deactivated categories whose
+     * {@code deletedAt} is before the given instant and returns their ids.
+     * Call it again while it returns {@code aLimit} ids. Stores should find
+     * them through an ordering on {@code deletedAt} rather than by scanning
+     * every deactivated category.
+     */
+    List<CategoryID> purgeDeletedBefore(Instant anInstant, int aLimit);
+
+    /**
+     * Lazily streams every category matching the query's terms, in its sort
+     * order, fetching {@code perPage} categories at a time. Close the stream
+     * to release whatever the gateway holds for it.
+     */
+    default Stream<Category> streamAll(final CategorySearchQuery aQuery) {
+        if (aQuery.perPage() <= 0) {
+            throw new IllegalArgumentException("'perPage' must be greater than 0");
+        }
+        return StreamSupport.stream(new KeysetCategorySpliterator(this, aQuery), false);
+    }
 }
@@ -1,32 +1,83 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class CategoryID extends Identifier {
-    private final String value;
+/**
+ * UUID backed by its two halves. New IDs follow the UUIDv7 layout (48-bit unix
+ * millis, 12-bit sequence, 62 random bits), so they sort by creation time.
+ */
+public class CategoryID extends Identifier implements Comparable<CategoryID> {
+    private static final int UUID_LENGTH = 36;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
 
-    private CategoryID(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    // Last issued (unix millis << 12 | sequence), kept monotonic across threads
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private String value;
+
+    private CategoryID(final long mostSigBits, final long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        final var random = ThreadLocalRandom.current();
+        final long timestamp = nextTimestamp(random);
+        final long msb = (timestamp >>> 12) << 16 | 0x7000L | (timestamp & 0xFFFL);
+        final long lsb = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new CategoryID(msb, lsb);
     }
 
     public static CategoryID from(final String anId) {
-        return new CategoryID(anId);
+        Objects.requireNonNull(anId);
+        if (anId.length() != UUID_LENGTH
+            || anId.charAt(8) != '-'
+            || anId.charAt(13) != '-'
+            || anId.charAt(18) != '-'
+            || anId.charAt(23) != '-') {
+            throw invalid();
+        }
+
+        final long msb = parseHex(anId, 0, 8) << 32 | parseHex(anId, 9, 13) << 16 | parseHex(anId, 14, 18);
+        final long lsb = parseHex(anId, 19, 23) << 48 | parseHex(anId, 24, 36);
+        return new CategoryID(msb, lsb);
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
+        return new CategoryID(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
     }
 
     public String getValue() {
-        return value;
+        var aValue = this.value;
+        if (aValue == null) {
+            aValue = format(this.mostSigBits, this.leastSigBits);
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    public long getMostSignificantBits() {
+        return mostSigBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSigBits;
+    }
+
+    @Override
+    public int compareTo(final CategoryID anotherId) {
+        final int comparison = Long.compareUnsigned(this.mostSigBits, anotherId.mostSigBits);
+        return comparison != 0 ? comparison : Long.compareUnsigned(this.leastSigBits, anotherId.leastSigBits);
     }
 
     @Override
@@ -34,11 +85,59 @@ public class CategoryID extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CategoryID that = (CategoryID) o;
-        return Objects.equals(getValue(), that.getValue());
+        return mostSigBits == that.mostSigBits && leastSigBits == that.leastSigBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getValue());
+        return Long.hashCode(mostSigBits ^ leastSigBits);
+    }
+
+    private static long nextTimestamp(final ThreadLocalRandom random) {
+        while (true) {
+            final long last = LAST_TIMESTAMP.get();
+            final long now = System.currentTimeMillis() << 12;
+            // A new millisecond starts at a random sequence in the lower half, leaving room to increment
+            final long next = now > last ? now | random.nextInt(0x800) : last + 1;
+            if (LAST_TIMESTAMP.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static long parseHex(final String anId, final int from, final int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = Character.digit(anId.charAt(i), 16);
+            if (digit < 0) {
+                throw invalid();
+            }
+            result = result << 4 | digit;
+        }
+        return result;
+    }
+
+    private static String format(final long msb, final long lsb) {
+        final var bytes = new byte[UUID_LENGTH];
+        writeHex(bytes, 0, msb >>> 32, 8);
+        bytes[8] = '-';
+        writeHex(bytes, 9, msb >>> 16, 4);
+        bytes[13] = '-';
+        writeHex(bytes, 14, msb, 4);
+        bytes[18] = '-';
+        writeHex(bytes, 19, lsb >>> 48, 4);
+        bytes[23] = '-';
+        writeHex(bytes, 24, lsb, 12);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static void writeHex(final byte[] bytes, final int offset, final long bits, final int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            bytes[offset + digits - 1 - i] = HEX_DIGITS[(int) (bits >>> (i * 4)) & 0xF];
+        }
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'id' should be a valid UUID"));
     }
 }
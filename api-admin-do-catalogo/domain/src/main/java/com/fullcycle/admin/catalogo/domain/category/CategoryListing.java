@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Flat, read-only view of a category as listings show it, kept apart from the
+ * aggregate and updated from its events.
+ */
+public record CategoryListing(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt
+) {
+
+    public static CategoryListing from(final Category aCategory) {
+        return new CategoryListing(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.getIsActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getUpdatedAt(),
+            aCategory.getDeletedAt()
+        );
+    }
+}
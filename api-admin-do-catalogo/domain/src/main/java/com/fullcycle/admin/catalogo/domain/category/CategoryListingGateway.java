@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+/**
+ * Read side of the category listings. It follows the writes made through
+ * {@link CategoryGateway} with some delay, and answers the same queries with
+ * the same ordering and cursors.
+ */
+public interface CategoryListingGateway {
+    Pagination<CategoryListing> findAll(CategorySearchQuery aQuery);
+}
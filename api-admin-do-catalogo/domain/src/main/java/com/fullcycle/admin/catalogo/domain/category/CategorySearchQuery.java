@@ -1,9 +1,51 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
+/**
+ * Page request over categories. {@code active} narrows the result to active
+ * (true) or deactivated (false) categories; null matches both.
+ */
 public record CategorySearchQuery(
     int page,
     int perPage,
     String terms,
     String sort,
-    String direction
-) {}
+    String direction,
+    String cursor,
+    Boolean active
+) {
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, null);
+    }
+
+    /**
+     * Keyset query returning the page right after the given cursor. A null or
+     * empty cursor starts from the first item.
+     */
+    public static CategorySearchQuery after(
+        final String aCursor,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction
+    ) {
+        return new CategorySearchQuery(0, perPage, terms, sort, direction, aCursor == null ? "" : aCursor, null);
+    }
+
+    public CategorySearchQuery withActive(final Boolean isActive) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, isActive);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    public boolean matches(final Category aCategory) {
+        return active == null || active == aCategory.getIsActive();
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryUpdated(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant occurredOn,
+    long version
+) implements CategoryEvent {
+
+    public static CategoryUpdated from(final Category aCategory) {
+        return new CategoryUpdated(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.getIsActive(),
+            aCategory.getUpdatedAt(),
+            aCategory.getVersion()
+        );
+    }
+
+    @Override
+    public CategoryUpdated withVersion(final long aVersion) {
+        return new CategoryUpdated(id, name, description, isActive, occurredOn, aVersion);
+    }
+}
@@ -1,12 +1,17 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
-import com.fullcycle.admin.catalogo.domain.Validation.Error;
 import com.fullcycle.admin.catalogo.domain.Validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.Validation.ValidationRules;
 import com.fullcycle.admin.catalogo.domain.Validation.Validator;
 
 public class CategoryValidator extends Validator {
     public static final int NAME_MAX_LENGTH = 255;
     public static final int NAME_MIN_LENGTH = 3;
+
+    private static final ValidationRules<Category> RULES = ValidationRules.<Category>builder()
+        .field("name", Category::getName).notNull().notBlank().trimmedLength(NAME_MIN_LENGTH, NAME_MAX_LENGTH)
+        .build();
+
     private final Category category;
 
     public CategoryValidator(
@@ -19,26 +24,6 @@ public class CategoryValidator extends Validator {
 
     @Override
     public void validate() {
-        checkNameConstraints();
-    }
-
-    private void checkNameConstraints() {
-        final var name = this.category.getName();
-        if(name == null) {
-            this.validationHandler().append(new Error("'name' should not be null"));
-            return;
-        }
-
-        if(name.isBlank()) {
-            this.validationHandler().append(new Error("'name' should not be empty"));
-            return;
-        }
-
-        final int length = name.trim().length();
-        if(length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH) {
-            this.validationHandler().append(
-                new Error("'name' must be between 3 and 255 characters")
-            );
-        }
+        RULES.validate(this.category, this.validationHandler());
     }
 }
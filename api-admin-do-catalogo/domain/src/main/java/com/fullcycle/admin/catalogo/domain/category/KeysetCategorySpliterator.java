@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Walks a gateway one keyset page at a time, so only the current page is held
+ * in memory however large the catalog is.
+ */
+class KeysetCategorySpliterator extends Spliterators.AbstractSpliterator<Category> {
+    private final CategoryGateway gateway;
+    private final CategorySearchQuery query;
+    private Iterator<Category> page;
+    private String cursor;
+    private boolean lastPage;
+
+    KeysetCategorySpliterator(final CategoryGateway aGateway, final CategorySearchQuery aQuery) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.gateway = aGateway;
+        this.query = aQuery;
+        this.page = List.<Category>of().iterator();
+        this.cursor = "";
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Category> anAction) {
+        while (!this.page.hasNext()) {
+            if (this.lastPage) {
+                return false;
+            }
+            final var next = this.gateway.findAll(CategorySearchQuery.after(
+                this.cursor,
+                this.query.perPage(),
+                this.query.terms(),
+                this.query.sort(),
+                this.query.direction()
+            ).withActive(this.query.active()));
+            this.page = next.items().iterator();
+            this.cursor = next.nextCursor();
+            this.lastPage = !next.hasNext();
+        }
+        anAction.accept(this.page.next());
+        return true;
+    }
+}
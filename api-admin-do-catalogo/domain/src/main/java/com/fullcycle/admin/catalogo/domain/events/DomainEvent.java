@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.domain.events;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+    Instant occurredOn();
+}
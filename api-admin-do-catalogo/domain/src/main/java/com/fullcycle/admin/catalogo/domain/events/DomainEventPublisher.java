@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.domain.events;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface DomainEventPublisher {
+    void publish(DomainEvent anEvent);
+
+    default void publishAll(final List<? extends DomainEvent> anEvents) {
+        for (final var event : anEvents) {
+            publish(event);
+        }
+    }
+
+    static DomainEventPublisher noop() {
+        return anEvent -> {
+        };
+    }
+}
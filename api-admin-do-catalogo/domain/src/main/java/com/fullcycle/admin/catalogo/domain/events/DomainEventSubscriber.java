@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.domain.events;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface DomainEventSubscriber {
+    void onEvents(List<DomainEvent> anEvents);
+}
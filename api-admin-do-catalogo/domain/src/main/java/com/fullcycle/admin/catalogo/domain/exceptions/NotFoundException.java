@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+
+import java.util.List;
+
+public class NotFoundException extends DomainException {
+
+    protected NotFoundException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static NotFoundException with(
+        final Class<? extends AggregateRoot<?>> anAggregate,
+        final Identifier anId
+    ) {
+        final var anError = "%s with ID %s was not found".formatted(anAggregate.getSimpleName(), anId.getValue());
+        return new NotFoundException(anError, List.of(new Error(anError)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+
+import java.util.List;
+
+/**
+ * The aggregate was changed by someone else since it was read. Callers can
+ * read it again and retry, or report the conflict.
+ */
+public class VersionConflictException extends DomainException {
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    protected VersionConflictException(
+        final String aMessage,
+        final List<Error> anErrors,
+        final long anExpectedVersion,
+        final long anActualVersion
+    ) {
+        super(aMessage, anErrors);
+        this.expectedVersion = anExpectedVersion;
+        this.actualVersion = anActualVersion;
+    }
+
+    public static VersionConflictException with(final AggregateRoot<?> anAggregate, final long anActualVersion) {
+        final var anError = "%s with ID %s was modified concurrently: expected version %d but found %d".formatted(
+            anAggregate.getClass().getSimpleName(),
+            anAggregate.getId().getValue(),
+            anAggregate.getVersion(),
+            anActualVersion
+        );
+        return new VersionConflictException(anError, List.of(new Error(anError)), anAggregate.getVersion(), anActualVersion);
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
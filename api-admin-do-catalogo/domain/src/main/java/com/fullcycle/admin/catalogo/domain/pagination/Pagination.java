@@ -1,10 +1,42 @@
 package com.fullcycle.admin.catalogo.domain.pagination;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items
-) {}
+    List<T> items,
+    String nextCursor
+) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+        final int currentPage,
+        final int perPage,
+        final long total,
+        final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, null);
+    }
+
+    public static <T> Pagination<T> keyset(final int perPage, final List<T> items, final String nextCursor) {
+        return new Pagination<>(0, perPage, UNKNOWN_TOTAL, items, nextCursor);
+    }
+
+    public boolean hasTotal() {
+        return total != UNKNOWN_TOTAL;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> Pagination<R> map(final Function<? super T, ? extends R> aMapper) {
+        final var mapped = new ArrayList<R>(items.size());
+        items.forEach(anItem -> mapped.add(aMapper.apply(anItem)));
+        return new Pagination<>(currentPage, perPage, total, mapped, nextCursor);
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryCursor;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CategoryCursorTest {
+    @Test
+    public void givenACursor_whenCallEncodeAndDecode_thenShouldKeepSortKeyAndId() {
+        final var expectedSort = "name";
+        final var expectedKey = "Filmes | S\u00e9ries";
+        final var expectedId = CategoryID.unique();
+
+        final var encoded = CategoryCursor.of(expectedSort, expectedKey, expectedId).encode();
+        final var actualCursor = CategoryCursor.decode(encoded);
+
+        Assertions.assertEquals(expectedSort, actualCursor.sort());
+        Assertions.assertEquals(expectedKey, actualCursor.key());
+        Assertions.assertEquals(expectedId, actualCursor.id());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallDecode_thenShouldReceiveError() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var actualException = Assertions.assertThrows(
+            DomainException.class,
+            () -> CategoryCursor.decode("not a cursor")
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Assertions.assertThrows(DomainException.class, () -> CategoryCursor.decode("bmFtZXx4eHh8RmlsbWVz"));
+    }
+}
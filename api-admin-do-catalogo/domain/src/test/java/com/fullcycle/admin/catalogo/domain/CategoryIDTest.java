@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIDTest {
+    @Test
+    public void givenSequentialCalls_whenCallUnique_thenIdsShouldBeTimeOrderedVersion7Uuids() {
+        var previous = CategoryID.unique();
+        for (int i = 0; i < 10_000; i++) {
+            final var actualId = CategoryID.unique();
+            final var asUuid = UUID.fromString(actualId.getValue());
+
+            Assertions.assertEquals(7, asUuid.version());
+            Assertions.assertEquals(2, asUuid.variant());
+            Assertions.assertTrue(previous.compareTo(actualId) < 0);
+            previous = actualId;
+        }
+    }
+
+    @Test
+    public void givenAnIdString_whenCallFrom_thenShouldKeepTheSameValue() {
+        final var expectedValue = UUID.randomUUID().toString();
+
+        final var actualId = CategoryID.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(CategoryID.from(UUID.fromString(expectedValue)), actualId);
+    }
+
+    @Test
+    public void givenAnUppercaseIdString_whenCallFrom_thenShouldNormalizeToLowercase() {
+        final var expectedValue = "0190f5a6-3b2c-7d4e-8f10-a1b2c3d4e5f6";
+
+        final var actualId = CategoryID.from(expectedValue.toUpperCase());
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(CategoryID.from(expectedValue), actualId);
+        Assertions.assertEquals(CategoryID.from(expectedValue).hashCode(), actualId.hashCode());
+    }
+
+    @Test
+    public void givenAnInvalidIdString_whenCallFrom_thenShouldReceiveError() {
+        final var expectedErrorMessage = "'id' should be a valid UUID";
+
+        final var actualException = Assertions.assertThrows(
+            DomainException.class,
+            () -> CategoryID.from("0190f5a6-3b2c-7d4e-8f10-a1b2c3d4e5fz")
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Assertions.assertThrows(DomainException.class, () -> CategoryID.from("123"));
+    }
+}
@@ -1,11 +1,18 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
 import com.fullcycle.admin.catalogo.domain.Validation.handler.ThrowsValidationHandler;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeactivated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryUpdated;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 public class CategoryTest {
     @Test
     public void givenAValidParams_whenCallNewCategory_thenInstantiateACategory() {
@@ -149,6 +156,28 @@ public class CategoryTest {
         );
     }
 
+    @Test
+    public void givenAnInvalidName_whenCallNewCategoryAndValidateWithNotification_thenShouldAccumulateErrorWithoutThrowing() {
+        final var expectedErrorMessage = "'name' should not be empty";
+        final var expectedErrorsCount = 1;
+        final var expectName = "  ";
+        final var expectDescription = "A categoria mais assistida";
+        final var expectIsActive = true;
+
+        final var actualCategory = Category.newCategory(
+            expectName,
+            expectDescription,
+            expectIsActive
+        );
+
+        final var notification = Notification.create();
+        Assertions.assertDoesNotThrow(() -> actualCategory.validate(notification));
+
+        Assertions.assertTrue(notification.hasError());
+        Assertions.assertEquals(expectedErrorsCount, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+
     @Test
     public void givenAValidEmptyDescription_whenCallNewCategoryAndValidate_thenShouldReceiveOk() {
         final var expectName = "Filmes";
@@ -376,4 +405,75 @@ public class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenAValidActiveCategory_whenCallUpdateToInactive_thenShouldRecordUpdatedAndDeactivatedEvents() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        final var createdEvents = aCategory.pullDomainEvents();
+        aCategory.update("Series", null, false);
+        aCategory.deactivate();
+
+        Assertions.assertEquals(1, createdEvents.size());
+        Assertions.assertEquals(CategoryCreated.from(aCategory).id(), ((CategoryCreated) createdEvents.get(0)).id());
+
+        final var actualEvents = aCategory.pullDomainEvents();
+        Assertions.assertEquals(2, actualEvents.size());
+        final var updated = (CategoryUpdated) actualEvents.get(0);
+        Assertions.assertEquals("Series", updated.name());
+        Assertions.assertFalse(updated.isActive());
+        final var deactivated = (CategoryDeactivated) actualEvents.get(1);
+        Assertions.assertEquals(aCategory.getId(), deactivated.id());
+        Assertions.assertTrue(aCategory.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenAStoredCategory_whenCallUpdateWithTheSameValues_thenShouldRecordNoChange() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var updatedAt = aCategory.getUpdatedAt();
+
+        aCategory.update("Filmes", "A categoria mais assistida", true);
+
+        Assertions.assertFalse(aCategory.hasChanges());
+        Assertions.assertEquals(updatedAt, aCategory.getUpdatedAt());
+        Assertions.assertTrue(aCategory.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenAnActiveCategory_whenCallActivate_thenShouldRecordNoChange() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var updatedAt = aCategory.getUpdatedAt();
+
+        aCategory.activate();
+
+        Assertions.assertFalse(aCategory.hasChanges());
+        Assertions.assertEquals(updatedAt, aCategory.getUpdatedAt());
+        Assertions.assertTrue(aCategory.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenAnInactiveCategory_whenCallDeactivate_thenShouldRecordNoChange() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", "A categoria mais assistida", false));
+        final var updatedAt = aCategory.getUpdatedAt();
+        final var deletedAt = aCategory.getDeletedAt();
+
+        aCategory.deactivate();
+
+        Assertions.assertFalse(aCategory.hasChanges());
+        Assertions.assertEquals(updatedAt, aCategory.getUpdatedAt());
+        Assertions.assertEquals(deletedAt, aCategory.getDeletedAt());
+        Assertions.assertTrue(aCategory.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenAStoredCategory_whenCallUpdate_thenShouldRecordOnlyTheChangedFields() {
+        final var aCategory = Category.with(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+        aCategory.update("Filmes", null, true);
+        Assertions.assertEquals(Set.of(CategoryField.DESCRIPTION), aCategory.getChangedFields());
+
+        aCategory.deactivate();
+        Assertions.assertEquals(Set.of(CategoryField.DESCRIPTION, CategoryField.ACTIVE), aCategory.getChangedFields());
+        Assertions.assertTrue(Category.with(aCategory).getChangedFields().isEmpty());
+    }
 }
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.Validation.ValidationRules;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ValidationRulesTest {
+
+    private record Sample(String name, String description) {
+    }
+
+    private static final ValidationRules<Sample> RULES = ValidationRules.<Sample>builder()
+        .field("name", Sample::name).notNull().notBlank().trimmedLength(3, 10)
+        .field("description", Sample::description).maxLength(5)
+        .build();
+
+    @Test
+    public void givenAFailingRule_whenCallValidate_thenShouldSkipTheRestOfThatFieldOnly() {
+        final var notification = Notification.create();
+
+        RULES.validate(new Sample(null, "123456"), notification);
+
+        Assertions.assertEquals(
+            List.of(new Error("'name' should not be null"), new Error("'description' must have at most 5 characters")),
+            notification.getErrors()
+        );
+    }
+
+    @Test
+    public void givenABlankName_whenCallValidate_thenShouldReportOnlyTheEmptyError() {
+        final var notification = Notification.create();
+
+        RULES.validate(new Sample("   ", null), notification);
+
+        Assertions.assertEquals(List.of(new Error("'name' should not be empty")), notification.getErrors());
+    }
+
+    @Test
+    public void givenNamesPaddedWithControlCharacters_whenCallValidate_thenShouldMeasureLikeTrim() {
+        for (final var aName : List.of(" ab ", "\tabc\n", "  abcdefghij  ", "abcdefghijk", "a b")) {
+            final var notification = Notification.create();
+            final var expectedValid = aName.trim().length() >= 3 && aName.trim().length() <= 10;
+
+            RULES.validate(new Sample(aName, null), notification);
+
+            Assertions.assertEquals(expectedValid, !notification.hasError(), aName);
+        }
+        Assertions.assertEquals(4, RULES.size());
+    }
+}
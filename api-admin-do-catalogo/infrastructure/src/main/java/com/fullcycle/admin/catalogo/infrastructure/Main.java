@@ -1,10 +1,185 @@
 package com.fullcycle.admin.catalogo.infrastructure;
 
-import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.category.importing.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.importing.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.importing.ImportCategoriesOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.events.DomainEventPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.api.CatalogoServer;
+import com.fullcycle.admin.catalogo.infrastructure.category.DeletedCategorySweeper;
+import com.fullcycle.admin.catalogo.infrastructure.category.FileCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.ShardedCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.importing.CategoryImportFormat;
+import com.fullcycle.admin.catalogo.infrastructure.category.importing.FileCategoryImportRejections;
+import com.fullcycle.admin.catalogo.infrastructure.category.importing.FileCategoryImportSource;
+import com.fullcycle.admin.catalogo.infrastructure.category.listing.CategoryListingProjection;
+import com.fullcycle.admin.catalogo.infrastructure.events.RingBufferEventPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.metrics.MetricsRegistry;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Starts the HTTP API and returns; the server keeps the process alive. The
+ * port comes from the first argument or {@code PORT} (8080 by default), and
+ * categories are kept in {@code CATALOGO_DATA_DIR} when it is set, in memory
+ * otherwise. {@code CATALOGO_SHARDS} above 1 splits them over that many
+ * stores; keep it the same for a given data directory. When
+ * {@code CATALOGO_PURGE_AFTER} holds an ISO-8601 duration, such as
+ * {@code P30D}, categories deactivated for longer than that are purged in the
+ * background. With {@code CATALOGO_READ_MODEL=true} listings are served from a
+ * projection fed by category events, and lag slightly behind writes.
+ *
+ * <p>{@code import <file> [<rejected-file>]} loads an NDJSON or CSV file into
+ * the same store instead, and exits when done.
+ */
 public class Main {
+    private static final int DEFAULT_PORT = 8080;
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(10);
+
     public static void main(String[] args) {
-        System.out.println("Hello world!");
-        System.out.println(new UseCase().execute());
+        if (args.length > 0 && "import".equals(args[0])) {
+            importFile(args);
+            return;
+        }
+
+        final var port = args.length > 0 ? Integer.parseInt(args[0]) : portFromEnvironment();
+
+        try {
+            final var metrics = new MetricsRegistry();
+            metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+            final var server = start(port, metrics);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "catalogo-shutdown"));
+            System.out.println("Listening on http://localhost:" + server.port());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Opens the configured store and serves it on the given port, 0 for any
+     * free one. Closing the returned server also stops the sweeper and closes
+     * the store.
+     */
+    public static CatalogoServer start(final int aPort, final MetricsRegistry aMetrics) throws IOException {
+        final var purgeAfter = purgeAfterFromEnvironment();
+        final var events = isReadModelEnabled() ? new RingBufferEventPublisher() : null;
+        final var gateway = openGateway(events == null ? DomainEventPublisher.noop() : events);
+
+        CatalogoServer server = null;
+        final DeletedCategorySweeper sweeper;
+        try {
+            if (events != null) {
+                final var listings = new CategoryListingProjection();
+                events.subscribe(listings);
+                listings.rebuild(gateway);
+                server = CatalogoServer.start(new InetSocketAddress(aPort), gateway, listings, aMetrics);
+            } else {
+                server = CatalogoServer.start(new InetSocketAddress(aPort), gateway, aMetrics);
+            }
+            sweeper = purgeAfter == null ? null : DeletedCategorySweeper.start(gateway, purgeAfter, SWEEP_INTERVAL);
+        } catch (final IOException | RuntimeException ex) {
+            if (server != null) {
+                server.close();
+            }
+            stop(null, gateway, events);
+            throw ex;
+        }
+        return server.onClose(() -> stop(sweeper, gateway, events));
+    }
+
+    private static void importFile(final String[] args) {
+        if (args.length < 2) {
+            System.err.println("usage: import <file> [<rejected-file>]");
+            System.exit(2);
+        }
+        final var file = Path.of(args[1]);
+        final var rejectedFile = Path.of(args.length > 2 ? args[2] : args[1] + ".rejected.ndjson");
+
+        CategoryGateway gateway = null;
+        try (
+            final var source = FileCategoryImportSource.open(file, CategoryImportFormat.fromFileName(file));
+            final var rejections = FileCategoryImportRejections.open(rejectedFile)
+        ) {
+            gateway = openGateway(DomainEventPublisher.noop());
+            final var output = new DefaultImportCategoriesUseCase(gateway)
+                .execute(ImportCategoriesCommand.with(source, rejections, Main::printProgress));
+            if (output.rejected() > 0) {
+                System.out.println("Rejected rows written to " + rejectedFile);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            closeGateway(gateway);
+        }
+    }
+
+    private static void printProgress(final ImportCategoriesOutput aProgress) {
+        System.out.printf(
+            "%,d rows read, %,d imported, %,d rejected in %ds (%,.0f rows/s)%n",
+            aProgress.rows(),
+            aProgress.imported(),
+            aProgress.rejected(),
+            aProgress.elapsed().toSeconds(),
+            aProgress.rowsPerSecond()
+        );
+    }
+
+    private static CategoryGateway openGateway(final DomainEventPublisher aPublisher) throws IOException {
+        final var dataDirectory = System.getenv("CATALOGO_DATA_DIR");
+        final var inMemory = dataDirectory == null || dataDirectory.isBlank();
+        final var shards = System.getenv("CATALOGO_SHARDS");
+        if (shards != null && !shards.isBlank() && Integer.parseInt(shards) > 1) {
+            return inMemory
+                ? ShardedCategoryGateway.inMemory(Integer.parseInt(shards), aPublisher)
+                : ShardedCategoryGateway.open(Path.of(dataDirectory), Integer.parseInt(shards), aPublisher);
+        }
+        return inMemory
+            ? new InMemoryCategoryGateway(aPublisher)
+            : FileCategoryGateway.open(Path.of(dataDirectory), FileCategoryGateway.DEFAULT_COMPACTION_THRESHOLD, aPublisher);
+    }
+
+    private static boolean isReadModelEnabled() {
+        return Boolean.parseBoolean(System.getenv("CATALOGO_READ_MODEL"));
+    }
+
+    // parsed before anything is opened, so a malformed value leaves nothing behind
+    private static Duration purgeAfterFromEnvironment() {
+        final var purgeAfter = System.getenv("CATALOGO_PURGE_AFTER");
+        return purgeAfter == null || purgeAfter.isBlank() ? null : Duration.parse(purgeAfter);
+    }
+
+    private static int portFromEnvironment() {
+        final var port = System.getenv("PORT");
+        return port == null || port.isBlank() ? DEFAULT_PORT : Integer.parseInt(port);
+    }
+
+    private static void stop(
+        final DeletedCategorySweeper aSweeper,
+        final CategoryGateway aGateway,
+        final RingBufferEventPublisher anEvents
+    ) {
+        if (aSweeper != null) {
+            aSweeper.close();
+        }
+        closeGateway(aGateway);
+        if (anEvents != null) {
+            anEvents.close();
+        }
+    }
+
+    private static void closeGateway(final CategoryGateway aGateway) {
+        if (aGateway instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (final Exception ex) {
+                System.err.println("could not close the category gateway: " + ex.getMessage());
+            }
+        }
     }
 }
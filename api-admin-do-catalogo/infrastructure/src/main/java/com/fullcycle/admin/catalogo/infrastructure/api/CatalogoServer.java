@@ -0,0 +1,135 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.application.AsyncUseCaseExecutor;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.IdempotentCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ReadModelListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryListingGateway;
+import com.fullcycle.admin.catalogo.infrastructure.metrics.MetricsRegistry;
+import com.sun.net.httpserver.HttpServer;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP API on the JDK's built-in server. Every request runs on its own virtual
+ * thread when the runtime has them, otherwise on a small fixed pool.
+ */
+public class CatalogoServer implements AutoCloseable {
+    private static final int BACKLOG = 1024;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private volatile Runnable onClose;
+
+    private CatalogoServer(final HttpServer aServer, final ExecutorService anExecutor) {
+        this.server = aServer;
+        this.executor = anExecutor;
+        this.onClose = () -> {};
+    }
+
+    public static CatalogoServer start(
+        final InetSocketAddress anAddress,
+        final CategoryGateway aGateway,
+        final MetricsRegistry aMetrics
+    ) throws IOException {
+        return start(anAddress, aGateway, new DefaultListCategoriesUseCase(aGateway), aMetrics);
+    }
+
+    /**
+     * Serves category listings from the given read model rather than the
+     * gateway, so a category is listed once its events reach it.
+     */
+    public static CatalogoServer start(
+        final InetSocketAddress anAddress,
+        final CategoryGateway aGateway,
+        final CategoryListingGateway aListingGateway,
+        final MetricsRegistry aMetrics
+    ) throws IOException {
+        return start(anAddress, aGateway, new ReadModelListCategoriesUseCase(aListingGateway), aMetrics);
+    }
+
+    private static CatalogoServer start(
+        final InetSocketAddress anAddress,
+        final CategoryGateway aGateway,
+        final ListCategoriesUseCase aListCategoriesUseCase,
+        final MetricsRegistry aMetrics
+    ) throws IOException {
+        final var createCategory = aMetrics.instrument(
+            "CreateCategory",
+            new IdempotentCreateCategoryUseCase(new DefaultCreateCategoryUseCase(aGateway)),
+            Either::isLeft
+        );
+        final var getCategoryById = aMetrics.instrument("GetCategoryById", new DefaultGetCategoryByIdUseCase(aGateway));
+        final var listCategories = aMetrics.instrument("ListCategories", aListCategoriesUseCase);
+        final var updateCategory = aMetrics.instrument(
+            "UpdateCategory",
+            new DefaultUpdateCategoryUseCase(aGateway),
+            Either::isLeft
+        );
+        final var exportCategories = aMetrics.instrument("ExportCategories", new DefaultExportCategoriesUseCase(aGateway));
+
+        final var server = HttpServer.create(anAddress, BACKLOG);
+        server.createContext(CategoryHandler.PATH, new CategoryHandler(createCategory, getCategoryById, listCategories, updateCategory));
+        server.createContext(CategoryExportHandler.PATH, new CategoryExportHandler(exportCategories));
+        server.createContext(MetricsHandler.PATH, new MetricsHandler(aMetrics));
+
+        final var executor = newExecutor();
+        server.setExecutor(executor);
+        server.start();
+        return new CatalogoServer(server, executor);
+    }
+
+    public int port() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * Runs the given action once the server has stopped taking requests, to
+     * release what it was serving from.
+     */
+    public CatalogoServer onClose(final Runnable anAction) {
+        this.onClose = Objects.requireNonNull(anAction);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(STOP_DELAY_SECONDS);
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.onClose.run();
+    }
+
+    private static ExecutorService newExecutor() {
+        final var virtualExecutor = AsyncUseCaseExecutor.newVirtualThreadPerTaskExecutor();
+        if (virtualExecutor != null) {
+            return virtualExecutor;
+        }
+
+        final var counter = new AtomicInteger();
+        final var threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "http-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.category.export.ExportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.export.ExportCategoriesOutput;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.export.CategoryExportFormat;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serves GET {@code /categories/export?format=ndjson|csv} as a chunked
+ * response written while the catalog is walked, so nothing is buffered beyond
+ * the current page. Once the headers are out a failure can only abort the
+ * response.
+ */
+public class CategoryExportHandler implements HttpHandler {
+    public static final String PATH = CategoryHandler.PATH + "/export";
+
+    private final UseCase<ExportCategoriesCommand, ExportCategoriesOutput> exportCategories;
+
+    public CategoryExportHandler(final UseCase<ExportCategoriesCommand, ExportCategoriesOutput> anExportCategories) {
+        this.exportCategories = Objects.requireNonNull(anExportCategories);
+    }
+
+    @Override
+    public void handle(final HttpExchange anExchange) throws IOException {
+        try {
+            if (!PATH.equals(anExchange.getRequestURI().getPath())) {
+                Exchanges.sendEmpty(anExchange, 404);
+                return;
+            }
+            if (!"GET".equals(anExchange.getRequestMethod())) {
+                Exchanges.sendEmpty(anExchange, 405);
+                return;
+            }
+
+            final var parameters = Exchanges.queryOf(anExchange);
+            final CategoryExportFormat format;
+            try {
+                format = CategoryExportFormat.from(parameters.get("format"));
+            } catch (final IllegalArgumentException ex) {
+                Exchanges.sendJson(anExchange, 400, out -> CategoryJson.writeErrors(out, List.of(new Error(ex.getMessage()))));
+                return;
+            }
+
+            anExchange.getResponseHeaders().set("Content-Type", format.contentType());
+            anExchange.sendResponseHeaders(200, 0);
+            this.exportCategories.execute(ExportCategoriesCommand.with(
+                parameters.getOrDefault("search", ""),
+                parameters.getOrDefault("sort", ""),
+                parameters.getOrDefault("dir", "asc"),
+                format.writerFor(anExchange.getResponseBody())
+            ));
+        } finally {
+            anExchange.close();
+        }
+    }
+}
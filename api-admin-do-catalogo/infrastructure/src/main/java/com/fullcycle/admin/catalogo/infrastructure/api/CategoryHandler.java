@@ -0,0 +1,176 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.Validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonException;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Serves {@code /categories}: POST creates, once per {@code Idempotency-Key}
+ * header, GET lists with {@code page, per_page, search, sort, dir, active} or
+ * keyset {@code cursor} paging, GET {@code /categories/{id}} reads one
+ * category and PATCH changes the fields present in the body.
+ */
+public class CategoryHandler implements HttpHandler {
+    public static final String PATH = "/categories";
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private static final int DEFAULT_PER_PAGE = 10;
+    private static final int MAX_PER_PAGE = 1_000;
+
+    private final UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createCategory;
+    private final UseCase<String, CategoryOutput> getCategoryById;
+    private final UseCase<CategorySearchQuery, Pagination<CategoryListOutput>> listCategories;
+    private final UseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> updateCategory;
+
+    public CategoryHandler(
+        final UseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> aCreateCategory,
+        final UseCase<String, CategoryOutput> aGetCategoryById,
+        final UseCase<CategorySearchQuery, Pagination<CategoryListOutput>> aListCategories,
+        final UseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> anUpdateCategory
+    ) {
+        this.createCategory = Objects.requireNonNull(aCreateCategory);
+        this.getCategoryById = Objects.requireNonNull(aGetCategoryById);
+        this.listCategories = Objects.requireNonNull(aListCategories);
+        this.updateCategory = Objects.requireNonNull(anUpdateCategory);
+    }
+
+    @Override
+    public void handle(final HttpExchange anExchange) throws IOException {
+        try {
+            route(anExchange);
+        } catch (final NotFoundException ex) {
+            Exchanges.sendJson(anExchange, 404, out -> CategoryJson.writeErrors(out, ex.getErrors()));
+        } catch (final VersionConflictException ex) {
+            Exchanges.sendJson(anExchange, 409, out -> CategoryJson.writeErrors(out, ex.getErrors()));
+        } catch (final DomainException ex) {
+            Exchanges.sendJson(anExchange, 422, out -> CategoryJson.writeErrors(out, ex.getErrors()));
+        } catch (final JsonException | IllegalArgumentException ex) {
+            Exchanges.sendJson(anExchange, 400, out -> CategoryJson.writeErrors(out, List.of(new Error(ex.getMessage()))));
+        } catch (final RuntimeException ex) {
+            Exchanges.sendJson(anExchange, 500, out -> CategoryJson.writeErrors(out, List.of(new Error("internal error"))));
+        } finally {
+            anExchange.close();
+        }
+    }
+
+    private void route(final HttpExchange anExchange) throws IOException {
+        final var path = anExchange.getRequestURI().getPath();
+        final var method = anExchange.getRequestMethod();
+        if (!path.equals(PATH) && !path.startsWith(PATH + "/")) {
+            Exchanges.sendEmpty(anExchange, 404);
+            return;
+        }
+
+        final var rest = path.length() > PATH.length() ? path.substring(PATH.length() + 1) : "";
+        if (rest.isEmpty() && "POST".equals(method)) {
+            create(anExchange);
+        } else if (rest.isEmpty() && "GET".equals(method)) {
+            list(anExchange);
+        } else if (!rest.isEmpty() && rest.indexOf('/') < 0 && "GET".equals(method)) {
+            final var output = this.getCategoryById.execute(rest);
+            Exchanges.sendJson(anExchange, 200, out -> CategoryJson.write(out, output));
+        } else if (!rest.isEmpty() && rest.indexOf('/') < 0 && "PATCH".equals(method)) {
+            update(anExchange, rest);
+        } else {
+            Exchanges.sendEmpty(anExchange, 405);
+        }
+    }
+
+    private void create(final HttpExchange anExchange) throws IOException {
+        final var body = Exchanges.readBody(anExchange);
+        if (body == null) {
+            Exchanges.sendEmpty(anExchange, 413);
+            return;
+        }
+
+        final var aCommand = CategoryJson.readCreateCommand(new JsonReader(body))
+            .withIdempotencyKey(anExchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY));
+        final var result = this.createCategory.execute(aCommand);
+        if (result.isLeft()) {
+            Exchanges.sendJson(anExchange, 422, out -> CategoryJson.writeErrors(out, result.getLeft().getErrors()));
+            return;
+        }
+
+        final var output = result.get();
+        anExchange.getResponseHeaders().set("Location", PATH + "/" + output.id().getValue());
+        Exchanges.sendJson(anExchange, 201, out -> CategoryJson.write(out, output));
+    }
+
+    private void update(final HttpExchange anExchange, final String anId) throws IOException {
+        final var body = Exchanges.readBody(anExchange);
+        if (body == null) {
+            Exchanges.sendEmpty(anExchange, 413);
+            return;
+        }
+
+        final var aCommand = CategoryJson.readUpdateCommand(anId, new JsonReader(body));
+        final var result = this.updateCategory.execute(aCommand);
+        if (result.isLeft()) {
+            Exchanges.sendJson(anExchange, 422, out -> CategoryJson.writeErrors(out, result.getLeft().getErrors()));
+            return;
+        }
+
+        final var output = result.get();
+        Exchanges.sendJson(anExchange, 200, out -> CategoryJson.write(out, output));
+    }
+
+    private void list(final HttpExchange anExchange) throws IOException {
+        final var parameters = Exchanges.queryOf(anExchange);
+        final var perPage = Math.min(intOf(parameters, "per_page", DEFAULT_PER_PAGE), MAX_PER_PAGE);
+        final var terms = parameters.getOrDefault("search", "");
+        final var sort = parameters.getOrDefault("sort", "");
+        final var direction = parameters.getOrDefault("dir", "asc");
+
+        final var aQuery = (parameters.containsKey("cursor")
+            ? CategorySearchQuery.after(parameters.get("cursor"), perPage, terms, sort, direction)
+            : new CategorySearchQuery(intOf(parameters, "page", 0), perPage, terms, sort, direction))
+            .withActive(booleanOf(parameters, "active"));
+
+        final var page = this.listCategories.execute(aQuery);
+        Exchanges.sendJson(anExchange, 200, out -> CategoryJson.write(out, page));
+    }
+
+    private static Boolean booleanOf(final Map<String, String> parameters, final String aName) {
+        final var value = parameters.get(aName);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.valueOf(value);
+        }
+        throw new IllegalArgumentException("'%s' should be true or false".formatted(aName));
+    }
+
+    private static int intOf(final Map<String, String> parameters, final String aName, final int aDefault) {
+        final var value = parameters.get(aName);
+        if (value == null || value.isEmpty()) {
+            return aDefault;
+        }
+        try {
+            return Math.max(Integer.parseInt(value), 0);
+        } catch (final NumberFormatException ex) {
+            throw new IllegalArgumentException("'%s' should be a number".formatted(aName));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonReader;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonWriter;
+
+import java.util.List;
+
+/**
+ * Hand-written JSON mapping of the category API, with snake_case field names.
+ */
+public final class CategoryJson {
+
+    private CategoryJson() {
+    }
+
+    public static CreateCategoryCommand readCreateCommand(final JsonReader in) {
+        String name = null;
+        String description = null;
+        boolean isActive = true;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name" -> name = in.nextNullableString();
+                case "description" -> description = in.nextNullableString();
+                case "is_active" -> isActive = in.nextBoolean();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        in.end();
+        return CreateCategoryCommand.with(name, description, isActive);
+    }
+
+    /**
+     * Reads a patch: only the fields present in the body are changed, and an
+     * explicit null clears the description.
+     */
+    public static UpdateCategoryCommand readUpdateCommand(final String anId, final JsonReader in) {
+        var aCommand = UpdateCategoryCommand.with(anId);
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name" -> aCommand = aCommand.withName(in.nextNullableString());
+                case "description" -> aCommand = aCommand.withDescription(in.nextNullableString());
+                case "is_active" -> aCommand = aCommand.withActive(in.nextBoolean());
+                case "version" -> aCommand = aCommand.withVersion(in.nextLong());
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        in.end();
+        return aCommand;
+    }
+
+    public static void write(final JsonWriter out, final CreateCategoryOutput anOutput) {
+        out.beginObject()
+            .name("id").value(anOutput.id().getValue())
+            .endObject();
+    }
+
+    public static void write(final JsonWriter out, final CategoryOutput anOutput) {
+        out.beginObject()
+            .name("id").value(anOutput.id().getValue())
+            .name("name").value(anOutput.name())
+            .name("description").value(anOutput.description())
+            .name("is_active").value(anOutput.isActive())
+            .name("created_at").value(anOutput.createdAt())
+            .name("updated_at").value(anOutput.updatedAt())
+            .name("deleted_at").value(anOutput.deletedAt())
+            .name("version").value(anOutput.version())
+            .endObject();
+    }
+
+    public static void write(final JsonWriter out, final UpdateCategoryOutput anOutput) {
+        out.beginObject()
+            .name("id").value(anOutput.id().getValue())
+            .name("version").value(anOutput.version())
+            .endObject();
+    }
+
+    public static void write(final JsonWriter out, final CategoryListOutput anOutput) {
+        out.beginObject()
+            .name("id").value(anOutput.id().getValue())
+            .name("name").value(anOutput.name())
+            .name("description").value(anOutput.description())
+            .name("is_active").value(anOutput.isActive())
+            .name("created_at").value(anOutput.createdAt())
+            .name("deleted_at").value(anOutput.deletedAt())
+            .endObject();
+    }
+
+    public static void write(final JsonWriter out, final Pagination<CategoryListOutput> aPage) {
+        out.beginObject()
+            .name("current_page").value(aPage.currentPage())
+            .name("per_page").value(aPage.perPage());
+        if (aPage.hasTotal()) {
+            out.name("total").value(aPage.total());
+        }
+        out.name("next_cursor").value(aPage.nextCursor());
+        out.name("items").beginArray();
+        aPage.items().forEach(anItem -> write(out, anItem));
+        out.endArray().endObject();
+    }
+
+    public static void writeErrors(final JsonWriter out, final List<Error> anErrors) {
+        out.beginObject()
+            .name("message").value(anErrors.isEmpty() ? "" : anErrors.get(0).message())
+            .name("errors").beginArray();
+        anErrors.forEach(anError -> out.beginObject().name("message").value(anError.message()).endObject());
+        out.endArray().endObject();
+    }
+}
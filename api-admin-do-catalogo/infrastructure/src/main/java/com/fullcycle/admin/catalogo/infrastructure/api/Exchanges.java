@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+final class Exchanges {
+    static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+
+    private Exchanges() {
+    }
+
+    // Small documents are rendered before the headers so the response has a fixed length
+    static void sendJson(final HttpExchange anExchange, final int aStatus, final Consumer<JsonWriter> aBody) throws IOException {
+        final var body = new ByteArrayOutputStream(256);
+        final var writer = new JsonWriter(body);
+        aBody.accept(writer);
+        writer.flush();
+        send(anExchange, aStatus, JSON, body.toByteArray());
+    }
+
+    static void sendText(final HttpExchange anExchange, final int aStatus, final String aBody) throws IOException {
+        send(anExchange, aStatus, TEXT, aBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void sendEmpty(final HttpExchange anExchange, final int aStatus) throws IOException {
+        anExchange.sendResponseHeaders(aStatus, -1);
+        anExchange.close();
+    }
+
+    /**
+     * Reads the request body, or returns null when it is larger than allowed.
+     */
+    static byte[] readBody(final HttpExchange anExchange) throws IOException {
+        try (final var in = anExchange.getRequestBody()) {
+            final var body = in.readNBytes(MAX_BODY_BYTES + 1);
+            return body.length > MAX_BODY_BYTES ? null : body;
+        }
+    }
+
+    static Map<String, String> queryOf(final HttpExchange anExchange) {
+        final var query = anExchange.getRequestURI().getRawQuery();
+        final var parameters = new HashMap<String, String>();
+        if (query == null || query.isEmpty()) {
+            return parameters;
+        }
+        for (final var pair : query.split("&")) {
+            final int separator = pair.indexOf('=');
+            final var key = separator < 0 ? pair : pair.substring(0, separator);
+            final var value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.putIfAbsent(decode(key), decode(value));
+        }
+        return parameters;
+    }
+
+    private static String decode(final String aValue) {
+        return URLDecoder.decode(aValue, StandardCharsets.UTF_8);
+    }
+
+    private static void send(final HttpExchange anExchange, final int aStatus, final String aContentType, final byte[] aBody) throws IOException {
+        anExchange.getResponseHeaders().set("Content-Type", aContentType);
+        anExchange.sendResponseHeaders(aStatus, aBody.length == 0 ? -1 : aBody.length);
+        try (final var out = anExchange.getResponseBody()) {
+            out.write(aBody);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.metrics.MetricsRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.util.Objects;
+
+public class MetricsHandler implements HttpHandler {
+    public static final String PATH = "/metrics";
+
+    private final MetricsRegistry registry;
+
+    public MetricsHandler(final MetricsRegistry aRegistry) {
+        this.registry = Objects.requireNonNull(aRegistry);
+    }
+
+    @Override
+    public void handle(final HttpExchange anExchange) throws IOException {
+        try {
+            if (!"GET".equals(anExchange.getRequestMethod())) {
+                Exchanges.sendEmpty(anExchange, 405);
+                return;
+            }
+            Exchanges.sendText(anExchange, 200, this.registry.snapshot());
+        } finally {
+            anExchange.close();
+        }
+    }
+}
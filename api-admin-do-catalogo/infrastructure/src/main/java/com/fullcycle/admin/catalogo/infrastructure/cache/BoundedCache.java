@@ -0,0 +1,211 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Size bounded LRU cache with a time to live, split into independently locked
+ * segments. Every write to a segment bumps its stamp, so a value loaded before
+ * a concurrent write is never stored over the newer state.
+ */
+public class BoundedCache<K, V> {
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(final int aMaximumSize, final Duration aTtl) {
+        this(aMaximumSize, aTtl, System::nanoTime);
+    }
+
+    BoundedCache(final int aMaximumSize, final Duration aTtl, final LongSupplier aClock) {
+        if (aMaximumSize <= 0) {
+            throw new IllegalArgumentException("'maximumSize' must be greater than 0");
+        }
+        final int segmentCount = Math.min(DEFAULT_SEGMENTS, aMaximumSize);
+        final int segmentSize = Math.max(1, aMaximumSize / segmentCount);
+
+        @SuppressWarnings("unchecked")
+        final Segment<K, V>[] aSegments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            aSegments[i] = new Segment<>(segmentSize, this.evictions);
+        }
+        this.segments = aSegments;
+        this.ttlNanos = Objects.requireNonNull(aTtl).toNanos();
+        this.clock = Objects.requireNonNull(aClock);
+    }
+
+    public V get(final K aKey) {
+        final var segment = segmentFor(aKey);
+        final V value;
+        segment.lock.lock();
+        try {
+            value = segment.get(aKey, clock.getAsLong());
+        } finally {
+            segment.lock.unlock();
+        }
+
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value whose key already tells stale values apart, so no stamp is
+     * needed.
+     */
+    public void put(final K aKey, final V aValue) {
+        final var segment = segmentFor(aKey);
+        segment.lock.lock();
+        try {
+            segment.put(aKey, aValue, clock.getAsLong() + ttlNanos);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Stamp to hand back to {@link #putIfUnchanged} once a value has been loaded.
+     */
+    public long stamp(final K aKey) {
+        final var segment = segmentFor(aKey);
+        segment.lock.lock();
+        try {
+            return segment.stamp;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Caches a value loaded from the source of truth, unless a write reached the
+     * key's segment since the stamp was taken.
+     */
+    public boolean putIfUnchanged(final K aKey, final V aValue, final long aStamp) {
+        final var segment = segmentFor(aKey);
+        segment.lock.lock();
+        try {
+            if (segment.stamp != aStamp) {
+                return false;
+            }
+            segment.put(aKey, aValue, clock.getAsLong() + ttlNanos);
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Records a write: stores the new value when no other write raced with it
+     * since the stamp was taken, otherwise drops the key so the next read
+     * reloads it.
+     */
+    public void write(final K aKey, final V aValue, final long aStamp) {
+        final var segment = segmentFor(aKey);
+        segment.lock.lock();
+        try {
+            if (segment.stamp == aStamp && aValue != null) {
+                segment.put(aKey, aValue, clock.getAsLong() + ttlNanos);
+            } else {
+                segment.entries.remove(aKey);
+            }
+            segment.stamp++;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(final K aKey) {
+        final var segment = segmentFor(aKey);
+        segment.lock.lock();
+        try {
+            segment.entries.remove(aKey);
+            segment.stamp++;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (final var segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+                segment.stamp++;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        long size = 0;
+        for (final var segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Segment<K, V> segmentFor(final K aKey) {
+        final int hash = aKey.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & 0x7FFFFFFF) % segments.length];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> entries;
+        private final LongAdder evictions;
+        private long stamp;
+
+        private Segment(final int aMaximumSize, final LongAdder evictions) {
+            this.evictions = evictions;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > aMaximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private V get(final K aKey, final long now) {
+            final var entry = entries.get(aKey);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() - now <= 0) {
+                entries.remove(aKey);
+                evictions.increment();
+                return null;
+            }
+            return entry.value();
+        }
+
+        private void put(final K aKey, final V aValue, final long expiresAt) {
+            entries.put(aKey, new Entry<>(aValue, expiresAt));
+        }
+    }
+}
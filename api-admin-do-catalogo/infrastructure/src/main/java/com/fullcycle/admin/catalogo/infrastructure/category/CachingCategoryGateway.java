@@ -0,0 +1,160 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.cache.BoundedCache;
+import com.fullcycle.admin.catalogo.infrastructure.cache.CacheStats;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches categories by id and {@link #findAll} pages by query. Pages are keyed
+ * by the write generation they were loaded in as well; any write through this
+ * gateway starts a new generation, so older pages are never served again and
+ * simply age out of the LRU. Writes that bypass this gateway are only seen
+ * once entries expire.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+    public static final int DEFAULT_MAXIMUM_PAGES = 256;
+    public static final int MAX_CACHED_PER_PAGE = 100;
+
+    private final CategoryGateway delegate;
+    private final BoundedCache<CategoryID, Category> cache;
+    private final BoundedCache<PageKey, Pagination<Category>> pages;
+    private final AtomicLong generation;
+
+    public CachingCategoryGateway(
+        final CategoryGateway aDelegate,
+        final int aMaximumSize,
+        final Duration aTtl
+    ) {
+        this(aDelegate, aMaximumSize, DEFAULT_MAXIMUM_PAGES, aTtl);
+    }
+
+    public CachingCategoryGateway(
+        final CategoryGateway aDelegate,
+        final int aMaximumSize,
+        final int aMaximumPages,
+        final Duration aTtl
+    ) {
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.cache = new BoundedCache<>(aMaximumSize, aTtl);
+        this.pages = new BoundedCache<>(aMaximumPages, aTtl);
+        this.generation = new AtomicLong();
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var stamp = this.cache.stamp(aCategory.getId());
+        try {
+            final var created = this.delegate.create(aCategory);
+            this.cache.write(aCategory.getId(), Category.with(created), stamp);
+            return created;
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var stamps = new long[aCategories.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            stamps[i] = this.cache.stamp(aCategories.get(i).getId());
+        }
+
+        try {
+            final var created = this.delegate.createAll(aCategories);
+            for (int i = 0; i < created.size(); i++) {
+                this.cache.write(aCategories.get(i).getId(), Category.with(created.get(i)), stamps[i]);
+            }
+            return created;
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var stamp = this.cache.stamp(aCategory.getId());
+        try {
+            final var updated = this.delegate.update(aCategory);
+            this.cache.write(aCategory.getId(), Category.with(updated), stamp);
+            return updated;
+        } catch (final RuntimeException ex) {
+            this.cache.invalidate(aCategory.getId());
+            throw ex;
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        final var cached = this.cache.get(anId);
+        if (cached != null) {
+            return Optional.of(Category.with(cached));
+        }
+
+        final var stamp = this.cache.stamp(anId);
+        final var loaded = this.delegate.findById(anId);
+        loaded.ifPresent(aCategory -> this.cache.putIfUnchanged(anId, Category.with(aCategory), stamp));
+        return loaded;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.cache.invalidate(anId);
+            this.generation.incrementAndGet();
+        }
+    }
+
+    // the generation is read before loading, so a page that raced with a write is filed under the old one
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (aQuery.perPage() > MAX_CACHED_PER_PAGE) {
+            return this.delegate.findAll(aQuery);
+        }
+
+        final var aKey = new PageKey(aQuery, this.generation.get());
+        final var cached = this.pages.get(aKey);
+        if (cached != null) {
+            return cached.map(Category::with);
+        }
+
+        final var loaded = this.delegate.findAll(aQuery);
+        this.pages.put(aKey, loaded.map(Category::with));
+        return loaded;
+    }
+
+    @Override
+    public List<CategoryID> purgeDeletedBefore(final Instant anInstant, final int aLimit) {
+        final var purged = this.delegate.purgeDeletedBefore(anInstant, aLimit);
+        purged.forEach(this.cache::invalidate);
+        if (!purged.isEmpty()) {
+            this.generation.incrementAndGet();
+        }
+        return purged;
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    public CacheStats pageStats() {
+        return this.pages.stats();
+    }
+
+    private record PageKey(CategorySearchQuery query, long generation) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Periodically purges categories that have been deactivated for longer than
+ * the retention period. Each pass removes them in bounded batches, so the
+ * gateway is never locked for long.
+ */
+public class DeletedCategorySweeper implements AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final CategoryGateway gateway;
+    private final Duration retention;
+    private final Clock clock;
+    private final int batchSize;
+    private final LongAdder purged;
+    private final LongAdder failures;
+    private final ScheduledExecutorService scheduler;
+
+    public DeletedCategorySweeper(
+        final CategoryGateway aGateway,
+        final Duration aRetention,
+        final Clock aClock,
+        final int aBatchSize
+    ) {
+        if (aRetention.isNegative() || aBatchSize <= 0) {
+            throw new IllegalArgumentException("'retention' must not be negative and 'batchSize' must be greater than 0");
+        }
+        this.gateway = Objects.requireNonNull(aGateway);
+        this.retention = aRetention;
+        this.clock = Objects.requireNonNull(aClock);
+        this.batchSize = aBatchSize;
+        this.purged = new LongAdder();
+        this.failures = new LongAdder();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            final var thread = new Thread(task, "category-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static DeletedCategorySweeper start(
+        final CategoryGateway aGateway,
+        final Duration aRetention,
+        final Duration anInterval
+    ) {
+        final var sweeper = new DeletedCategorySweeper(aGateway, aRetention, Clock.systemUTC(), DEFAULT_BATCH_SIZE);
+        final long intervalMillis = Math.max(anInterval.toMillis(), 1);
+        sweeper.scheduler.scheduleWithFixedDelay(sweeper::sweepQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return sweeper;
+    }
+
+    /**
+     * Purges everything past the retention period now and returns how many
+     * categories were removed.
+     */
+    public long sweep() {
+        final var cutoff = this.clock.instant().minus(this.retention);
+        long removed = 0;
+        int batch;
+        do {
+            batch = this.gateway.purgeDeletedBefore(cutoff, this.batchSize).size();
+            removed += batch;
+            this.purged.add(batch);
+        } while (batch == this.batchSize);
+        return removed;
+    }
+
+    public long purged() {
+        return this.purged.sum();
+    }
+
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdown();
+        try {
+            this.scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // an exception would cancel the schedule; the next pass retries instead
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (final RuntimeException ex) {
+            this.failures.increment();
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.events.DomainEventPublisher;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryLogEntry;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.SnapshotStore;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.WriteAheadLog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Durable gateway backed by a write-ahead log and periodic snapshots, serving
+ * reads from an {@link InMemoryCategoryGateway}. Writers queue their entries
+ * and block while a single flusher thread appends everything queued so far,
+ * forces it with one fsync and applies it in log order, so concurrent writers
+ * share the cost of each fsync.
+ */
+public class FileCategoryGateway implements CategoryGateway, AutoCloseable {
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64L * 1024 * 1024;
+
+    private static final long LOG_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final long SNAPSHOT_SEGMENT_BYTES = 256L * 1024 * 1024;
+
+    private final InMemoryCategoryGateway memory;
+    private final SnapshotStore snapshots;
+    private final WriteAheadLog log;
+    private final long compactionThreshold;
+    private final DomainEventPublisher publisher;
+
+    private final ReentrantLock lock;
+    private final Condition hasWork;
+    private List<PendingWrite> pending;
+    private boolean closed;
+    private volatile Exception failure;
+
+    private final Thread flusher;
+    private long nextLsn;
+    private volatile long appliedLsn;
+    private long bytesSinceSnapshot;
+
+    private final ExecutorService compactor;
+    private final AtomicBoolean compacting;
+    private final ReentrantLock compactionLock;
+    private long snapshotLsn;
+
+    private FileCategoryGateway(
+        final InMemoryCategoryGateway aMemory,
+        final SnapshotStore aSnapshots,
+        final long aSnapshotLsn,
+        final WriteAheadLog aLog,
+        final long aCompactionThreshold,
+        final DomainEventPublisher aPublisher
+    ) {
+        this.memory = aMemory;
+        this.snapshots = aSnapshots;
+        this.log = aLog;
+        this.compactionThreshold = aCompactionThreshold;
+        this.publisher = aPublisher;
+
+        this.lock = new ReentrantLock();
+        this.hasWork = this.lock.newCondition();
+        this.pending = new ArrayList<>();
+        this.nextLsn = aLog.lastLsn();
+        this.appliedLsn = aLog.lastLsn();
+
+        this.compactor = Executors.newSingleThreadExecutor(task -> daemon(task, "category-compactor"));
+        this.compacting = new AtomicBoolean();
+        this.compactionLock = new ReentrantLock();
+        this.snapshotLsn = aSnapshotLsn;
+
+        this.flusher = daemon(this::flushLoop, "category-log-flusher");
+        this.flusher.start();
+    }
+
+    public static FileCategoryGateway open(final Path aDirectory) throws IOException {
+        return open(aDirectory, DEFAULT_COMPACTION_THRESHOLD, DomainEventPublisher.noop());
+    }
+
+    public static FileCategoryGateway open(final Path aDirectory, final long aCompactionThreshold) throws IOException {
+        return open(aDirectory, aCompactionThreshold, DomainEventPublisher.noop());
+    }
+
+    /**
+     * Recovers the catalog by loading the newest snapshot and replaying the log
+     * written after it. A snapshot is taken in the background every time the
+     * log grows by the given number of bytes. Domain events of written
+     * categories are published once their entries are durable.
+     */
+    public static FileCategoryGateway open(
+        final Path aDirectory,
+        final long aCompactionThreshold,
+        final DomainEventPublisher aPublisher
+    ) throws IOException {
+        Objects.requireNonNull(aDirectory);
+        Objects.requireNonNull(aPublisher);
+        if (aCompactionThreshold <= 0) {
+            throw new IllegalArgumentException("'compactionThreshold' must be greater than 0");
+        }
+
+        final var memory = new InMemoryCategoryGateway();
+        final var snapshots = new SnapshotStore(aDirectory, SNAPSHOT_SEGMENT_BYTES);
+        final long snapshotLsn = snapshots.load(memory::createAll);
+        snapshots.deleteOlderThan(snapshotLsn);
+
+        final var replayed = new ArrayList<CategoryLogEntry>();
+        final var log = WriteAheadLog.open(aDirectory, LOG_SEGMENT_BYTES, snapshotLsn, replayed::add);
+        apply(memory, replayed);
+        return new FileCategoryGateway(memory, snapshots, snapshotLsn, log, aCompactionThreshold, aPublisher);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return save(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var snapshots = new ArrayList<Category>(aCategories.size());
+        aCategories.forEach(aCategory -> snapshots.add(Category.with(aCategory)));
+        append(PendingWrite.puts(snapshots));
+        aCategories.forEach(aCategory -> this.publisher.publishAll(aCategory.pullDomainEvents(aCategory.getVersion())));
+
+        final var created = new ArrayList<Category>(snapshots.size());
+        snapshots.forEach(aCategory -> created.add(Category.with(aCategory)));
+        return created;
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        Objects.requireNonNull(aCategory, "'category' should not be null");
+        final var snapshot = Category.with(aCategory, aCategory.getVersion() + 1);
+        append(PendingWrite.update(snapshot, Category.with(aCategory), Set.copyOf(aCategory.getChangedFields())));
+        this.publisher.publishAll(aCategory.pullDomainEvents(snapshot.getVersion()));
+        return Category.with(snapshot);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.memory.findById(anId);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        Objects.requireNonNull(anId);
+        final var write = PendingWrite.delete(anId);
+        append(write);
+        write.removed().forEach((aRemoved, aVersion) -> this.publisher.publish(CategoryDeleted.with(aRemoved, aVersion)));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.memory.findAll(aQuery);
+    }
+
+    /**
+     * Candidates are picked on the flusher thread, so a category reactivated
+     * by a write queued before the purge is never removed.
+     */
+    @Override
+    public List<CategoryID> purgeDeletedBefore(final Instant anInstant, final int aLimit) {
+        Objects.requireNonNull(anInstant);
+        if (aLimit <= 0) {
+            throw new IllegalArgumentException("'limit' must be greater than 0");
+        }
+        final var write = PendingWrite.purge(anInstant, aLimit);
+        append(write);
+        write.removed().forEach((anId, aVersion) -> this.publisher.publish(CategoryDeleted.with(anId, aVersion)));
+        return List.copyOf(write.removed().keySet());
+    }
+
+    /**
+     * Writes a snapshot of everything applied so far and drops the snapshots
+     * and log segments it makes redundant.
+     */
+    public void compact() {
+        this.compactionLock.lock();
+        try {
+            final long lsn = this.appliedLsn;
+            if (lsn == this.snapshotLsn) {
+                return;
+            }
+            this.snapshots.write(lsn, this.memory::forEach);
+            this.snapshots.deleteOlderThan(lsn);
+            this.log.deleteThrough(lsn);
+            this.snapshotLsn = lsn;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            this.compactionLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.hasWork.signal();
+        } finally {
+            this.lock.unlock();
+        }
+
+        try {
+            this.flusher.join();
+            this.compactor.shutdown();
+            this.compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.log.close();
+        }
+    }
+
+    private Category save(final Category aCategory) {
+        Objects.requireNonNull(aCategory, "'category' should not be null");
+        final var snapshot = Category.with(aCategory);
+        append(PendingWrite.puts(List.of(snapshot)));
+        this.publisher.publishAll(aCategory.pullDomainEvents(snapshot.getVersion()));
+        return Category.with(snapshot);
+    }
+
+    /**
+     * Queues a write and waits until it is durable. Conditions, such as the
+     * expected version of an update, are checked by the flusher in log order,
+     * so writes queued earlier in the same batch count.
+     */
+    private void append(final PendingWrite write) {
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("gateway is closed");
+            }
+            if (this.failure != null) {
+                throw new UncheckedIOException("write-ahead log is unavailable", asIOException(this.failure));
+            }
+
+            this.pending.add(write);
+            this.hasWork.signal();
+        } finally {
+            this.lock.unlock();
+        }
+
+        try {
+            write.done().join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            final List<PendingWrite> batch;
+            this.lock.lock();
+            try {
+                while (this.pending.isEmpty() && !this.closed) {
+                    this.hasWork.awaitUninterruptibly();
+                }
+                if (this.pending.isEmpty()) {
+                    return;
+                }
+                batch = this.pending;
+                this.pending = new ArrayList<>();
+            } finally {
+                this.lock.unlock();
+            }
+            flush(batch);
+        }
+    }
+
+    private void flush(final List<PendingWrite> aRequested) {
+        final var aBatch = new ArrayList<PendingWrite>(aRequested.size());
+        final var entries = new ArrayList<CategoryLogEntry>();
+        final var versions = new HashMap<CategoryID, Long>();
+        for (final var write : aRequested) {
+            final var expected = write.expected();
+            if (expected != null) {
+                final var stored = versions.getOrDefault(expected.getId(), this.memory.versionOf(expected.getId()));
+                try {
+                    InMemoryCategoryGateway.checkVersion(expected, stored);
+                } catch (final DomainException ex) {
+                    write.done().completeExceptionally(ex);
+                    continue;
+                }
+            }
+
+            aBatch.add(write);
+            if (write.purgeBefore() != null) {
+                for (final var anId : this.memory.deletedBefore(write.purgeBefore(), write.purgeLimit())) {
+                    if (!versions.containsKey(anId)) {
+                        write.removed().put(anId, this.memory.versionOf(anId));
+                    }
+                }
+            }
+            write.puts().forEach(aCategory -> {
+                entries.add(write.changed().isEmpty()
+                    ? CategoryLogEntry.put(++this.nextLsn, aCategory)
+                    : CategoryLogEntry.patch(++this.nextLsn, aCategory, write.changed()));
+                versions.put(aCategory.getId(), aCategory.getVersion());
+            });
+            // deleting a missing category leaves nothing in the log
+            for (final var anId : write.deletes()) {
+                final long version = versions.getOrDefault(anId, this.memory.versionOf(anId));
+                if (version >= 0) {
+                    write.removed().put(anId, version);
+                }
+            }
+            for (final var anId : write.removed().keySet()) {
+                entries.add(CategoryLogEntry.delete(++this.nextLsn, anId));
+                versions.put(anId, -1L);
+            }
+        }
+        if (entries.isEmpty()) {
+            aBatch.forEach(write -> write.done().complete(null));
+            return;
+        }
+
+        final long bytes;
+        try {
+            if (this.failure != null) {
+                throw asIOException(this.failure);
+            }
+            bytes = this.log.append(entries);
+        } catch (final IOException | RuntimeException ex) {
+            // after a failed fsync the file state is unknown, so no later write may be acknowledged
+            this.failure = ex;
+            final var error = new UncheckedIOException("could not write the write-ahead log", asIOException(ex));
+            aBatch.forEach(write -> write.done().completeExceptionally(error));
+            return;
+        }
+
+        apply(this.memory, entries);
+        this.appliedLsn = entries.get(entries.size() - 1).lsn();
+        aBatch.forEach(write -> write.done().complete(null));
+
+        this.bytesSinceSnapshot += bytes;
+        if (this.bytesSinceSnapshot >= this.compactionThreshold && this.compacting.compareAndSet(false, true)) {
+            this.bytesSinceSnapshot = 0;
+            this.compactor.execute(this::compactInBackground);
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (final RuntimeException ex) {
+            // the log keeps every write until a later compaction succeeds
+        } finally {
+            this.compacting.set(false);
+        }
+    }
+
+    // a patch needs the category it applies to, so the puts before it are stored first
+    private static void apply(final InMemoryCategoryGateway aMemory, final List<CategoryLogEntry> anEntries) {
+        final var puts = new ArrayList<Category>();
+        for (final var entry : anEntries) {
+            if (entry.type() == CategoryLogEntry.Type.PUT) {
+                puts.add(entry.category());
+                continue;
+            }
+            if (!puts.isEmpty()) {
+                aMemory.createAll(puts);
+                puts.clear();
+            }
+            if (entry.type() == CategoryLogEntry.Type.PATCH) {
+                aMemory.findById(entry.id()).ifPresent(aStored -> puts.add(entry.applyTo(aStored)));
+            } else {
+                aMemory.deleteById(entry.id());
+            }
+        }
+        if (!puts.isEmpty()) {
+            aMemory.createAll(puts);
+        }
+    }
+
+    private static IOException asIOException(final Exception anError) {
+        return anError instanceof IOException io ? io : new IOException(anError);
+    }
+
+    private static Thread daemon(final Runnable aTask, final String aName) {
+        final var thread = new Thread(aTask, aName);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record PendingWrite(
+        List<Category> puts,
+        List<CategoryID> deletes,
+        Category expected,
+        Instant purgeBefore,
+        int purgeLimit,
+        Map<CategoryID, Long> removed,
+        Set<CategoryField> changed,
+        CompletableFuture<Void> done
+    ) {
+        static PendingWrite puts(final List<Category> aPuts) {
+            return new PendingWrite(aPuts, List.of(), null, null, 0, Map.of(), Set.of(), new CompletableFuture<>());
+        }
+
+        // with changed fields the update is logged as a patch of just those
+        static PendingWrite update(final Category aSnapshot, final Category anExpected, final Set<CategoryField> aChanged) {
+            return new PendingWrite(List.of(aSnapshot), List.of(), anExpected, null, 0, Map.of(), aChanged, new CompletableFuture<>());
+        }
+
+        // the flusher fills 'removed' before completing a delete or a purge
+        static PendingWrite delete(final CategoryID anId) {
+            return new PendingWrite(List.of(), List.of(anId), null, null, 0, new LinkedHashMap<>(), Set.of(), new CompletableFuture<>());
+        }
+
+        static PendingWrite purge(final Instant anInstant, final int aLimit) {
+            return new PendingWrite(List.of(), List.of(), null, anInstant, aLimit, new LinkedHashMap<>(), Set.of(), new CompletableFuture<>());
+        }
+    }
+}
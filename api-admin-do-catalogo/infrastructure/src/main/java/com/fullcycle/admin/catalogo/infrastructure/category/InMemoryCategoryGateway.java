@@ -0,0 +1,484 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCursor;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.events.DomainEventPublisher;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryPartition;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySort;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.MergedSortedView;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.SortedIndex;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.SortedView;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class InMemoryCategoryGateway implements CategoryGateway {
+    public static final String RELEVANCE = "relevance";
+
+    // Term matches smaller than index size / ratio are sorted directly instead of scanning the sort index
+    private static final int SCAN_RATIO = 8;
+
+    private static final Comparator<Category> BY_DELETED_AT = Comparator
+        .comparing(Category::getDeletedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Category::getId);
+
+    private final Map<CategoryID, Category> categories;
+    private final CategoryPartition active;
+    private final CategoryPartition inactive;
+    private final SortedIndex<Category> inactiveByDeletedAt;
+    private final ReadWriteLock lock;
+    private final DomainEventPublisher publisher;
+
+    public InMemoryCategoryGateway() {
+        this(DomainEventPublisher.noop());
+    }
+
+    public InMemoryCategoryGateway(final DomainEventPublisher aPublisher) {
+        this.categories = new ConcurrentHashMap<>();
+        this.active = new CategoryPartition();
+        this.inactive = new CategoryPartition();
+        this.inactiveByDeletedAt = new SortedIndex<>(BY_DELETED_AT);
+        this.lock = new ReentrantReadWriteLock();
+        this.publisher = Objects.requireNonNull(aPublisher);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return save(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var snapshots = copyOf(aCategories);
+
+        this.lock.writeLock().lock();
+        try {
+            snapshots.forEach(this::store);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        aCategories.forEach(aCategory -> this.publisher.publishAll(aCategory.pullDomainEvents(aCategory.getVersion())));
+
+        return copyOf(snapshots);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        Objects.requireNonNull(aCategory, "'category' should not be null");
+        final var snapshot = Category.with(aCategory, aCategory.getVersion() + 1);
+
+        this.lock.writeLock().lock();
+        try {
+            checkVersion(aCategory, versionOf(aCategory.getId()));
+            store(snapshot);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        this.publisher.publishAll(aCategory.pullDomainEvents(snapshot.getVersion()));
+
+        return Category.with(snapshot);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return Optional.ofNullable(this.categories.get(anId)).map(Category::with);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        final Category previous;
+        this.lock.writeLock().lock();
+        try {
+            previous = this.categories.remove(anId);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        if (previous != null) {
+            this.publisher.publish(CategoryDeleted.with(anId, previous.getVersion()));
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        final var sort = CategorySort.from(aQuery.sort());
+        final var descending = CategorySort.isDescending(aQuery.direction());
+        final var perPage = Math.max(aQuery.perPage(), 0);
+        final var hasTerms = aQuery.terms() != null && !aQuery.terms().isBlank();
+
+        this.lock.readLock().lock();
+        try {
+            final var index = viewOf(sort, aQuery.active());
+            final var scores = hasTerms ? search(aQuery.terms(), aQuery.active()) : null;
+            if (scores != null && isRelevance(aQuery.sort())) {
+                return findByRelevance(aQuery, perPage, scores);
+            }
+
+            final var matches = scores == null ? null : scores.keySet();
+            if (aQuery.isKeyset()) {
+                return findAfter(aQuery.cursor(), perPage, sort, descending, index, matches);
+            }
+
+            final var page = Math.max(aQuery.page(), 0);
+            final var offset = (long) page * perPage;
+            if (matches == null) {
+                return new Pagination<>(page, perPage, index.size(), copyOf(index.slice(offset, perPage, descending)));
+            }
+
+            if (isSelective(matches, index)) {
+                final var sorted = sortedMatches(matches, sort, descending);
+                final var from = (int) Math.min(offset, sorted.size());
+                final var to = (int) Math.min(from + (long) perPage, sorted.size());
+                return new Pagination<>(page, perPage, matches.size(), copyOf(sorted.subList(from, to)));
+            }
+
+            final var items = new ArrayList<Category>(perPage);
+            final long[] skipped = {0};
+            if (perPage > 0) {
+                index.forEach(0, descending, aCategory -> {
+                    if (!matches.contains(aCategory.getId())) {
+                        return true;
+                    }
+                    if (skipped[0] < offset) {
+                        skipped[0]++;
+                        return true;
+                    }
+                    items.add(Category.with(aCategory));
+                    return items.size() < perPage;
+                });
+            }
+            return new Pagination<>(page, perPage, matches.size(), items);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stored version of the category, or -1 when there is none.
+     */
+    public long versionOf(final CategoryID anId) {
+        final var stored = this.categories.get(anId);
+        return stored == null ? -1 : stored.getVersion();
+    }
+
+    /**
+     * Throws the error {@link #update} reports when the category's version no
+     * longer matches the stored one.
+     */
+    static void checkVersion(final Category aCategory, final long aStoredVersion) {
+        if (aStoredVersion < 0) {
+            throw NotFoundException.with(Category.class, aCategory.getId());
+        }
+        if (aStoredVersion != aCategory.getVersion()) {
+            throw VersionConflictException.with(aCategory, aStoredVersion);
+        }
+    }
+
+    /**
+     * Deactivated categories are kept in their own partition, ordered by
+     * deletion time as well, so the purge only visits what it removes.
+     */
+    @Override
+    public List<CategoryID> purgeDeletedBefore(final Instant anInstant, final int aLimit) {
+        if (aLimit <= 0) {
+            throw new IllegalArgumentException("'limit' must be greater than 0");
+        }
+
+        final var purged = new ArrayList<Category>();
+        this.lock.writeLock().lock();
+        try {
+            while (purged.size() < aLimit && !this.inactiveByDeletedAt.isEmpty()) {
+                final var oldest = this.inactiveByDeletedAt.get(0);
+                if (oldest.getDeletedAt() == null || !oldest.getDeletedAt().isBefore(anInstant)) {
+                    break;
+                }
+                this.categories.remove(oldest.getId());
+                unindex(oldest);
+                purged.add(oldest);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        purged.forEach(aCategory -> this.publisher.publish(CategoryDeleted.with(aCategory.getId(), aCategory.getVersion())));
+        return purged.stream().map(Category::getId).toList();
+    }
+
+    /**
+     * Ids of up to {@code aLimit} deactivated categories deleted before the
+     * given instant, oldest first, without removing them.
+     */
+    public List<CategoryID> deletedBefore(final Instant anInstant, final int aLimit) {
+        final var ids = new ArrayList<CategoryID>();
+        this.lock.readLock().lock();
+        try {
+            this.inactiveByDeletedAt.forEach(0, false, aCategory -> {
+                if (aCategory.getDeletedAt() == null || !aCategory.getDeletedAt().isBefore(anInstant)) {
+                    return false;
+                }
+                ids.add(aCategory.getId());
+                return ids.size() < aLimit;
+            });
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    public int size() {
+        return this.categories.size();
+    }
+
+    /**
+     * Visits a copy of every stored category. Writes made during the visit may
+     * or may not be seen, but each visited category is a consistent version.
+     */
+    public void forEach(final Consumer<? super Category> aConsumer) {
+        this.categories.values().forEach(aCategory -> aConsumer.accept(Category.with(aCategory)));
+    }
+
+    private Pagination<Category> findAfter(
+        final String aCursor,
+        final int perPage,
+        final CategorySort sort,
+        final boolean descending,
+        final SortedView<Category> index,
+        final Set<CategoryID> matches
+    ) {
+        final var probe = aCursor.isEmpty() ? null : probeOf(CategoryCursor.decode(aCursor), sort);
+        final var comparator = sort.comparator(descending);
+        // one extra item tells whether there is a next page
+        final var limit = perPage + 1;
+        final var items = new ArrayList<Category>(limit);
+
+        if (perPage > 0 && matches != null && isSelective(matches, index)) {
+            final var sorted = sortedMatches(matches, sort, descending);
+            int start = 0;
+            if (probe != null) {
+                final int position = Collections.binarySearch(sorted, probe, comparator);
+                start = position >= 0 ? position + 1 : -position - 1;
+            }
+            items.addAll(sorted.subList(start, Math.min(start + limit, sorted.size())));
+        } else if (perPage > 0) {
+            index.forEach(startAfter(index, probe, sort, descending), descending, aCategory -> {
+                if (matches == null || matches.contains(aCategory.getId())) {
+                    items.add(aCategory);
+                }
+                return items.size() < limit;
+            });
+        }
+
+        String nextCursor = null;
+        if (items.size() == limit) {
+            items.remove(perPage);
+            nextCursor = sort.cursorOf(items.get(perPage - 1)).encode();
+        }
+        return Pagination.keyset(perPage, copyOf(items), nextCursor);
+    }
+
+    private Pagination<Category> findByRelevance(
+        final CategorySearchQuery aQuery,
+        final int perPage,
+        final Map<CategoryID, Integer> scores
+    ) {
+        final var ranked = new ArrayList<Category>(scores.size());
+        scores.keySet().forEach(anId -> ranked.add(this.categories.get(anId)));
+        ranked.sort(Comparator.<Category>comparingInt(aCategory -> scores.get(aCategory.getId()))
+            .reversed()
+            .thenComparing(Category::getId));
+
+        if (!aQuery.isKeyset()) {
+            final var page = Math.max(aQuery.page(), 0);
+            final var from = (int) Math.min((long) page * perPage, ranked.size());
+            final var to = (int) Math.min(from + (long) perPage, ranked.size());
+            return new Pagination<>(page, perPage, ranked.size(), copyOf(ranked.subList(from, to)));
+        }
+
+        int start = 0;
+        if (!aQuery.cursor().isEmpty()) {
+            final var aCursor = CategoryCursor.decode(aQuery.cursor());
+            if (!RELEVANCE.equals(aCursor.sort())) {
+                throw cursorMismatch(RELEVANCE);
+            }
+            start = rankedPositionAfter(ranked, scores, parseScore(aCursor.key()), aCursor.id());
+        }
+
+        final var items = new ArrayList<>(ranked.subList(start, Math.min(start + perPage + 1, ranked.size())));
+        String nextCursor = null;
+        if (perPage > 0 && items.size() > perPage) {
+            items.remove(perPage);
+            final var last = items.get(perPage - 1);
+            nextCursor = CategoryCursor.of(RELEVANCE, String.valueOf(scores.get(last.getId())), last.getId()).encode();
+        }
+        return Pagination.keyset(perPage, copyOf(perPage > 0 ? items : List.of()), nextCursor);
+    }
+
+    private static int rankedPositionAfter(
+        final List<Category> ranked,
+        final Map<CategoryID, Integer> scores,
+        final int aScore,
+        final CategoryID anId
+    ) {
+        int low = 0;
+        int high = ranked.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final var candidate = ranked.get(middle);
+            final int score = scores.get(candidate.getId());
+            final boolean isAfter = score < aScore || (score == aScore && candidate.getId().compareTo(anId) > 0);
+            if (isAfter) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isRelevance(final String aSort) {
+        return aSort == null || aSort.isBlank() || RELEVANCE.equalsIgnoreCase(aSort);
+    }
+
+    private static int parseScore(final String aKey) {
+        try {
+            return Integer.parseInt(aKey);
+        } catch (final NumberFormatException ex) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
+
+    private static Category probeOf(final CategoryCursor aCursor, final CategorySort sort) {
+        if (!sort.field().equals(aCursor.sort())) {
+            throw cursorMismatch(sort.field());
+        }
+        return sort.probe(aCursor.key(), aCursor.id());
+    }
+
+    private static DomainException cursorMismatch(final String aSort) {
+        return DomainException.with(new Error("'cursor' does not match sort '%s'".formatted(aSort)));
+    }
+
+    // Position, in iteration order, of the first item strictly after the probe
+    private static int startAfter(
+        final SortedView<Category> index,
+        final Category probe,
+        final CategorySort sort,
+        final boolean descending
+    ) {
+        if (probe == null) {
+            return 0;
+        }
+
+        final int rank = index.rank(probe);
+        if (descending) {
+            return index.size() - rank;
+        }
+
+        final boolean probeStillExists = rank < index.size() && sort.comparator().compare(index.get(rank), probe) == 0;
+        return probeStillExists ? rank + 1 : rank;
+    }
+
+    private boolean isSelective(final Set<CategoryID> matches, final SortedView<Category> index) {
+        return (long) matches.size() * SCAN_RATIO < index.size();
+    }
+
+    private List<Category> sortedMatches(final Set<CategoryID> matches, final CategorySort sort, final boolean descending) {
+        final var sorted = new ArrayList<Category>(matches.size());
+        matches.forEach(anId -> sorted.add(this.categories.get(anId)));
+        sorted.sort(sort.comparator(descending));
+        return sorted;
+    }
+
+    private Category save(final Category aCategory) {
+        Objects.requireNonNull(aCategory, "'category' should not be null");
+        final var snapshot = Category.with(aCategory);
+
+        this.lock.writeLock().lock();
+        try {
+            store(snapshot);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        this.publisher.publishAll(aCategory.pullDomainEvents(snapshot.getVersion()));
+
+        return Category.with(snapshot);
+    }
+
+    private SortedView<Category> viewOf(final CategorySort sort, final Boolean isActive) {
+        if (isActive == null) {
+            return new MergedSortedView<>(this.active.index(sort), this.inactive.index(sort), sort.comparator());
+        }
+        return partitionOf(isActive).index(sort);
+    }
+
+    private Map<CategoryID, Integer> search(final String terms, final Boolean isActive) {
+        if (isActive != null) {
+            return partitionOf(isActive).search(terms);
+        }
+        final var scores = new HashMap<>(this.active.search(terms));
+        scores.putAll(this.inactive.search(terms));
+        return scores;
+    }
+
+    private CategoryPartition partitionOf(final boolean isActive) {
+        return isActive ? this.active : this.inactive;
+    }
+
+    // A category moves between partitions when its active state changes
+    private void store(final Category aSnapshot) {
+        final var previous = this.categories.put(aSnapshot.getId(), aSnapshot);
+        final var target = partitionOf(aSnapshot.getIsActive());
+        if (previous == null) {
+            target.add(aSnapshot);
+        } else if (previous.getIsActive() == aSnapshot.getIsActive()) {
+            target.replace(previous, aSnapshot);
+        } else {
+            partitionOf(previous.getIsActive()).remove(previous);
+            target.add(aSnapshot);
+        }
+
+        final boolean wasInactive = previous != null && !previous.getIsActive();
+        if (wasInactive && !aSnapshot.getIsActive()) {
+            this.inactiveByDeletedAt.replace(previous, aSnapshot);
+        } else if (wasInactive) {
+            this.inactiveByDeletedAt.remove(previous);
+        } else if (!aSnapshot.getIsActive()) {
+            this.inactiveByDeletedAt.add(aSnapshot);
+        }
+    }
+
+    private void unindex(final Category aCategory) {
+        partitionOf(aCategory.getIsActive()).remove(aCategory);
+        if (!aCategory.getIsActive()) {
+            this.inactiveByDeletedAt.remove(aCategory);
+        }
+    }
+
+    private static List<Category> copyOf(final List<Category> categories) {
+        final var copies = new ArrayList<Category>(categories.size());
+        categories.forEach(aCategory -> copies.add(Category.with(aCategory)));
+        return copies;
+    }
+}
@@ -0,0 +1,352 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCursor;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.events.DomainEventPublisher;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Spreads categories over several gateways by the hash of their id. Point
+ * reads and writes go to the one shard owning the id; {@link #findAll} asks
+ * every shard in parallel for the first items of the page and merges their
+ * sorted results. Relevance is recomputed from each category and the search
+ * terms, which gives the score the shard's own index would have.
+ * <p>
+ * An offset page {@code p} reads {@code (p + 1) * perPage} items from every
+ * shard, so deep pages are better served by keyset queries, which read
+ * {@code perPage + 1}.
+ */
+public class ShardedCategoryGateway implements CategoryGateway, AutoCloseable {
+    private final List<CategoryGateway> shards;
+    private final ExecutorService fanOut;
+
+    public ShardedCategoryGateway(final List<? extends CategoryGateway> aShards) {
+        if (aShards.isEmpty()) {
+            throw new IllegalArgumentException("'shards' should not be empty");
+        }
+        this.shards = List.copyOf(aShards);
+        final var sequence = new AtomicInteger();
+        this.fanOut = Executors.newFixedThreadPool(this.shards.size(), aTask -> {
+            final var thread = new Thread(aTask, "category-shard-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static ShardedCategoryGateway inMemory(final int aShardCount) {
+        return inMemory(aShardCount, DomainEventPublisher.noop());
+    }
+
+    public static ShardedCategoryGateway inMemory(final int aShardCount, final DomainEventPublisher aPublisher) {
+        final var shards = new ArrayList<InMemoryCategoryGateway>(aShardCount);
+        for (int i = 0; i < aShardCount; i++) {
+            shards.add(new InMemoryCategoryGateway(aPublisher));
+        }
+        return new ShardedCategoryGateway(shards);
+    }
+
+    /**
+     * Opens one {@link FileCategoryGateway} per {@code shard-<n>} directory, each
+     * with its own log and flusher. The shard count of a directory must not
+     * change once it holds data.
+     */
+    public static ShardedCategoryGateway open(final Path aDirectory, final int aShardCount) throws IOException {
+        return open(aDirectory, aShardCount, DomainEventPublisher.noop());
+    }
+
+    public static ShardedCategoryGateway open(
+        final Path aDirectory,
+        final int aShardCount,
+        final DomainEventPublisher aPublisher
+    ) throws IOException {
+        final var shards = new ArrayList<FileCategoryGateway>(aShardCount);
+        try {
+            for (int i = 0; i < aShardCount; i++) {
+                final var shardDirectory = aDirectory.resolve("shard-" + i);
+                Files.createDirectories(shardDirectory);
+                shards.add(FileCategoryGateway.open(shardDirectory, FileCategoryGateway.DEFAULT_COMPACTION_THRESHOLD, aPublisher));
+            }
+        } catch (final IOException | RuntimeException ex) {
+            for (final var shard : shards) {
+                shard.close();
+            }
+            throw ex;
+        }
+        return new ShardedCategoryGateway(shards);
+    }
+
+    public int shardCount() {
+        return this.shards.size();
+    }
+
+    public int shardOf(final CategoryID anId) {
+        return Math.floorMod(anId.hashCode(), this.shards.size());
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return shardFor(aCategory.getId()).create(aCategory);
+    }
+
+    /**
+     * Creates each shard's categories with one {@code createAll} per shard, in
+     * parallel, and returns them in the given order.
+     */
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var byShard = new ArrayList<List<Integer>>(this.shards.size());
+        for (int i = 0; i < this.shards.size(); i++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (int i = 0; i < aCategories.size(); i++) {
+            byShard.get(shardOf(aCategories.get(i).getId())).add(i);
+        }
+
+        final var created = fanOut(shard -> {
+            final var positions = byShard.get(shard);
+            if (positions.isEmpty()) {
+                return List.<Category>of();
+            }
+            final var batch = new ArrayList<Category>(positions.size());
+            positions.forEach(position -> batch.add(aCategories.get(position)));
+            return this.shards.get(shard).createAll(batch);
+        });
+
+        final var result = new ArrayList<Category>(aCategories.size());
+        for (int i = 0; i < aCategories.size(); i++) {
+            result.add(null);
+        }
+        for (int shard = 0; shard < created.size(); shard++) {
+            final var positions = byShard.get(shard);
+            for (int i = 0; i < positions.size(); i++) {
+                result.set(positions.get(i), created.get(shard).get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return shardFor(aCategory.getId()).update(aCategory);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return shardFor(anId).findById(anId);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        shardFor(anId).deleteById(anId);
+    }
+
+    /**
+     * Purges shard by shard until {@code aLimit} ids are gone, so the limit
+     * holds for the whole call as it does on a single gateway.
+     */
+    @Override
+    public List<CategoryID> purgeDeletedBefore(final Instant anInstant, final int aLimit) {
+        if (aLimit <= 0) {
+            throw new IllegalArgumentException("'limit' must be greater than 0");
+        }
+        final var purged = new ArrayList<CategoryID>();
+        for (final var shard : this.shards) {
+            if (purged.size() == aLimit) {
+                break;
+            }
+            purged.addAll(shard.purgeDeletedBefore(anInstant, aLimit - purged.size()));
+        }
+        return purged;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (this.shards.size() == 1) {
+            return this.shards.get(0).findAll(aQuery);
+        }
+
+        final var perPage = Math.max(aQuery.perPage(), 0);
+        final var hasTerms = aQuery.terms() != null && !aQuery.terms().isBlank();
+        final var byRelevance = hasTerms && isRelevance(aQuery.sort());
+        final var sort = CategorySort.from(aQuery.sort());
+
+        if (aQuery.isKeyset()) {
+            final var pages = fanOut(shard -> this.shards.get(shard).findAll(aQuery));
+            final var scores = byRelevance ? scoresOf(pages, aQuery.terms()) : null;
+            final var items = merge(pages, orderOf(sort, aQuery.direction(), scores), 0, perPage + 1);
+
+            String nextCursor = null;
+            final var hasNext = items.size() > perPage || pages.stream().anyMatch(Pagination::hasNext);
+            if (items.size() > perPage) {
+                items.remove(perPage);
+            }
+            if (perPage > 0 && hasNext && !items.isEmpty()) {
+                final var last = items.get(items.size() - 1);
+                nextCursor = scores != null
+                    ? CategoryCursor.of(InMemoryCategoryGateway.RELEVANCE, String.valueOf(scores.get(last)), last.getId()).encode()
+                    : sort.cursorOf(last).encode();
+            }
+            return Pagination.keyset(perPage, items, nextCursor);
+        }
+
+        final var page = Math.max(aQuery.page(), 0);
+        final var offset = (long) page * perPage;
+        final var shardQuery = new CategorySearchQuery(
+            0,
+            (int) Math.min(offset + perPage, Integer.MAX_VALUE),
+            aQuery.terms(),
+            aQuery.sort(),
+            aQuery.direction(),
+            null,
+            aQuery.active()
+        );
+        final var pages = fanOut(shard -> this.shards.get(shard).findAll(shardQuery));
+        final var scores = byRelevance ? scoresOf(pages, aQuery.terms()) : null;
+
+        long total = 0;
+        for (final var aPage : pages) {
+            if (!aPage.hasTotal()) {
+                total = Pagination.UNKNOWN_TOTAL;
+                break;
+            }
+            total += aPage.total();
+        }
+        return new Pagination<>(page, perPage, total, merge(pages, orderOf(sort, aQuery.direction(), scores), offset, perPage));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.fanOut.shutdown();
+        try {
+            this.fanOut.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        IOException failure = null;
+        for (final var shard : this.shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (final Exception ex) {
+                    final var error = ex instanceof IOException io ? io : new IOException("could not close a shard", ex);
+                    if (failure == null) {
+                        failure = error;
+                    } else {
+                        failure.addSuppressed(error);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private CategoryGateway shardFor(final CategoryID anId) {
+        return this.shards.get(shardOf(anId));
+    }
+
+    // Runs the call for every shard index at once and returns the results in shard order
+    private <T> List<T> fanOut(final IntFunction<T> aCall) {
+        final var futures = new ArrayList<CompletableFuture<T>>(this.shards.size());
+        for (int i = 0; i < this.shards.size(); i++) {
+            final int shard = i;
+            futures.add(CompletableFuture.supplyAsync(() -> aCall.apply(shard), this.fanOut));
+        }
+
+        final var results = new ArrayList<T>(futures.size());
+        try {
+            for (final var future : futures) {
+                results.add(future.join());
+            }
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    // k-way merge of the sorted shard pages, keeping items [skip, skip + limit)
+    private static List<Category> merge(
+        final List<Pagination<Category>> pages,
+        final Comparator<Category> order,
+        final long skip,
+        final int limit
+    ) {
+        final var heads = new PriorityQueue<Head>(pages.size(), (left, right) -> order.compare(left.current(), right.current()));
+        for (final var aPage : pages) {
+            if (!aPage.items().isEmpty()) {
+                heads.add(new Head(aPage.items(), 0));
+            }
+        }
+
+        final var items = new ArrayList<Category>(limit);
+        long seen = 0;
+        while (!heads.isEmpty() && items.size() < limit) {
+            final var head = heads.poll();
+            if (seen++ >= skip) {
+                items.add(head.current());
+            }
+            if (head.position() + 1 < head.items().size()) {
+                heads.add(new Head(head.items(), head.position() + 1));
+            }
+        }
+        return items;
+    }
+
+    private static Map<Category, Integer> scoresOf(final List<Pagination<Category>> pages, final String terms) {
+        final var scores = new IdentityHashMap<Category, Integer>();
+        pages.forEach(aPage -> aPage.items().forEach(aCategory ->
+            scores.put(aCategory, CategorySearchIndex.scoreOf(aCategory, terms))
+        ));
+        return scores;
+    }
+
+    private static Comparator<Category> orderOf(
+        final CategorySort sort,
+        final String aDirection,
+        final Map<Category, Integer> scores
+    ) {
+        if (scores == null) {
+            return sort.comparator(CategorySort.isDescending(aDirection));
+        }
+        return Comparator.<Category>comparingInt(scores::get).reversed().thenComparing(Category::getId);
+    }
+
+    private static boolean isRelevance(final String aSort) {
+        return aSort == null || aSort.isBlank() || InMemoryCategoryGateway.RELEVANCE.equalsIgnoreCase(aSort);
+    }
+
+    private record Head(List<Category> items, int position) {
+        Category current() {
+            return items.get(position);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import com.fullcycle.admin.catalogo.application.category.export.CategoryExportWriter;
+
+import java.io.OutputStream;
+import java.util.function.Function;
+
+public enum CategoryExportFormat {
+    NDJSON("application/x-ndjson", NdjsonCategoryExportWriter::new),
+    CSV("text/csv; charset=utf-8", CsvCategoryExportWriter::new);
+
+    private final String contentType;
+    private final Function<OutputStream, CategoryExportWriter> factory;
+
+    CategoryExportFormat(final String aContentType, final Function<OutputStream, CategoryExportWriter> aFactory) {
+        this.contentType = aContentType;
+        this.factory = aFactory;
+    }
+
+    public static CategoryExportFormat from(final String aFormat) {
+        if (aFormat == null || aFormat.isBlank()) {
+            return NDJSON;
+        }
+        for (final var format : values()) {
+            if (format.name().equalsIgnoreCase(aFormat)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("'format' should be one of ndjson, csv");
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public CategoryExportWriter writerFor(final OutputStream anOut) {
+        return factory.apply(anOut);
+    }
+}
@@ -0,0 +1,101 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import com.fullcycle.admin.catalogo.application.category.export.CategoryExportWriter;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * RFC 4180 CSV with a header row; empty cells stand for missing values.
+ */
+public class CsvCategoryExportWriter implements CategoryExportWriter {
+    public static final String HEADER = "id,name,description,is_active,created_at,updated_at,deleted_at";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer out;
+    private boolean headerWritten;
+
+    public CsvCategoryExportWriter(final OutputStream anOut) {
+        this.out = new BufferedWriter(new OutputStreamWriter(anOut, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(final Category aCategory) {
+        try {
+            writeHeaderOnce();
+            this.out.write(aCategory.getId().getValue());
+            this.out.write(',');
+            writeText(aCategory.getName());
+            this.out.write(',');
+            writeText(aCategory.getDescription());
+            this.out.write(',');
+            this.out.write(aCategory.getIsActive() ? "true" : "false");
+            this.out.write(',');
+            writeInstant(aCategory.getCreatedAt());
+            this.out.write(',');
+            writeInstant(aCategory.getUpdatedAt());
+            this.out.write(',');
+            writeInstant(aCategory.getDeletedAt());
+            this.out.write("\r\n");
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writeHeaderOnce();
+            this.out.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeHeaderOnce() throws IOException {
+        if (!this.headerWritten) {
+            this.out.write(HEADER);
+            this.out.write("\r\n");
+            this.headerWritten = true;
+        }
+    }
+
+    private void writeText(final String aValue) throws IOException {
+        if (aValue == null) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < aValue.length() && !needsQuotes; i++) {
+            final char c = aValue.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            this.out.write(aValue);
+            return;
+        }
+
+        this.out.write('"');
+        for (int i = 0; i < aValue.length(); i++) {
+            final char c = aValue.charAt(i);
+            if (c == '"') {
+                this.out.write('"');
+            }
+            this.out.write(c);
+        }
+        this.out.write('"');
+    }
+
+    private void writeInstant(final Instant aValue) throws IOException {
+        if (aValue != null) {
+            this.out.write(aValue.toString());
+        }
+    }
+}
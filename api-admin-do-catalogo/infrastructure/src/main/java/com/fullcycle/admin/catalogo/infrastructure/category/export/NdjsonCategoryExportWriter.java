@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import com.fullcycle.admin.catalogo.application.category.export.CategoryExportWriter;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonWriter;
+
+import java.io.OutputStream;
+
+/**
+ * One JSON object per line, using the field names of the HTTP API.
+ */
+public class NdjsonCategoryExportWriter implements CategoryExportWriter {
+    private final JsonWriter out;
+
+    public NdjsonCategoryExportWriter(final OutputStream anOut) {
+        this.out = new JsonWriter(anOut);
+    }
+
+    @Override
+    public void write(final Category aCategory) {
+        this.out.beginObject()
+            .name("id").value(aCategory.getId().getValue())
+            .name("name").value(aCategory.getName())
+            .name("description").value(aCategory.getDescription())
+            .name("is_active").value(aCategory.getIsActive())
+            .name("created_at").value(aCategory.getCreatedAt())
+            .name("updated_at").value(aCategory.getUpdatedAt())
+            .name("deleted_at").value(aCategory.getDeletedAt())
+            .endObject()
+            .newLine();
+    }
+
+    @Override
+    public void flush() {
+        this.out.flush();
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Import files are read with the same layouts the export writes: NDJSON with
+ * the API field names, or CSV with a header row naming the columns.
+ */
+public enum CategoryImportFormat {
+    NDJSON(false),
+    CSV(true);
+
+    private final boolean quoted;
+
+    CategoryImportFormat(final boolean quoted) {
+        this.quoted = quoted;
+    }
+
+    public static CategoryImportFormat from(final String aFormat) {
+        for (final var format : values()) {
+            if (format.name().equalsIgnoreCase(aFormat)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("'format' should be one of ndjson, csv");
+    }
+
+    public static CategoryImportFormat fromFileName(final Path aFile) {
+        final var name = aFile.getFileName().toString().toLowerCase(Locale.ROOT);
+        return from(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Whether line breaks may appear inside quoted values, so that records
+     * cannot be split on every line break.
+     */
+    boolean quoted() {
+        return quoted;
+    }
+}
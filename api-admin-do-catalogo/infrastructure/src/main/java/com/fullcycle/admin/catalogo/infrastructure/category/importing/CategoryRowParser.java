@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+
+/**
+ * Turns one record into a command, throwing an unchecked exception with a
+ * readable message when the record is malformed. Called from several threads.
+ */
+interface CategoryRowParser {
+    CreateCategoryCommand parse(byte[] aRecord, String aRaw);
+}
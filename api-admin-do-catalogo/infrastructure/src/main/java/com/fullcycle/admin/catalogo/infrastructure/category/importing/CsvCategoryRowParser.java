@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records, picking the {@code name}, {@code description} and
+ * {@code is_active} columns by their header names and ignoring any others.
+ * Empty cells read as missing values.
+ */
+final class CsvCategoryRowParser implements CategoryRowParser {
+    private final int nameColumn;
+    private final int descriptionColumn;
+    private final int isActiveColumn;
+    private final int columns;
+
+    private CsvCategoryRowParser(final List<String> aHeader) {
+        this.nameColumn = aHeader.indexOf("name");
+        this.descriptionColumn = aHeader.indexOf("description");
+        this.isActiveColumn = aHeader.indexOf("is_active");
+        this.columns = aHeader.size();
+        if (this.nameColumn < 0) {
+            throw new IllegalArgumentException("CSV header should have a 'name' column");
+        }
+    }
+
+    static CsvCategoryRowParser fromHeader(final String aHeader) {
+        final var header = split(aHeader);
+        header.replaceAll(aName -> aName == null ? "" : aName.trim());
+        return new CsvCategoryRowParser(header);
+    }
+
+    @Override
+    public CreateCategoryCommand parse(final byte[] aRecord, final String aRaw) {
+        final var fields = split(aRaw);
+        if (fields.size() != this.columns) {
+            throw new IllegalArgumentException("expected %d columns but found %d".formatted(this.columns, fields.size()));
+        }
+        return CreateCategoryCommand.with(
+            fields.get(this.nameColumn),
+            this.descriptionColumn < 0 ? null : fields.get(this.descriptionColumn),
+            this.isActiveColumn < 0 || isActive(fields.get(this.isActiveColumn))
+        );
+    }
+
+    private static boolean isActive(final String aValue) {
+        if (aValue == null || "true".equalsIgnoreCase(aValue)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(aValue)) {
+            return false;
+        }
+        throw new IllegalArgumentException("'is_active' should be true or false");
+    }
+
+    static List<String> split(final String aRecord) {
+        final var fields = new ArrayList<String>();
+        final var field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < aRecord.length(); i++) {
+            final char c = aRecord.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < aRecord.length() && aRecord.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                if (field.length() > 0) {
+                    throw new IllegalArgumentException("unexpected quote in column %d".formatted(fields.size() + 1));
+                }
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(cellOf(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quote in column %d".formatted(fields.size() + 1));
+        }
+        fields.add(cellOf(field, wasQuoted));
+        return fields;
+    }
+
+    private static String cellOf(final StringBuilder aField, final boolean wasQuoted) {
+        return aField.length() == 0 && !wasQuoted ? null : aField.toString();
+    }
+}
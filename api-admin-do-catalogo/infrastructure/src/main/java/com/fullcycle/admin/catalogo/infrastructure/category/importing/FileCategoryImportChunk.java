@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.importing.CategoryImportChunk;
+import com.fullcycle.admin.catalogo.application.category.importing.CategoryImportRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class FileCategoryImportChunk implements CategoryImportChunk {
+    private final byte[] data;
+    private final long firstLine;
+    private final CategoryRowParser parser;
+    private final boolean quoted;
+
+    FileCategoryImportChunk(final byte[] aData, final long aFirstLine, final CategoryRowParser aParser, final boolean quoted) {
+        this.data = aData;
+        this.firstLine = aFirstLine;
+        this.parser = aParser;
+        this.quoted = quoted;
+    }
+
+    @Override
+    public List<CategoryImportRow> rows() {
+        final var rows = new ArrayList<CategoryImportRow>();
+        var line = this.firstLine;
+        int start = 0;
+        while (start < this.data.length) {
+            final int end = recordEnd(this.data, start, this.data.length, this.quoted);
+            final var raw = decode(this.data, start, end);
+            if (!raw.isBlank()) {
+                rows.add(parse(line, raw, start, end));
+            }
+            for (int i = start; i < end; i++) {
+                if (this.data[i] == '\n') {
+                    line++;
+                }
+            }
+            line++;
+            start = end + 1;
+        }
+        return rows;
+    }
+
+    private CategoryImportRow parse(final long aLine, final String aRaw, final int aStart, final int anEnd) {
+        try {
+            final var aCommand = this.parser.parse(Arrays.copyOfRange(this.data, aStart, anEnd), aRaw);
+            return CategoryImportRow.parsed(aLine, aRaw, aCommand);
+        } catch (final RuntimeException ex) {
+            return CategoryImportRow.malformed(aLine, aRaw, ex.getMessage());
+        }
+    }
+
+    /**
+     * Index of the line break ending the record that starts at {@code aStart},
+     * or {@code anEnd} when the record is the last one.
+     */
+    static int recordEnd(final byte[] aData, final int aStart, final int anEnd, final boolean quoted) {
+        boolean inQuotes = false;
+        for (int i = aStart; i < anEnd; i++) {
+            final byte b = aData[i];
+            if (b == '"' && quoted) {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes) {
+                return i;
+            }
+        }
+        return anEnd;
+    }
+
+    static String decode(final byte[] aData, final int aStart, final int anEnd) {
+        final int end = anEnd > aStart && aData[anEnd - 1] == '\r' ? anEnd - 1 : anEnd;
+        return new String(aData, aStart, end - aStart, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.importing.CategoryImportRejections;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes every rejected row as one NDJSON line holding its line number, the
+ * error messages and the original text, so the file can be fixed and fed back.
+ */
+public class FileCategoryImportRejections implements CategoryImportRejections, AutoCloseable {
+    private final OutputStream file;
+    private final JsonWriter out;
+
+    private FileCategoryImportRejections(final OutputStream aFile) {
+        this.file = aFile;
+        this.out = new JsonWriter(aFile);
+    }
+
+    public static FileCategoryImportRejections open(final Path aFile) throws IOException {
+        return new FileCategoryImportRejections(Files.newOutputStream(aFile));
+    }
+
+    @Override
+    public void reject(final long aLine, final String aRaw, final List<Error> anErrors) {
+        this.out.beginObject()
+            .name("line").value(aLine)
+            .name("errors").beginArray();
+        anErrors.forEach(anError -> this.out.value(anError.message()));
+        this.out.endArray()
+            .name("row").value(aRaw)
+            .endObject()
+            .newLine();
+    }
+
+    @Override
+    public void flush() {
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            this.file.close();
+        }
+    }
+}
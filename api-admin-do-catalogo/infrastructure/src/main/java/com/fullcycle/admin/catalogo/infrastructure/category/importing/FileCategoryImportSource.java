@@ -0,0 +1,139 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.importing.CategoryImportChunk;
+import com.fullcycle.admin.catalogo.application.category.importing.CategoryImportSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads an import file through a single reused buffer, cutting it after the
+ * last complete record of every fill. The reader thread only scans for record
+ * boundaries; decoding and parsing happen when the chunk's rows are requested.
+ * A record larger than the buffer grows it.
+ */
+public class FileCategoryImportSource implements CategoryImportSource {
+    public static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final CategoryImportFormat format;
+    private ByteBuffer buffer;
+    private CategoryRowParser parser;
+    private long nextLine;
+    private boolean exhausted;
+
+    private FileCategoryImportSource(final FileChannel aChannel, final CategoryImportFormat aFormat, final int aChunkBytes) {
+        this.channel = aChannel;
+        this.format = aFormat;
+        this.buffer = ByteBuffer.allocate(aChunkBytes);
+        this.parser = aFormat == CategoryImportFormat.NDJSON ? new NdjsonCategoryRowParser() : null;
+        this.nextLine = 1;
+    }
+
+    public static FileCategoryImportSource open(final Path aFile, final CategoryImportFormat aFormat) throws IOException {
+        return open(aFile, aFormat, DEFAULT_CHUNK_BYTES);
+    }
+
+    public static FileCategoryImportSource open(
+        final Path aFile,
+        final CategoryImportFormat aFormat,
+        final int aChunkBytes
+    ) throws IOException {
+        if (aChunkBytes <= 0) {
+            throw new IllegalArgumentException("'chunkBytes' must be greater than 0");
+        }
+        return new FileCategoryImportSource(FileChannel.open(aFile, StandardOpenOption.READ), aFormat, aChunkBytes);
+    }
+
+    @Override
+    public CategoryImportChunk nextChunk() throws IOException {
+        while (true) {
+            fill();
+            final int length = this.buffer.position();
+            if (length == 0) {
+                return null;
+            }
+
+            final var data = this.buffer.array();
+            final int end = this.exhausted ? length : lastRecordEnd(data, length);
+            if (end < 0) {
+                this.buffer = ByteBuffer.allocate(this.buffer.capacity() * 2).put(this.buffer.flip());
+                continue;
+            }
+
+            int start = 0;
+            if (this.parser == null) {
+                start = readHeader(data, end);
+            }
+            final var chunk = new FileCategoryImportChunk(Arrays.copyOfRange(data, start, end), this.nextLine, this.parser, this.format.quoted());
+            this.nextLine += countLines(data, start, end);
+
+            this.buffer.limit(length).position(end);
+            this.buffer.compact();
+            if (start == end && !this.exhausted) {
+                continue;
+            }
+            return chunk;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private void fill() throws IOException {
+        while (!this.exhausted && this.buffer.hasRemaining()) {
+            if (this.channel.read(this.buffer) < 0) {
+                this.exhausted = true;
+            }
+        }
+    }
+
+    private int lastRecordEnd(final byte[] aData, final int aLength) {
+        if (!this.format.quoted()) {
+            for (int i = aLength - 1; i >= 0; i--) {
+                if (aData[i] == '\n') {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        int end = -1;
+        boolean quoted = false;
+        for (int i = 0; i < aLength; i++) {
+            final byte b = aData[i];
+            if (b == '"' && this.format.quoted()) {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                end = i + 1;
+            }
+        }
+        return end;
+    }
+
+    private int readHeader(final byte[] aData, final int anEnd) {
+        int headerEnd = FileCategoryImportChunk.recordEnd(aData, 0, anEnd, true);
+        this.parser = CsvCategoryRowParser.fromHeader(FileCategoryImportChunk.decode(aData, 0, headerEnd));
+        if (headerEnd < anEnd) {
+            headerEnd++;
+        }
+        this.nextLine += countLines(aData, 0, headerEnd);
+        return headerEnd;
+    }
+
+    private static long countLines(final byte[] aData, final int aStart, final int anEnd) {
+        long lines = 0;
+        for (int i = aStart; i < anEnd; i++) {
+            if (aData[i] == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.infrastructure.api.CategoryJson;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonReader;
+
+final class NdjsonCategoryRowParser implements CategoryRowParser {
+
+    @Override
+    public CreateCategoryCommand parse(final byte[] aRecord, final String aRaw) {
+        return CategoryJson.readCreateCommand(new JsonReader(aRecord));
+    }
+}
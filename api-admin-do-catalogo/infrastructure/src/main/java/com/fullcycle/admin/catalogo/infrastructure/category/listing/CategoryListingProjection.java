@@ -0,0 +1,563 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.listing;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCursor;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeactivated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryListing;
+import com.fullcycle.admin.catalogo.domain.category.CategoryListingGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryUpdated;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.events.DomainEventSubscriber;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySearchIndex;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategorySort;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryTokenizer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Category listings kept apart from the aggregates and updated from their
+ * events. Each entry is a flat {@link CategoryListing} with its sort keys and
+ * search token weights computed once, when the event is applied.
+ * <p>
+ * Readers take no lock: the entries sit in concurrent skip lists, one per sort
+ * order. A writer adds the new index elements before it replaces the entry
+ * stored by id and removes the old ones after, and readers skip elements that
+ * don't match the stored entry, so only one copy of a category is visible at
+ * a time. A page read while a category moves may still list it at both
+ * positions, or at neither, depending on which way it moves past the reader;
+ * later reads see the settled order. Writes are applied one at a time,
+ * normally from the event publisher's single drainer thread.
+ * <p>
+ * Gateways publish after their write completes, so events of concurrent writes
+ * may arrive in any order. Each entry keeps the version of the write it came
+ * from and events no newer than it are dropped; removed ids keep their last
+ * version for as long as the projection lives, so late events can't bring them
+ * back. A deactivation that arrives before anything else about its category
+ * waits for the category's state.
+ * <p>
+ * Answers the same queries as {@link InMemoryCategoryGateway#findAll}, with
+ * the same ordering and cursors. Offset pages walk the index up to the offset,
+ * so keyset queries are the cheap way to go deep.
+ */
+public class CategoryListingProjection implements CategoryListingGateway, DomainEventSubscriber {
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+    private static final Map<CategorySort, Comparator<Entry>> COMPARATORS = comparators();
+
+    private final ConcurrentHashMap<CategoryID, Entry> entries;
+    private final Map<CategoryID, Long> removed;
+    private final Map<CategoryID, CategoryDeactivated> pendingDeactivations;
+    private final Map<CategorySort, ConcurrentSkipListSet<Entry>> indexes;
+    private final ConcurrentSkipListMap<String, Set<CategoryID>> postings;
+    private final AtomicLong activeCount;
+    private final LongAdder applied;
+
+    public CategoryListingProjection() {
+        this.entries = new ConcurrentHashMap<>();
+        this.removed = new HashMap<>();
+        this.pendingDeactivations = new HashMap<>();
+        this.indexes = new EnumMap<>(CategorySort.class);
+        for (final var sort : CategorySort.values()) {
+            this.indexes.put(sort, new ConcurrentSkipListSet<>(comparatorOf(sort)));
+        }
+        this.postings = new ConcurrentSkipListMap<>();
+        this.activeCount = new AtomicLong();
+        this.applied = new LongAdder();
+    }
+
+    /**
+     * Loads every category the write model holds. Subscribe before calling it:
+     * events of writes made meanwhile are applied over the loaded state, and
+     * loaded categories never replace newer entries.
+     */
+    public synchronized void rebuild(final CategoryGateway aGateway) {
+        final var aQuery = CategorySearchQuery.after("", REBUILD_PAGE_SIZE, "", "createdAt", "asc");
+        try (final var categories = aGateway.streamAll(aQuery)) {
+            categories.forEach(aCategory -> {
+                if (!isStale(aCategory.getId(), aCategory.getVersion())) {
+                    put(CategoryListing.from(aCategory), aCategory.getVersion());
+                }
+            });
+        }
+    }
+
+    @Override
+    public synchronized void onEvents(final List<DomainEvent> anEvents) {
+        for (final var anEvent : anEvents) {
+            if (anEvent instanceof CategoryCreated created) {
+                apply(created);
+            } else if (anEvent instanceof CategoryUpdated updated) {
+                apply(updated);
+            } else if (anEvent instanceof CategoryDeactivated deactivated) {
+                apply(deactivated);
+            } else if (anEvent instanceof CategoryDeleted deleted) {
+                remove(deleted);
+            } else {
+                continue;
+            }
+            this.applied.increment();
+        }
+    }
+
+    public long applied() {
+        return this.applied.sum();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public Pagination<CategoryListing> findAll(final CategorySearchQuery aQuery) {
+        final var sort = CategorySort.from(aQuery.sort());
+        final var descending = CategorySort.isDescending(aQuery.direction());
+        final var perPage = Math.max(aQuery.perPage(), 0);
+        final var hasTerms = aQuery.terms() != null && !aQuery.terms().isBlank();
+        final var scores = hasTerms ? search(aQuery.terms(), aQuery.active()) : null;
+
+        if (scores != null && isRelevance(aQuery.sort())) {
+            return findByRelevance(aQuery, perPage, scores);
+        }
+        if (scores != null) {
+            return findMatches(aQuery, perPage, sort, descending, scores);
+        }
+
+        final var index = this.indexes.get(sort);
+        final var comparator = comparatorOf(sort);
+        final var items = new ArrayList<Entry>();
+        if (aQuery.isKeyset()) {
+            final var probe = aQuery.cursor().isEmpty() ? null : probeOf(CategoryCursor.decode(aQuery.cursor()), sort);
+            final var limit = perPage + 1;
+            if (perPage > 0) {
+                for (final var element : after(index, probe, descending)) {
+                    final var current = currentOf(element, comparator);
+                    if (current != null && matches(aQuery, current)) {
+                        items.add(current);
+                        if (items.size() == limit) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return keysetPage(perPage, items, sort);
+        }
+
+        final var page = Math.max(aQuery.page(), 0);
+        final var offset = (long) page * perPage;
+        long skipped = 0;
+        if (perPage > 0) {
+            for (final var element : descending ? index.descendingSet() : index) {
+                final var current = currentOf(element, comparator);
+                if (current == null || !matches(aQuery, current)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                items.add(current);
+                if (items.size() == perPage) {
+                    break;
+                }
+            }
+        }
+        return new Pagination<>(page, perPage, countOf(aQuery.active()), listingsOf(items));
+    }
+
+    // A late creation still brings the creation time, which never changes
+    private void apply(final CategoryCreated anEvent) {
+        final var previous = this.entries.get(anEvent.id());
+        if (isStale(anEvent.id(), anEvent.version())) {
+            if (previous != null && !anEvent.occurredOn().equals(previous.listing().createdAt())) {
+                final var listing = previous.listing();
+                store(previous, new CategoryListing(
+                    listing.id(),
+                    listing.name(),
+                    listing.description(),
+                    listing.isActive(),
+                    anEvent.occurredOn(),
+                    listing.updatedAt(),
+                    listing.deletedAt()
+                ), previous.version());
+            }
+            return;
+        }
+        final var deletedAt = anEvent.isActive() ? null : anEvent.occurredOn();
+        put(new CategoryListing(
+            anEvent.id(),
+            anEvent.name(),
+            anEvent.description(),
+            anEvent.isActive(),
+            anEvent.occurredOn(),
+            anEvent.occurredOn(),
+            deletedAt
+        ), anEvent.version());
+    }
+
+    // Until the creation arrives, the update's time stands in for the creation time
+    private void apply(final CategoryUpdated anEvent) {
+        if (isStale(anEvent.id(), anEvent.version())) {
+            return;
+        }
+        final var previous = this.entries.get(anEvent.id());
+        final var createdAt = previous == null ? anEvent.occurredOn() : previous.listing().createdAt();
+        final Instant deletedAt;
+        if (anEvent.isActive()) {
+            deletedAt = null;
+        } else {
+            deletedAt = previous == null || previous.listing().deletedAt() == null
+                ? anEvent.occurredOn()
+                : previous.listing().deletedAt();
+        }
+        put(new CategoryListing(
+            anEvent.id(),
+            anEvent.name(),
+            anEvent.description(),
+            anEvent.isActive(),
+            createdAt,
+            anEvent.occurredOn(),
+            deletedAt
+        ), anEvent.version());
+    }
+
+    private void apply(final CategoryDeactivated anEvent) {
+        if (isStale(anEvent.id(), anEvent.version())) {
+            return;
+        }
+        final var previous = this.entries.get(anEvent.id());
+        if (previous == null) {
+            this.pendingDeactivations.merge(anEvent.id(), anEvent, (left, right) -> left.version() >= right.version() ? left : right);
+            return;
+        }
+        deactivate(previous, anEvent);
+    }
+
+    private void deactivate(final Entry previous, final CategoryDeactivated anEvent) {
+        final var listing = previous.listing();
+        final var updatedAt = anEvent.occurredOn().isAfter(listing.updatedAt()) ? anEvent.occurredOn() : listing.updatedAt();
+        store(previous, new CategoryListing(
+            listing.id(),
+            listing.name(),
+            listing.description(),
+            false,
+            listing.createdAt(),
+            updatedAt,
+            anEvent.occurredOn()
+        ), anEvent.version());
+    }
+
+    // Stores a newer state, then a deactivation that arrived ahead of it
+    private void put(final CategoryListing aListing, final long aVersion) {
+        store(this.entries.get(aListing.id()), aListing, aVersion);
+        final var pending = this.pendingDeactivations.remove(aListing.id());
+        if (pending != null && pending.version() > aVersion) {
+            deactivate(this.entries.get(aListing.id()), pending);
+        }
+    }
+
+    private boolean isStale(final CategoryID anId, final long aVersion) {
+        final var current = this.entries.get(anId);
+        if (current != null) {
+            return aVersion <= current.version();
+        }
+        final var lastRemoved = this.removed.get(anId);
+        return lastRemoved != null && aVersion <= lastRemoved;
+    }
+
+    private void store(final Entry previous, final CategoryListing aListing, final long aVersion) {
+        final var entry = Entry.of(aListing, aVersion);
+        final var moved = new ArrayList<ConcurrentSkipListSet<Entry>>(this.indexes.size());
+        for (final var index : this.indexes.entrySet()) {
+            if (previous == null || comparatorOf(index.getKey()).compare(previous, entry) != 0) {
+                index.getValue().add(entry);
+                moved.add(index.getValue());
+            }
+        }
+        for (final var token : entry.weights().keySet()) {
+            this.postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(aListing.id());
+        }
+
+        // readers skip the new elements until here, and the old ones from here on
+        this.entries.put(aListing.id(), entry);
+
+        if (previous != null) {
+            moved.forEach(set -> set.remove(previous));
+            unpost(previous, entry.weights().keySet());
+            if (previous.listing().isActive()) {
+                this.activeCount.decrementAndGet();
+            }
+        }
+        if (aListing.isActive()) {
+            this.activeCount.incrementAndGet();
+        }
+    }
+
+    private void remove(final CategoryDeleted anEvent) {
+        final var anId = anEvent.id();
+        this.removed.merge(anId, anEvent.version(), Math::max);
+        this.pendingDeactivations.remove(anId);
+        final var current = this.entries.get(anId);
+        if (current == null || current.version() > anEvent.version()) {
+            return;
+        }
+        final var previous = this.entries.remove(anId);
+        this.indexes.values().forEach(set -> set.remove(previous));
+        unpost(previous, Set.of());
+        if (previous.listing().isActive()) {
+            this.activeCount.decrementAndGet();
+        }
+    }
+
+    private void unpost(final Entry previous, final Set<String> aKeptTokens) {
+        for (final var token : previous.weights().keySet()) {
+            if (aKeptTokens.contains(token)) {
+                continue;
+            }
+            final var ids = this.postings.get(token);
+            if (ids != null && ids.remove(previous.listing().id()) && ids.isEmpty()) {
+                this.postings.remove(token);
+            }
+        }
+    }
+
+    // The stored entry the index element stands for, or null when it moved or is gone
+    private Entry currentOf(final Entry anElement, final Comparator<Entry> comparator) {
+        final var current = this.entries.get(anElement.listing().id());
+        if (current == null || comparator.compare(anElement, current) != 0) {
+            return null;
+        }
+        return current;
+    }
+
+    private long countOf(final Boolean isActive) {
+        final long active = this.activeCount.get();
+        if (isActive == null) {
+            return this.entries.size();
+        }
+        return isActive ? active : Math.max(this.entries.size() - active, 0);
+    }
+
+    private Map<CategoryID, Integer> search(final String terms, final Boolean isActive) {
+        final var tokens = CategoryTokenizer.tokenize(terms);
+        final var scores = new HashMap<CategoryID, Integer>();
+        if (tokens.isEmpty()) {
+            return scores;
+        }
+
+        final var first = tokens.get(0);
+        for (final var ids : this.postings.subMap(first, true, first + Character.MAX_VALUE, false).values()) {
+            for (final var anId : ids) {
+                final var entry = this.entries.get(anId);
+                if (entry == null || scores.containsKey(anId)) {
+                    continue;
+                }
+                if (isActive != null && entry.listing().isActive() != isActive) {
+                    continue;
+                }
+                final int score = CategorySearchIndex.scoreOf(entry.weights(), tokens);
+                if (score > 0) {
+                    scores.put(anId, score);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private Pagination<CategoryListing> findMatches(
+        final CategorySearchQuery aQuery,
+        final int perPage,
+        final CategorySort sort,
+        final boolean descending,
+        final Map<CategoryID, Integer> scores
+    ) {
+        final var comparator = descending ? comparatorOf(sort).reversed() : comparatorOf(sort);
+        final var sorted = entriesOf(scores);
+        sorted.sort(comparator);
+
+        if (!aQuery.isKeyset()) {
+            final var page = Math.max(aQuery.page(), 0);
+            final var from = (int) Math.min((long) page * perPage, sorted.size());
+            final var to = (int) Math.min(from + (long) perPage, sorted.size());
+            return new Pagination<>(page, perPage, sorted.size(), listingsOf(sorted.subList(from, to)));
+        }
+
+        int start = 0;
+        if (!aQuery.cursor().isEmpty()) {
+            final var probe = probeOf(CategoryCursor.decode(aQuery.cursor()), sort);
+            final int position = Collections.binarySearch(sorted, probe, comparator);
+            start = position >= 0 ? position + 1 : -position - 1;
+        }
+        final var items = perPage > 0
+            ? new ArrayList<>(sorted.subList(start, Math.min(start + perPage + 1, sorted.size())))
+            : new ArrayList<Entry>();
+        return keysetPage(perPage, items, sort);
+    }
+
+    private Pagination<CategoryListing> findByRelevance(
+        final CategorySearchQuery aQuery,
+        final int perPage,
+        final Map<CategoryID, Integer> scores
+    ) {
+        final var ranked = entriesOf(scores);
+        ranked.sort(Comparator.<Entry>comparingInt(anEntry -> scores.get(anEntry.listing().id()))
+            .reversed()
+            .thenComparing(anEntry -> anEntry.listing().id()));
+
+        if (!aQuery.isKeyset()) {
+            final var page = Math.max(aQuery.page(), 0);
+            final var from = (int) Math.min((long) page * perPage, ranked.size());
+            final var to = (int) Math.min(from + (long) perPage, ranked.size());
+            return new Pagination<>(page, perPage, ranked.size(), listingsOf(ranked.subList(from, to)));
+        }
+
+        int start = 0;
+        if (!aQuery.cursor().isEmpty()) {
+            final var aCursor = CategoryCursor.decode(aQuery.cursor());
+            if (!InMemoryCategoryGateway.RELEVANCE.equals(aCursor.sort())) {
+                throw cursorMismatch(InMemoryCategoryGateway.RELEVANCE);
+            }
+            final int aScore = parseScore(aCursor.key());
+            while (start < ranked.size()) {
+                final var candidate = ranked.get(start).listing().id();
+                final int score = scores.get(candidate);
+                if (score < aScore || (score == aScore && candidate.compareTo(aCursor.id()) > 0)) {
+                    break;
+                }
+                start++;
+            }
+        }
+
+        final var items = listingsOf(ranked.subList(start, Math.min(start + perPage + 1, ranked.size())));
+        String nextCursor = null;
+        if (perPage > 0 && items.size() > perPage) {
+            items.remove(perPage);
+            final var last = items.get(perPage - 1);
+            nextCursor = CategoryCursor.of(InMemoryCategoryGateway.RELEVANCE, String.valueOf(scores.get(last.id())), last.id()).encode();
+        }
+        return Pagination.keyset(perPage, perPage > 0 ? items : List.of(), nextCursor);
+    }
+
+    private List<Entry> entriesOf(final Map<CategoryID, Integer> scores) {
+        final var matched = new ArrayList<Entry>(scores.size());
+        scores.keySet().forEach(anId -> {
+            final var entry = this.entries.get(anId);
+            if (entry != null) {
+                matched.add(entry);
+            }
+        });
+        return matched;
+    }
+
+    private static List<CategoryListing> listingsOf(final List<Entry> anEntries) {
+        final var listings = new ArrayList<CategoryListing>(anEntries.size());
+        anEntries.forEach(anEntry -> listings.add(anEntry.listing()));
+        return listings;
+    }
+
+    private static Pagination<CategoryListing> keysetPage(final int perPage, final List<Entry> items, final CategorySort sort) {
+        String nextCursor = null;
+        if (perPage > 0 && items.size() > perPage) {
+            items.remove(perPage);
+            final var last = items.get(perPage - 1);
+            nextCursor = CategoryCursor.of(sort.field(), last.keyOf(sort), last.listing().id()).encode();
+        }
+        return Pagination.keyset(perPage, listingsOf(items), nextCursor);
+    }
+
+    private static boolean matches(final CategorySearchQuery aQuery, final Entry anEntry) {
+        return aQuery.active() == null || aQuery.active() == anEntry.listing().isActive();
+    }
+
+    private static Iterable<Entry> after(final NavigableSet<Entry> index, final Entry probe, final boolean descending) {
+        if (probe == null) {
+            return descending ? index.descendingSet() : index;
+        }
+        return descending ? index.headSet(probe, false).descendingSet() : index.tailSet(probe, false);
+    }
+
+    private static Entry probeOf(final CategoryCursor aCursor, final CategorySort sort) {
+        if (!sort.field().equals(aCursor.sort())) {
+            throw cursorMismatch(sort.field());
+        }
+        return Entry.of(CategoryListing.from(sort.probe(aCursor.key(), aCursor.id())), 0);
+    }
+
+    private static Comparator<Entry> comparatorOf(final CategorySort sort) {
+        return COMPARATORS.get(sort);
+    }
+
+    private static Map<CategorySort, Comparator<Entry>> comparators() {
+        final var comparators = new EnumMap<CategorySort, Comparator<Entry>>(CategorySort.class);
+        for (final var sort : CategorySort.values()) {
+            comparators.put(sort, buildComparator(sort));
+        }
+        return comparators;
+    }
+
+    private static Comparator<Entry> buildComparator(final CategorySort sort) {
+        final Comparator<Entry> byKey = switch (sort) {
+            case NAME -> Comparator.comparing(anEntry -> anEntry.listing().name(), Comparator.nullsFirst(Comparator.naturalOrder()));
+            case CREATED_AT -> Comparator.comparing(anEntry -> anEntry.listing().createdAt());
+            case UPDATED_AT -> Comparator.comparing(anEntry -> anEntry.listing().updatedAt());
+        };
+        return byKey.thenComparing(anEntry -> anEntry.listing().id());
+    }
+
+    private static boolean isRelevance(final String aSort) {
+        return aSort == null || aSort.isBlank() || InMemoryCategoryGateway.RELEVANCE.equalsIgnoreCase(aSort);
+    }
+
+    private static int parseScore(final String aKey) {
+        try {
+            return Integer.parseInt(aKey);
+        } catch (final NumberFormatException ex) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
+
+    private static DomainException cursorMismatch(final String aSort) {
+        return DomainException.with(new Error("'cursor' does not match sort '%s'".formatted(aSort)));
+    }
+
+    private record Entry(CategoryListing listing, long version, Map<String, Integer> weights, String createdAtKey, String updatedAtKey) {
+
+        static Entry of(final CategoryListing aListing, final long aVersion) {
+            return new Entry(
+                aListing,
+                aVersion,
+                Map.copyOf(CategorySearchIndex.weightsOf(aListing.name(), aListing.description())),
+                aListing.createdAt() == null ? "" : aListing.createdAt().toString(),
+                aListing.updatedAt() == null ? "" : aListing.updatedAt().toString()
+            );
+        }
+
+        String keyOf(final CategorySort sort) {
+            return switch (sort) {
+                case NAME -> listing.name() == null ? "" : listing.name();
+                case CREATED_AT -> createdAtKey;
+                case UPDATED_AT -> updatedAtKey;
+            };
+        }
+    }
+}
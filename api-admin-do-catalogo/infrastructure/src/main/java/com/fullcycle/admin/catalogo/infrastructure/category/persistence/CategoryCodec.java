@@ -0,0 +1,322 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Versioned binary form of a {@link Category}:
+ * <pre>
+ * version    u8
+ * flags      u8    active | has deletedAt | has name | has description
+ * id         16    most then least significant bits
+ * revision   varint aggregate version, absent in version 1 encodings
+ * createdAt  zigzag varint epoch millis, varint nanos within the milli
+ * updatedAt  zigzag varint millis since createdAt, varint nanos within the milli
+ * deletedAt  same as updatedAt, only when flagged
+ * name       varint length, UTF-8 bytes, only when flagged
+ * description  same as name
+ * </pre>
+ * Reads and writes start at the buffer position and advance it. Version 1
+ * encodings, written before categories had versions, still decode, as
+ * revision 0.
+ * <p>
+ * A patch encodes an update that changed only some fields. It has the same
+ * header, id and revision, then updatedAt on its own, and deletedAt, name
+ * and description only when their field changed and they are present.
+ */
+public final class CategoryCodec {
+    public static final byte VERSION = 2;
+
+    static final byte UNREVISED_VERSION = 1;
+
+    static final int ACTIVE = 1;
+    static final int HAS_DELETED_AT = 1 << 1;
+    static final int HAS_NAME = 1 << 2;
+    static final int HAS_DESCRIPTION = 1 << 3;
+
+    static final int ID_OFFSET = 2;
+    static final int ID_SIZE = 16;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    private CategoryCodec() {
+    }
+
+    public static int sizeOf(final Category aCategory) {
+        final var createdAt = aCategory.getCreatedAt();
+        int size = ID_OFFSET + ID_SIZE + varLongSize(aCategory.getVersion()) + sizeOf(createdAt, 0) + sizeOf(aCategory.getUpdatedAt(), millisOf(createdAt));
+        if (aCategory.getDeletedAt() != null) {
+            size += sizeOf(aCategory.getDeletedAt(), millisOf(createdAt));
+        }
+        return size + sizeOf(aCategory.getName()) + sizeOf(aCategory.getDescription());
+    }
+
+    public static ByteBuffer encode(final Category aCategory) {
+        final var out = ByteBuffer.allocate(sizeOf(aCategory));
+        encode(aCategory, out);
+        return out.flip();
+    }
+
+    public static void encode(final Category aCategory, final ByteBuffer out) {
+        int flags = aCategory.getIsActive() ? ACTIVE : 0;
+        flags |= aCategory.getDeletedAt() != null ? HAS_DELETED_AT : 0;
+        flags |= aCategory.getName() != null ? HAS_NAME : 0;
+        flags |= aCategory.getDescription() != null ? HAS_DESCRIPTION : 0;
+        out.put(VERSION);
+        out.put((byte) flags);
+        encodeId(aCategory.getId(), out);
+        writeVarLong(out, aCategory.getVersion());
+
+        final long createdMillis = millisOf(aCategory.getCreatedAt());
+        writeInstant(out, aCategory.getCreatedAt(), 0);
+        writeInstant(out, aCategory.getUpdatedAt(), createdMillis);
+        if (aCategory.getDeletedAt() != null) {
+            writeInstant(out, aCategory.getDeletedAt(), createdMillis);
+        }
+        writeString(out, aCategory.getName());
+        writeString(out, aCategory.getDescription());
+    }
+
+    public static Category decode(final ByteBuffer in) {
+        final boolean revised = in.get(in.position()) != UNREVISED_VERSION;
+        final int flags = readHeader(in);
+        final var id = decodeId(in);
+        final long revision = revised ? readVarLong(in) : 0;
+        final var createdAt = readInstant(in, 0);
+        final long createdMillis = millisOf(createdAt);
+        final var updatedAt = readInstant(in, createdMillis);
+        final var deletedAt = (flags & HAS_DELETED_AT) != 0 ? readInstant(in, createdMillis) : null;
+        final var name = (flags & HAS_NAME) != 0 ? readString(in) : null;
+        final var description = (flags & HAS_DESCRIPTION) != 0 ? readString(in) : null;
+        return Category.with(id, name, description, (flags & ACTIVE) != 0, createdAt, updatedAt, deletedAt, revision);
+    }
+
+    public static int sizeOfPatch(final Category aCategory, final Set<CategoryField> aChanged) {
+        int size = ID_OFFSET + ID_SIZE + varLongSize(aCategory.getVersion()) + sizeOf(aCategory.getUpdatedAt(), 0);
+        if (aChanged.contains(CategoryField.ACTIVE) && aCategory.getDeletedAt() != null) {
+            size += sizeOf(aCategory.getDeletedAt(), 0);
+        }
+        if (aChanged.contains(CategoryField.NAME)) {
+            size += sizeOf(aCategory.getName());
+        }
+        if (aChanged.contains(CategoryField.DESCRIPTION)) {
+            size += sizeOf(aCategory.getDescription());
+        }
+        return size;
+    }
+
+    public static void encodePatch(final Category aCategory, final Set<CategoryField> aChanged, final ByteBuffer out) {
+        final boolean activeChanged = aChanged.contains(CategoryField.ACTIVE);
+        final boolean nameChanged = aChanged.contains(CategoryField.NAME);
+        final boolean descriptionChanged = aChanged.contains(CategoryField.DESCRIPTION);
+        int flags = activeChanged && aCategory.getIsActive() ? ACTIVE : 0;
+        flags |= activeChanged && aCategory.getDeletedAt() != null ? HAS_DELETED_AT : 0;
+        flags |= nameChanged && aCategory.getName() != null ? HAS_NAME : 0;
+        flags |= descriptionChanged && aCategory.getDescription() != null ? HAS_DESCRIPTION : 0;
+        out.put(VERSION);
+        out.put((byte) flags);
+        encodeId(aCategory.getId(), out);
+        writeVarLong(out, aCategory.getVersion());
+
+        writeInstant(out, aCategory.getUpdatedAt(), 0);
+        if ((flags & HAS_DELETED_AT) != 0) {
+            writeInstant(out, aCategory.getDeletedAt(), 0);
+        }
+        if ((flags & HAS_NAME) != 0) {
+            writeString(out, aCategory.getName());
+        }
+        if ((flags & HAS_DESCRIPTION) != 0) {
+            writeString(out, aCategory.getDescription());
+        }
+    }
+
+    /**
+     * Decodes a patch into a category that only holds the changed fields, its
+     * id, revision and updatedAt; everything else is left empty.
+     */
+    public static Category decodePatch(final ByteBuffer in) {
+        final int flags = readHeader(in);
+        final var id = decodeId(in);
+        final long revision = readVarLong(in);
+        final var updatedAt = readInstant(in, 0);
+        final var deletedAt = (flags & HAS_DELETED_AT) != 0 ? readInstant(in, 0) : null;
+        final var name = (flags & HAS_NAME) != 0 ? readString(in) : null;
+        final var description = (flags & HAS_DESCRIPTION) != 0 ? readString(in) : null;
+        return Category.with(id, name, description, (flags & ACTIVE) != 0, null, updatedAt, deletedAt, revision);
+    }
+
+    /**
+     * Wraps an encoded category without decoding it; fields are read on demand.
+     * The view reads from the buffer's current position and does not move it.
+     */
+    public static CategoryView view(final ByteBuffer in) {
+        final var view = new CategoryView(in, in.position());
+        readHeader(in.duplicate());
+        return view;
+    }
+
+    public static void encodeId(final CategoryID anId, final ByteBuffer out) {
+        out.putLong(bigEndian(out, anId.getMostSignificantBits()));
+        out.putLong(bigEndian(out, anId.getLeastSignificantBits()));
+    }
+
+    public static CategoryID decodeId(final ByteBuffer in) {
+        final long msb = bigEndian(in, in.getLong());
+        return CategoryID.from(new UUID(msb, bigEndian(in, in.getLong())));
+    }
+
+    static int readHeader(final ByteBuffer in) {
+        final byte version = in.get();
+        if (version != VERSION && version != UNREVISED_VERSION) {
+            throw new IllegalArgumentException("unsupported category encoding version " + version);
+        }
+        return in.get();
+    }
+
+    static long readRevision(final ByteBuffer in) {
+        return readVarLong(in);
+    }
+
+    static Instant readInstant(final ByteBuffer in, final long aBaseMillis) {
+        final long millis = aBaseMillis + zigzagDecode(readVarLong(in));
+        final long nanos = readVarLong(in);
+        return Instant.ofEpochMilli(millis).plusNanos(nanos);
+    }
+
+    static void skipInstant(final ByteBuffer in) {
+        readVarLong(in);
+        readVarLong(in);
+    }
+
+    static String readString(final ByteBuffer in) {
+        final int length = (int) readVarLong(in);
+        if (in.hasArray()) {
+            final var value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        final var bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void skipString(final ByteBuffer in) {
+        final int length = (int) readVarLong(in);
+        in.position(in.position() + length);
+    }
+
+    static long millisOf(final Instant anInstant) {
+        return anInstant.getEpochSecond() * 1_000 + anInstant.getNano() / NANOS_PER_MILLI;
+    }
+
+    // Ids are always stored big-endian, whatever order the caller's buffer uses
+    private static long bigEndian(final ByteBuffer aBuffer, final long aValue) {
+        return aBuffer.order() == ByteOrder.BIG_ENDIAN ? aValue : Long.reverseBytes(aValue);
+    }
+
+    private static int sizeOf(final Instant anInstant, final long aBaseMillis) {
+        return varLongSize(zigzagEncode(millisOf(anInstant) - aBaseMillis)) + varLongSize(anInstant.getNano() % NANOS_PER_MILLI);
+    }
+
+    private static int sizeOf(final String aValue) {
+        if (aValue == null) {
+            return 0;
+        }
+        final int length = utf8Length(aValue);
+        return varLongSize(length) + length;
+    }
+
+    private static void writeInstant(final ByteBuffer out, final Instant anInstant, final long aBaseMillis) {
+        writeVarLong(out, zigzagEncode(millisOf(anInstant) - aBaseMillis));
+        writeVarLong(out, anInstant.getNano() % NANOS_PER_MILLI);
+    }
+
+    private static void writeString(final ByteBuffer out, final String aValue) {
+        if (aValue == null) {
+            return;
+        }
+        writeVarLong(out, utf8Length(aValue));
+        for (int i = 0; i < aValue.length(); i++) {
+            final char c = aValue.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < aValue.length() && Character.isLowSurrogate(aValue.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, aValue.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    // Matches String.getBytes(UTF_8), which replaces unpaired surrogates with '?'
+    private static int utf8Length(final String aValue) {
+        int length = 0;
+        for (int i = 0; i < aValue.length(); i++) {
+            final char c = aValue.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < aValue.length() && Character.isLowSurrogate(aValue.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeVarLong(final ByteBuffer out, final long aValue) {
+        long value = aValue;
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarLong(final ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    private static int varLongSize(final long aValue) {
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(aValue) + 6) / 7);
+    }
+
+    private static long zigzagEncode(final long aValue) {
+        return aValue << 1 ^ aValue >> 63;
+    }
+
+    private static long zigzagDecode(final long aValue) {
+        return aValue >>> 1 ^ -(aValue & 1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryField;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * One write-ahead log record. Puts carry the whole category and patches the
+ * new values of the fields an update changed, so replaying an entry any number
+ * of times leaves the same state.
+ */
+public record CategoryLogEntry(
+    long lsn,
+    Type type,
+    CategoryID id,
+    Category category,
+    Set<CategoryField> fields
+) {
+    public enum Type {
+        PUT,
+        DELETE,
+        PATCH
+    }
+
+    public CategoryLogEntry {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(id);
+        if (type != Type.DELETE) {
+            Objects.requireNonNull(category);
+        }
+        fields = fields == null ? Set.of() : Set.copyOf(fields);
+    }
+
+    public static CategoryLogEntry put(final long anLsn, final Category aCategory) {
+        return new CategoryLogEntry(anLsn, Type.PUT, aCategory.getId(), aCategory, null);
+    }
+
+    public static CategoryLogEntry delete(final long anLsn, final CategoryID anId) {
+        return new CategoryLogEntry(anLsn, Type.DELETE, anId, null, null);
+    }
+
+    public static CategoryLogEntry patch(final long anLsn, final Category aCategory, final Set<CategoryField> aChanged) {
+        return new CategoryLogEntry(anLsn, Type.PATCH, aCategory.getId(), aCategory, aChanged);
+    }
+
+    /**
+     * The category after this entry, given the stored one it applies to.
+     */
+    public Category applyTo(final Category aStored) {
+        if (type != Type.PATCH) {
+            return category;
+        }
+        final boolean activeChanged = fields.contains(CategoryField.ACTIVE);
+        return Category.with(
+            id,
+            fields.contains(CategoryField.NAME) ? category.getName() : aStored.getName(),
+            fields.contains(CategoryField.DESCRIPTION) ? category.getDescription() : aStored.getDescription(),
+            activeChanged ? category.getIsActive() : aStored.getIsActive(),
+            aStored.getCreatedAt(),
+            category.getUpdatedAt(),
+            activeChanged ? category.getDeletedAt() : aStored.getDeletedAt(),
+            category.getVersion()
+        );
+    }
+
+    int size() {
+        return 1 + 8 + switch (type) {
+            case PUT -> CategoryCodec.sizeOf(category);
+            case DELETE -> 16;
+            case PATCH -> 1 + CategoryCodec.sizeOfPatch(category, fields);
+        };
+    }
+
+    void writeTo(final ByteBuffer out) {
+        out.put((byte) type.ordinal());
+        out.putLong(lsn);
+        switch (type) {
+            case PUT -> CategoryCodec.encode(category, out);
+            case DELETE -> CategoryCodec.encodeId(id, out);
+            case PATCH -> {
+                out.put((byte) maskOf(fields));
+                CategoryCodec.encodePatch(category, fields, out);
+            }
+        }
+    }
+
+    static CategoryLogEntry readFrom(final ByteBuffer in) {
+        final int type = in.get();
+        final long lsn = in.getLong();
+        if (type == Type.PUT.ordinal()) {
+            return put(lsn, CategoryCodec.decode(in));
+        }
+        if (type == Type.DELETE.ordinal()) {
+            return delete(lsn, CategoryCodec.decodeId(in));
+        }
+        if (type == Type.PATCH.ordinal()) {
+            final var fields = fieldsOf(in.get());
+            return patch(lsn, CategoryCodec.decodePatch(in), fields);
+        }
+        throw new IllegalStateException("unknown log entry type " + type);
+    }
+
+    private static int maskOf(final Set<CategoryField> aFields) {
+        int mask = 0;
+        for (final var field : aFields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+
+    private static Set<CategoryField> fieldsOf(final int aMask) {
+        final var fields = EnumSet.noneOf(CategoryField.class);
+        for (final var field : CategoryField.values()) {
+            if ((aMask & 1 << field.ordinal()) != 0) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+}
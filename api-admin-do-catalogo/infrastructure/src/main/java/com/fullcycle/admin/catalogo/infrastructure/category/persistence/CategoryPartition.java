@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sort and search indexes over one slice of the catalog, so that queries
+ * limited to that slice never visit the others. Not thread-safe: callers
+ * guard it.
+ */
+public class CategoryPartition {
+    private final Map<CategorySort, SortedIndex<Category>> sortIndexes;
+    private final CategorySearchIndex searchIndex;
+
+    public CategoryPartition() {
+        this.sortIndexes = new EnumMap<>(CategorySort.class);
+        for (final var sort : CategorySort.values()) {
+            this.sortIndexes.put(sort, new SortedIndex<>(sort.comparator()));
+        }
+        this.searchIndex = new CategorySearchIndex();
+    }
+
+    public int size() {
+        return this.sortIndexes.get(CategorySort.NAME).size();
+    }
+
+    public SortedIndex<Category> index(final CategorySort aSort) {
+        return this.sortIndexes.get(aSort);
+    }
+
+    public Map<CategoryID, Integer> search(final String terms) {
+        return this.searchIndex.search(terms);
+    }
+
+    public void add(final Category aCategory) {
+        this.sortIndexes.values().forEach(index -> index.add(aCategory));
+        this.searchIndex.add(aCategory);
+    }
+
+    public void remove(final Category aCategory) {
+        this.sortIndexes.values().forEach(index -> index.remove(aCategory));
+        this.searchIndex.remove(aCategory);
+    }
+
+    public void replace(final Category previous, final Category current) {
+        this.sortIndexes.values().forEach(index -> index.replace(previous, current));
+        this.searchIndex.replace(previous, current);
+    }
+}
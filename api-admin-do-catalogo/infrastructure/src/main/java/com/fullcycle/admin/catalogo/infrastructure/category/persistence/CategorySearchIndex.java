@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over category name and description. Every term of a search
+ * must match a token exactly or as a prefix; matches in the name weigh more than
+ * in the description and exact matches more than prefixes. Not thread-safe:
+ * callers guard it.
+ */
+public class CategorySearchIndex {
+    static final int NAME_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final int EXACT_MATCH_BOOST = 2;
+
+    private final TreeMap<String, Map<CategoryID, Integer>> postings = new TreeMap<>();
+
+    public void add(final Category aCategory) {
+        weightsOf(aCategory).forEach((token, weight) ->
+            postings.computeIfAbsent(token, key -> new HashMap<>()).put(aCategory.getId(), weight)
+        );
+    }
+
+    public void remove(final Category aCategory) {
+        for (final var token : weightsOf(aCategory).keySet()) {
+            final var ids = postings.get(token);
+            if (ids != null && ids.remove(aCategory.getId()) != null && ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    public void replace(final Category previous, final Category current) {
+        if (Objects.equals(previous.getName(), current.getName())
+            && Objects.equals(previous.getDescription(), current.getDescription())) {
+            return;
+        }
+        remove(previous);
+        add(current);
+    }
+
+    /**
+     * Scores of the categories matching every term, higher is more relevant.
+     */
+    public Map<CategoryID, Integer> search(final String terms) {
+        final var tokens = CategoryTokenizer.tokenize(terms);
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+
+        final var matches = new ArrayList<Map<CategoryID, Integer>>(tokens.size());
+        for (final var token : tokens) {
+            final var scores = match(token);
+            if (scores.isEmpty()) {
+                return Map.of();
+            }
+            matches.add(scores);
+        }
+        matches.sort(Comparator.comparingInt(Map::size));
+
+        final var result = matches.get(0);
+        for (int i = 1; i < matches.size() && !result.isEmpty(); i++) {
+            final var other = matches.get(i);
+            result.entrySet().removeIf(entry -> {
+                final var score = other.get(entry.getKey());
+                if (score == null) {
+                    return true;
+                }
+                entry.setValue(entry.getValue() + score);
+                return false;
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Score {@link #search} gives the category, or 0 when it doesn't match. It
+     * only depends on the category itself, so scores from separate indexes can
+     * be compared.
+     */
+    public static int scoreOf(final Category aCategory, final String terms) {
+        return scoreOf(weightsOf(aCategory), CategoryTokenizer.tokenize(terms));
+    }
+
+    /**
+     * Same score from token weights computed ahead with {@link #weightsOf} and
+     * already tokenized terms.
+     */
+    public static int scoreOf(final Map<String, Integer> weights, final List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+
+        int total = 0;
+        for (final var token : tokens) {
+            int best = 0;
+            for (final var entry : weights.entrySet()) {
+                if (entry.getKey().equals(token)) {
+                    best = Math.max(best, entry.getValue() * EXACT_MATCH_BOOST);
+                } else if (entry.getKey().startsWith(token)) {
+                    best = Math.max(best, entry.getValue());
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    public static Map<String, Integer> weightsOf(final String aName, final String aDescription) {
+        final var weights = new HashMap<String, Integer>();
+        for (final var token : CategoryTokenizer.tokenize(aName)) {
+            weights.merge(token, NAME_WEIGHT, Integer::sum);
+        }
+        for (final var token : CategoryTokenizer.tokenize(aDescription)) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        return weights;
+    }
+
+    private Map<CategoryID, Integer> match(final String aToken) {
+        final var scores = new HashMap<CategoryID, Integer>();
+        final var exact = postings.get(aToken);
+        if (exact != null) {
+            exact.forEach((anId, weight) -> scores.put(anId, weight * EXACT_MATCH_BOOST));
+        }
+
+        for (final var entry : postings.subMap(aToken, false, aToken + Character.MAX_VALUE, false).entrySet()) {
+            entry.getValue().forEach((anId, weight) -> scores.merge(anId, weight, Math::max));
+        }
+        return scores;
+    }
+
+    private static Map<String, Integer> weightsOf(final Category aCategory) {
+        return weightsOf(aCategory.getName(), aCategory.getDescription());
+    }
+}
@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCursor;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+
+public enum CategorySort {
+    NAME("name", Comparator.comparing(Category::getName, Comparator.nullsFirst(Comparator.naturalOrder()))) {
+        @Override
+        public String keyOf(final Category aCategory) {
+            return aCategory.getName() == null ? "" : aCategory.getName();
+        }
+
+        @Override
+        public Category probe(final String aKey, final CategoryID anId) {
+            return Category.with(anId, aKey, null, true, null, null, null);
+        }
+    },
+    CREATED_AT("createdAt", Comparator.comparing(Category::getCreatedAt)) {
+        @Override
+        public String keyOf(final Category aCategory) {
+            return aCategory.getCreatedAt().toString();
+        }
+
+        @Override
+        public Category probe(final String aKey, final CategoryID anId) {
+            final var anInstant = parseInstant(aKey);
+            return Category.with(anId, null, null, true, anInstant, anInstant, null);
+        }
+    },
+    UPDATED_AT("updatedAt", Comparator.comparing(Category::getUpdatedAt)) {
+        @Override
+        public String keyOf(final Category aCategory) {
+            return aCategory.getUpdatedAt().toString();
+        }
+
+        @Override
+        public Category probe(final String aKey, final CategoryID anId) {
+            final var anInstant = parseInstant(aKey);
+            return Category.with(anId, null, null, true, anInstant, anInstant, null);
+        }
+    };
+
+    private final String field;
+    private final Comparator<Category> comparator;
+
+    CategorySort(final String aField, final Comparator<Category> aComparator) {
+        this.field = aField;
+        this.comparator = aComparator.thenComparing(Category::getId);
+    }
+
+    public static CategorySort from(final String aField) {
+        for (final var sort : values()) {
+            if (sort.field.equalsIgnoreCase(aField)) {
+                return sort;
+            }
+        }
+        return NAME;
+    }
+
+    public static boolean isDescending(final String aDirection) {
+        return "desc".equalsIgnoreCase(aDirection);
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public Comparator<Category> comparator() {
+        return comparator;
+    }
+
+    public Comparator<Category> comparator(final boolean descending) {
+        return descending ? comparator.reversed() : comparator;
+    }
+
+    /**
+     * Sort key of the category as carried by a {@link CategoryCursor}.
+     */
+    public abstract String keyOf(Category aCategory);
+
+    /**
+     * Category that sorts exactly where the cursor key and id point to, used to
+     * seek into an index.
+     */
+    public abstract Category probe(String aKey, CategoryID anId);
+
+    public CategoryCursor cursorOf(final Category aCategory) {
+        return CategoryCursor.of(field, keyOf(aCategory), aCategory.getId());
+    }
+
+    private static Instant parseInstant(final String aKey) {
+        try {
+            return Instant.parse(aKey);
+        } catch (final DateTimeParseException ex) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits text on anything that is not a letter or digit, lowercases it and
+ * strips accents, so accented and plain spellings produce the same token.
+ */
+public final class CategoryTokenizer {
+
+    private CategoryTokenizer() {
+    }
+
+    public static List<String> tokenize(final String aText) {
+        if (aText == null || aText.isBlank()) {
+            return List.of();
+        }
+
+        final var tokens = new ArrayList<String>();
+        final var token = new StringBuilder();
+        for (int i = 0; i <= aText.length(); i++) {
+            final char c = i < aText.length() ? aText.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                fold(c, token);
+            } else if (!token.isEmpty()) {
+                final var aToken = token.toString();
+                if (!tokens.contains(aToken)) {
+                    tokens.add(aToken);
+                }
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    private static void fold(final char c, final StringBuilder aToken) {
+        if (c < 0x80) {
+            aToken.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+            return;
+        }
+
+        final var decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        for (int i = 0; i < decomposed.length(); i++) {
+            final char d = decomposed.charAt(i);
+            if (Character.getType(d) != Character.NON_SPACING_MARK) {
+                aToken.append(Character.toLowerCase(d));
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Read-only window over an encoded category. The flags and id sit at fixed
+ * offsets; the variable-length fields are located once, on first access, and
+ * only the ones asked for are decoded. Not thread-safe.
+ */
+public class CategoryView {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private int timestampsOffset = -1;
+    private int nameOffset = -1;
+    private int endOffset = -1;
+
+    CategoryView(final ByteBuffer aBuffer, final int anOffset) {
+        this.buffer = aBuffer;
+        this.offset = anOffset;
+    }
+
+    public CategoryID id() {
+        return CategoryCodec.decodeId(at(this.offset + CategoryCodec.ID_OFFSET));
+    }
+
+    public long version() {
+        if (this.buffer.get(this.offset) == CategoryCodec.UNREVISED_VERSION) {
+            return 0;
+        }
+        return CategoryCodec.readRevision(at(this.offset + CategoryCodec.ID_OFFSET + CategoryCodec.ID_SIZE));
+    }
+
+    public boolean isActive() {
+        return (flags() & CategoryCodec.ACTIVE) != 0;
+    }
+
+    public Instant createdAt() {
+        return CategoryCodec.readInstant(at(timestampsOffset()), 0);
+    }
+
+    public Instant updatedAt() {
+        final var in = at(timestampsOffset());
+        final var createdAt = CategoryCodec.readInstant(in, 0);
+        return CategoryCodec.readInstant(in, CategoryCodec.millisOf(createdAt));
+    }
+
+    public Instant deletedAt() {
+        if ((flags() & CategoryCodec.HAS_DELETED_AT) == 0) {
+            return null;
+        }
+        final var in = at(timestampsOffset());
+        final var createdAt = CategoryCodec.readInstant(in, 0);
+        CategoryCodec.skipInstant(in);
+        return CategoryCodec.readInstant(in, CategoryCodec.millisOf(createdAt));
+    }
+
+    public String name() {
+        if ((flags() & CategoryCodec.HAS_NAME) == 0) {
+            return null;
+        }
+        return CategoryCodec.readString(at(nameOffset()));
+    }
+
+    public String description() {
+        if ((flags() & CategoryCodec.HAS_DESCRIPTION) == 0) {
+            return null;
+        }
+        final var in = at(nameOffset());
+        if ((flags() & CategoryCodec.HAS_NAME) != 0) {
+            CategoryCodec.skipString(in);
+        }
+        return CategoryCodec.readString(in);
+    }
+
+    /**
+     * Number of bytes the encoded category takes.
+     */
+    public int size() {
+        if (this.endOffset < 0) {
+            final var in = at(nameOffset());
+            if ((flags() & CategoryCodec.HAS_NAME) != 0) {
+                CategoryCodec.skipString(in);
+            }
+            if ((flags() & CategoryCodec.HAS_DESCRIPTION) != 0) {
+                CategoryCodec.skipString(in);
+            }
+            this.endOffset = in.position();
+        }
+        return this.endOffset - this.offset;
+    }
+
+    public Category toCategory() {
+        return CategoryCodec.decode(at(this.offset));
+    }
+
+    private int flags() {
+        return this.buffer.get(this.offset + 1);
+    }
+
+    private int timestampsOffset() {
+        if (this.timestampsOffset < 0) {
+            final var in = at(this.offset + CategoryCodec.ID_OFFSET + CategoryCodec.ID_SIZE);
+            if (this.buffer.get(this.offset) != CategoryCodec.UNREVISED_VERSION) {
+                CategoryCodec.readRevision(in);
+            }
+            this.timestampsOffset = in.position();
+        }
+        return this.timestampsOffset;
+    }
+
+    private int nameOffset() {
+        if (this.nameOffset < 0) {
+            final var in = at(timestampsOffset());
+            CategoryCodec.skipInstant(in);
+            CategoryCodec.skipInstant(in);
+            if ((flags() & CategoryCodec.HAS_DELETED_AT) != 0) {
+                CategoryCodec.skipInstant(in);
+            }
+            this.nameOffset = in.position();
+        }
+        return this.nameOffset;
+    }
+
+    private ByteBuffer at(final int aPosition) {
+        return this.buffer.duplicate().position(aPosition);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class FileSupport {
+
+    private FileSupport() {
+    }
+
+    static void writeFully(final FileChannel aChannel, final ByteBuffer aBuffer) throws IOException {
+        while (aBuffer.hasRemaining()) {
+            aChannel.write(aBuffer);
+        }
+    }
+
+    // New and renamed files are only durable once their directory entry is
+    static void syncDirectory(final Path aDirectory) throws IOException {
+        try (final var channel = FileChannel.open(aDirectory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException | UnsupportedOperationException ex) {
+            // some platforms cannot open or sync directories; the rename itself is still atomic
+        }
+    }
+
+    static long parseSequence(final String aFileName, final String aPrefix, final String aSuffix) {
+        if (!aFileName.startsWith(aPrefix) || !aFileName.endsWith(aSuffix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(aFileName.substring(aPrefix.length(), aFileName.length() - aSuffix.length()));
+        } catch (final NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    static String fileName(final String aPrefix, final long aSequence, final String aSuffix) {
+        return aPrefix + String.format("%020d", aSequence) + aSuffix;
+    }
+}
@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Union of two disjoint views sorted by the same comparator, without copying
+ * either. A position is located by binary searching how many of the elements
+ * before it come from the first view, then both are walked side by side.
+ */
+public class MergedSortedView<T> implements SortedView<T> {
+    private final SortedView<T> first;
+    private final SortedView<T> second;
+    private final Comparator<? super T> comparator;
+
+    public MergedSortedView(final SortedView<T> aFirst, final SortedView<T> aSecond, final Comparator<? super T> aComparator) {
+        this.first = Objects.requireNonNull(aFirst);
+        this.second = Objects.requireNonNull(aSecond);
+        this.comparator = Objects.requireNonNull(aComparator);
+    }
+
+    @Override
+    public int size() {
+        return this.first.size() + this.second.size();
+    }
+
+    @Override
+    public T get(final int anIndex) {
+        Objects.checkIndex(anIndex, size());
+        return iterator(anIndex, false).next();
+    }
+
+    @Override
+    public int rank(final T aKey) {
+        return this.first.rank(aKey) + this.second.rank(aKey);
+    }
+
+    @Override
+    public List<T> slice(final long anOffset, final int aLimit, final boolean descending) {
+        if (anOffset >= size() || aLimit <= 0) {
+            return List.of();
+        }
+
+        final int count = (int) Math.min(aLimit, size() - anOffset);
+        final var items = new ArrayList<T>(count);
+        final var iterator = iterator((int) anOffset, descending);
+        while (items.size() < count) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    @Override
+    public void forEach(final int aStart, final boolean descending, final Predicate<? super T> aVisitor) {
+        final var iterator = iterator(aStart, descending);
+        while (iterator.hasNext()) {
+            if (!aVisitor.test(iterator.next())) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator(final int aStart, final boolean descending) {
+        if (aStart >= size() || aStart < 0) {
+            return Collections.emptyIterator();
+        }
+
+        final Comparator<? super T> order = descending ? Collections.reverseOrder(this.comparator) : this.comparator;
+        final int fromFirst = split(aStart, descending, order);
+        final var firstIterator = this.first.iterator(fromFirst, descending);
+        final var secondIterator = this.second.iterator(aStart - fromFirst, descending);
+
+        return new Iterator<>() {
+            private T nextFirst = firstIterator.hasNext() ? firstIterator.next() : null;
+            private T nextSecond = secondIterator.hasNext() ? secondIterator.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextFirst != null || nextSecond != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final T element;
+                if (nextSecond == null || (nextFirst != null && order.compare(nextFirst, nextSecond) < 0)) {
+                    element = nextFirst;
+                    nextFirst = firstIterator.hasNext() ? firstIterator.next() : null;
+                } else {
+                    element = nextSecond;
+                    nextSecond = secondIterator.hasNext() ? secondIterator.next() : null;
+                }
+                return element;
+            }
+        };
+    }
+
+    // How many of the first aPosition elements, in iteration order, come from the first view
+    private int split(final int aPosition, final boolean descending, final Comparator<? super T> order) {
+        int low = Math.max(0, aPosition - this.second.size());
+        int high = Math.min(aPosition, this.first.size());
+        while (low < high) {
+            final int taken = (low + high) >>> 1;
+            final var firstCandidate = at(this.first, taken, descending);
+            final var secondBefore = at(this.second, aPosition - taken - 1, descending);
+            if (order.compare(secondBefore, firstCandidate) > 0) {
+                low = taken + 1;
+            } else {
+                high = taken;
+            }
+        }
+        return low;
+    }
+
+    private static <T> T at(final SortedView<T> aView, final int aPosition, final boolean descending) {
+        return aView.get(descending ? aView.size() - 1 - aPosition : aPosition);
+    }
+}
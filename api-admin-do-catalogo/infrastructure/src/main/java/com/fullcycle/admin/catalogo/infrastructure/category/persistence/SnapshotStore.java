@@ -0,0 +1,310 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Point-in-time copies of the catalog, split into segment files that are memory
+ * mapped on load and decoded in parallel. A snapshot only exists once its
+ * manifest has been atomically renamed into place, so a crash mid-write leaves
+ * the previous snapshot in charge.
+ */
+public class SnapshotStore {
+    private static final String PREFIX = "snapshot-";
+    private static final String MANIFEST_SUFFIX = ".manifest";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int MAGIC = 0x43534E50;
+    private static final byte VERSION = 2;
+    private static final int HEADER_SIZE = 5;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+
+    public SnapshotStore(final Path aDirectory, final long aMaxSegmentBytes) {
+        if (aMaxSegmentBytes <= HEADER_SIZE || aMaxSegmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("'maxSegmentBytes' must fit a single memory mapping");
+        }
+        this.directory = aDirectory;
+        this.maxSegmentBytes = aMaxSegmentBytes;
+    }
+
+    /**
+     * Writes every category the source hands out as the snapshot for the given
+     * LSN. The source may keep changing while it is read: replaying the log after
+     * that LSN brings the snapshot up to date.
+     */
+    public void write(final long anLsn, final Consumer<Consumer<Category>> aSource) throws IOException {
+        Files.createDirectories(this.directory);
+        final var manifest = this.directory.resolve(FileSupport.fileName(PREFIX, anLsn, MANIFEST_SUFFIX));
+        if (Files.exists(manifest)) {
+            return;
+        }
+
+        final var writer = new SegmentWriter(anLsn);
+        try {
+            aSource.accept(aCategory -> {
+                try {
+                    writer.write(aCategory);
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.finish();
+        } catch (final UncheckedIOException ex) {
+            writer.abort();
+            throw ex.getCause();
+        } catch (final IOException | RuntimeException ex) {
+            writer.abort();
+            throw ex;
+        }
+
+        final var temporary = this.directory.resolve(manifest.getFileName() + ".tmp");
+        try (final var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final var content = new ByteArrayOutputStream();
+            writer.manifest().store(content, null);
+            FileSupport.writeFully(channel, ByteBuffer.wrap(content.toByteArray()));
+            channel.force(true);
+        }
+        Files.move(temporary, manifest, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        FileSupport.syncDirectory(this.directory);
+    }
+
+    /**
+     * Loads the newest snapshot in batches, possibly from several threads at
+     * once, and returns its LSN, or zero when there is none.
+     */
+    public long load(final Consumer<List<Category>> aSink) throws IOException {
+        final long lsn = latestLsn();
+        if (lsn < 0) {
+            return 0;
+        }
+
+        final var manifest = new Properties();
+        try (final var in = Files.newInputStream(this.directory.resolve(FileSupport.fileName(PREFIX, lsn, MANIFEST_SUFFIX)))) {
+            manifest.load(in);
+        }
+
+        final int segmentCount = Integer.parseInt(manifest.getProperty("segments"));
+        final var segments = new ArrayList<Integer>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(i);
+        }
+        try {
+            segments.parallelStream().forEach(segment -> {
+                try {
+                    readSegment(
+                        this.directory.resolve(manifest.getProperty("segment.%d.file".formatted(segment))),
+                        Long.parseLong(manifest.getProperty("segment.%d.count".formatted(segment))),
+                        (int) Long.parseLong(manifest.getProperty("segment.%d.crc".formatted(segment))),
+                        aSink
+                    );
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        return lsn;
+    }
+
+    /**
+     * Deletes every snapshot older than the given LSN, along with leftovers of
+     * snapshots that never got a manifest.
+     */
+    public void deleteOlderThan(final long anLsn) throws IOException {
+        if (!Files.isDirectory(this.directory)) {
+            return;
+        }
+        try (final var files = Files.list(this.directory)) {
+            for (final var file : (Iterable<Path>) files::iterator) {
+                final var name = file.getFileName().toString();
+                final long lsn = snapshotLsnOf(name);
+                if (lsn >= 0 && lsn < anLsn) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private long latestLsn() throws IOException {
+        if (!Files.isDirectory(this.directory)) {
+            return -1;
+        }
+        long latest = -1;
+        try (final var files = Files.list(this.directory)) {
+            for (final var file : (Iterable<Path>) files::iterator) {
+                latest = Math.max(latest, FileSupport.parseSequence(file.getFileName().toString(), PREFIX, MANIFEST_SUFFIX));
+            }
+        }
+        return latest;
+    }
+
+    private static long snapshotLsnOf(final String aFileName) {
+        if (!aFileName.startsWith(PREFIX) || aFileName.length() < PREFIX.length() + 20) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(aFileName.substring(PREFIX.length(), PREFIX.length() + 20));
+        } catch (final NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private static void readSegment(
+        final Path aFile,
+        final long anExpectedCount,
+        final int anExpectedCrc,
+        final Consumer<List<Category>> aSink
+    ) throws IOException {
+        try (final var channel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+            final var in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC || in.get() != VERSION) {
+                throw new IOException("snapshot segment %s has an unknown format".formatted(aFile));
+            }
+
+            final var crc = new CRC32C();
+            crc.update(in.slice());
+            if ((int) crc.getValue() != anExpectedCrc) {
+                throw new IOException("snapshot segment %s is corrupt".formatted(aFile));
+            }
+
+            long count = 0;
+            var batch = new ArrayList<Category>(LOAD_BATCH_SIZE);
+            while (in.hasRemaining()) {
+                final int length = in.getInt();
+                batch.add(CategoryCodec.decode(in.slice(in.position(), length)));
+                in.position(in.position() + length);
+                count++;
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    aSink.accept(batch);
+                    batch = new ArrayList<>(LOAD_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                aSink.accept(batch);
+            }
+            if (count != anExpectedCount) {
+                throw new IOException("snapshot segment %s has %d records, expected %d".formatted(aFile, count, anExpectedCount));
+            }
+        }
+    }
+
+    private class SegmentWriter {
+        private final long lsn;
+        private final Properties manifest;
+        private final ByteBuffer buffer;
+        private final CRC32C crc;
+        private final List<Path> files;
+        private FileChannel channel;
+        private long size;
+        private long count;
+
+        private SegmentWriter(final long anLsn) {
+            this.lsn = anLsn;
+            this.manifest = new Properties();
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            this.crc = new CRC32C();
+            this.files = new ArrayList<>();
+        }
+
+        private void write(final Category aCategory) throws IOException {
+            final int recordSize = CategoryCodec.sizeOf(aCategory);
+            final int frameSize = 4 + recordSize;
+            if (this.channel == null || (this.count > 0 && this.size + frameSize > maxSegmentBytes)) {
+                nextSegment();
+            }
+
+            if (frameSize > this.buffer.remaining()) {
+                flush();
+            }
+            final var out = frameSize > this.buffer.capacity() ? ByteBuffer.allocate(frameSize) : this.buffer;
+            out.putInt(recordSize);
+            CategoryCodec.encode(aCategory, out);
+            if (out != this.buffer) {
+                out.flip();
+                this.crc.update(out.duplicate());
+                FileSupport.writeFully(this.channel, out);
+            }
+            this.size += frameSize;
+            this.count++;
+        }
+
+        private void finish() throws IOException {
+            if (this.channel == null) {
+                nextSegment();
+            }
+            closeSegment();
+            this.manifest.setProperty("lsn", Long.toString(this.lsn));
+            this.manifest.setProperty("segments", Integer.toString(this.files.size()));
+        }
+
+        private Properties manifest() {
+            return this.manifest;
+        }
+
+        private void abort() {
+            try {
+                if (this.channel != null) {
+                    this.channel.close();
+                }
+                for (final var file : this.files) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (final IOException ex) {
+                // leftovers are removed with the next successful snapshot
+            }
+        }
+
+        private void nextSegment() throws IOException {
+            if (this.channel != null) {
+                closeSegment();
+            }
+            final var name = FileSupport.fileName(PREFIX, this.lsn, "-%05d%s".formatted(this.files.size(), SEGMENT_SUFFIX));
+            final var file = directory.resolve(name);
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.files.add(file);
+            this.crc.reset();
+            this.count = 0;
+
+            final var header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).put(VERSION).flip();
+            FileSupport.writeFully(this.channel, header);
+            this.size = HEADER_SIZE;
+        }
+
+        private void closeSegment() throws IOException {
+            flush();
+            this.channel.force(true);
+            this.channel.close();
+
+            final int segment = this.files.size() - 1;
+            this.manifest.setProperty("segment.%d.file".formatted(segment), this.files.get(segment).getFileName().toString());
+            this.manifest.setProperty("segment.%d.count".formatted(segment), Long.toString(this.count));
+            this.manifest.setProperty("segment.%d.crc".formatted(segment), Long.toString(this.crc.getValue()));
+            this.channel = null;
+        }
+
+        private void flush() throws IOException {
+            this.buffer.flip();
+            this.crc.update(this.buffer.duplicate());
+            FileSupport.writeFully(this.channel, this.buffer);
+            this.buffer.clear();
+        }
+    }
+}
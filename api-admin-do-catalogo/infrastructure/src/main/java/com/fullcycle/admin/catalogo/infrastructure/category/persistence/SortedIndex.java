@@ -0,0 +1,267 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Sorted list split into bounded chunks, so inserts and removals only shift one
+ * chunk and positional reads skip whole chunks. Not thread-safe: callers guard it.
+ */
+public class SortedIndex<T> implements SortedView<T> {
+    private static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private final Comparator<? super T> comparator;
+    private final int chunkSize;
+    private final List<List<T>> chunks;
+    private int size;
+
+    public SortedIndex(final Comparator<? super T> aComparator) {
+        this(aComparator, DEFAULT_CHUNK_SIZE);
+    }
+
+    public SortedIndex(final Comparator<? super T> aComparator, final int aChunkSize) {
+        if (aChunkSize < 2) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than 1");
+        }
+        this.comparator = Objects.requireNonNull(aComparator);
+        this.chunkSize = aChunkSize;
+        this.chunks = new ArrayList<>();
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(final T anElement) {
+        if (chunks.isEmpty()) {
+            final var chunk = new ArrayList<T>(chunkSize);
+            chunk.add(anElement);
+            chunks.add(chunk);
+            size++;
+            return;
+        }
+
+        final int chunkIndex = chunkFor(anElement);
+        final var chunk = chunks.get(chunkIndex);
+        final int position = Collections.binarySearch(chunk, anElement, comparator);
+        chunk.add(position < 0 ? -position - 1 : position, anElement);
+        size++;
+
+        if (chunk.size() > chunkSize * 2) {
+            final var upperHalf = new ArrayList<>(chunk.subList(chunkSize, chunk.size()));
+            chunk.subList(chunkSize, chunk.size()).clear();
+            chunks.add(chunkIndex + 1, upperHalf);
+        }
+    }
+
+    public boolean remove(final T anElement) {
+        if (chunks.isEmpty()) {
+            return false;
+        }
+
+        final int chunkIndex = chunkFor(anElement);
+        final var chunk = chunks.get(chunkIndex);
+        final int position = Collections.binarySearch(chunk, anElement, comparator);
+        if (position < 0) {
+            return false;
+        }
+
+        chunk.remove(position);
+        size--;
+
+        if (chunk.isEmpty()) {
+            chunks.remove(chunkIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Swaps an element for its new version. When both sort the same, as when
+     * only fields outside the sort key changed, the element is overwritten in
+     * place instead of being removed and added again.
+     */
+    public void replace(final T previous, final T current) {
+        if (!chunks.isEmpty() && comparator.compare(previous, current) == 0) {
+            final var chunk = chunks.get(chunkFor(previous));
+            final int position = Collections.binarySearch(chunk, previous, comparator);
+            if (position >= 0) {
+                chunk.set(position, current);
+                return;
+            }
+        }
+        remove(previous);
+        add(current);
+    }
+
+    @Override
+    public T get(final int anIndex) {
+        Objects.checkIndex(anIndex, size);
+        int remaining = anIndex;
+        for (final var chunk : chunks) {
+            if (remaining < chunk.size()) {
+                return chunk.get(remaining);
+            }
+            remaining -= chunk.size();
+        }
+        throw new IllegalStateException("index is out of sync with its chunks");
+    }
+
+    /**
+     * Number of elements strictly lower than the given key, which is also the
+     * position the key would take if it were added.
+     */
+    @Override
+    public int rank(final T aKey) {
+        if (chunks.isEmpty()) {
+            return 0;
+        }
+
+        final int chunkIndex = chunkFor(aKey);
+        int rank = 0;
+        for (int i = 0; i < chunkIndex; i++) {
+            rank += chunks.get(i).size();
+        }
+
+        final var chunk = chunks.get(chunkIndex);
+        final int position = Collections.binarySearch(chunk, aKey, comparator);
+        return rank + (position < 0 ? -position - 1 : position);
+    }
+
+    @Override
+    public List<T> slice(final long anOffset, final int aLimit, final boolean descending) {
+        if (anOffset >= size || aLimit <= 0) {
+            return List.of();
+        }
+
+        final int count = (int) Math.min(aLimit, size - anOffset);
+        final var items = new ArrayList<T>(count);
+        forEach((int) anOffset, descending, anElement -> {
+            items.add(anElement);
+            return items.size() < count;
+        });
+        return items;
+    }
+
+    /**
+     * Visits elements starting at the given position, in ascending or descending
+     * order, until the visitor returns false or the index is exhausted.
+     */
+    @Override
+    public void forEach(final int aStart, final boolean descending, final Predicate<? super T> aVisitor) {
+        if (aStart >= size || aStart < 0) {
+            return;
+        }
+
+        if (descending) {
+            forEachDescending(size - 1 - aStart, aVisitor);
+        } else {
+            forEachAscending(aStart, aVisitor);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator(final int aStart, final boolean descending) {
+        if (aStart >= size || aStart < 0) {
+            return Collections.emptyIterator();
+        }
+
+        // chunk and position of the first element, then walk chunk by chunk
+        int chunkIndex = 0;
+        int position = descending ? size - 1 - aStart : aStart;
+        while (position >= chunks.get(chunkIndex).size()) {
+            position -= chunks.get(chunkIndex).size();
+            chunkIndex++;
+        }
+
+        final int firstChunk = chunkIndex;
+        final int firstPosition = position;
+        return new Iterator<>() {
+            private int chunk = firstChunk;
+            private int index = firstPosition;
+
+            @Override
+            public boolean hasNext() {
+                return chunk >= 0 && chunk < chunks.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final var current = chunks.get(chunk);
+                final var element = current.get(index);
+                if (descending) {
+                    if (--index < 0 && --chunk >= 0) {
+                        index = chunks.get(chunk).size() - 1;
+                    }
+                } else if (++index == current.size()) {
+                    chunk++;
+                    index = 0;
+                }
+                return element;
+            }
+        };
+    }
+
+    private void forEachAscending(final int aStart, final Predicate<? super T> aVisitor) {
+        int skip = aStart;
+        for (final var chunk : chunks) {
+            if (skip >= chunk.size()) {
+                skip -= chunk.size();
+                continue;
+            }
+            for (int i = skip; i < chunk.size(); i++) {
+                if (!aVisitor.test(chunk.get(i))) {
+                    return;
+                }
+            }
+            skip = 0;
+        }
+    }
+
+    private void forEachDescending(final int aStart, final Predicate<? super T> aVisitor) {
+        int chunkIndex = 0;
+        int position = aStart;
+        while (position >= chunks.get(chunkIndex).size()) {
+            position -= chunks.get(chunkIndex).size();
+            chunkIndex++;
+        }
+
+        for (int c = chunkIndex; c >= 0; c--) {
+            final var chunk = chunks.get(c);
+            for (int i = c == chunkIndex ? position : chunk.size() - 1; i >= 0; i--) {
+                if (!aVisitor.test(chunk.get(i))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private int chunkFor(final T anElement) {
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final var chunk = chunks.get(middle);
+            if (comparator.compare(chunk.get(chunk.size() - 1), anElement) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
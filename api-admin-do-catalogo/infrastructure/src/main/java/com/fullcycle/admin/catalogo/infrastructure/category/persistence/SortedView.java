@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Read side of a sorted collection, addressed by position. Positions passed to
+ * {@link #forEach} and {@link #iterator} count in iteration order, so position
+ * 0 is the last element when descending.
+ */
+public interface SortedView<T> {
+    int size();
+
+    T get(int anIndex);
+
+    /**
+     * Number of elements strictly lower than the given key.
+     */
+    int rank(T aKey);
+
+    List<T> slice(long anOffset, int aLimit, boolean descending);
+
+    void forEach(int aStart, boolean descending, Predicate<? super T> aVisitor);
+
+    Iterator<T> iterator(int aStart, boolean descending);
+}
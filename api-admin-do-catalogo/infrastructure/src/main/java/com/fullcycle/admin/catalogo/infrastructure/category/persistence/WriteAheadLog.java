@@ -0,0 +1,229 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log split into segment files named after their first LSN. Each
+ * record is framed as [length][crc32c][payload]; a torn or corrupt record at the
+ * end of the last segment marks the end of the log and is truncated on open.
+ * Appends come from a single writer; retention may run concurrently.
+ */
+public class WriteAheadLog implements Closeable {
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+    private static final int FRAME_HEADER_SIZE = 8;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final TreeMap<Long, Path> segments;
+    private final CRC32C crc;
+    private ByteBuffer buffer;
+    private FileChannel active;
+    private long activeSize;
+    private long lastLsn;
+
+    private WriteAheadLog(final Path aDirectory, final long aMaxSegmentBytes) {
+        this.directory = aDirectory;
+        this.maxSegmentBytes = aMaxSegmentBytes;
+        this.segments = new TreeMap<>();
+        this.crc = new CRC32C();
+        this.buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    }
+
+    /**
+     * Opens the log, handing every entry newer than the given LSN to the consumer
+     * in order. Segments entirely covered by that LSN are not read.
+     */
+    public static WriteAheadLog open(
+        final Path aDirectory,
+        final long aMaxSegmentBytes,
+        final long afterLsn,
+        final Consumer<CategoryLogEntry> aConsumer
+    ) throws IOException {
+        Objects.requireNonNull(aConsumer);
+        if (aMaxSegmentBytes <= FRAME_HEADER_SIZE) {
+            throw new IllegalArgumentException("'maxSegmentBytes' is too small");
+        }
+        Files.createDirectories(aDirectory);
+
+        final var log = new WriteAheadLog(aDirectory, aMaxSegmentBytes);
+        try (final var files = Files.list(aDirectory)) {
+            files.forEach(file -> {
+                final long firstLsn = FileSupport.parseSequence(file.getFileName().toString(), PREFIX, SUFFIX);
+                if (firstLsn >= 0) {
+                    log.segments.put(firstLsn, file);
+                }
+            });
+        }
+        log.recover(afterLsn, aConsumer);
+        return log;
+    }
+
+    public synchronized long lastLsn() {
+        return lastLsn;
+    }
+
+    /**
+     * Writes the entries and forces them to disk before returning. Returns the
+     * number of bytes appended.
+     */
+    public synchronized long append(final List<CategoryLogEntry> anEntries) throws IOException {
+        if (anEntries.isEmpty()) {
+            return 0;
+        }
+
+        int size = 0;
+        for (final var entry : anEntries) {
+            size += FRAME_HEADER_SIZE + entry.size();
+        }
+        final var out = bufferOf(size);
+        for (final var entry : anEntries) {
+            final int start = out.position();
+            out.position(start + FRAME_HEADER_SIZE);
+            entry.writeTo(out);
+            final int end = out.position();
+
+            this.crc.reset();
+            this.crc.update(out.array(), start + FRAME_HEADER_SIZE, end - start - FRAME_HEADER_SIZE);
+            out.putInt(start, end - start - FRAME_HEADER_SIZE);
+            out.putInt(start + 4, (int) this.crc.getValue());
+        }
+        out.flip();
+
+        FileSupport.writeFully(this.active, out);
+        this.active.force(false);
+        this.activeSize += size;
+        this.lastLsn = anEntries.get(anEntries.size() - 1).lsn();
+
+        if (this.activeSize >= this.maxSegmentBytes) {
+            rotate();
+        }
+        return size;
+    }
+
+    /**
+     * Deletes closed segments whose entries are all at or below the given LSN.
+     */
+    public synchronized void deleteThrough(final long anLsn) throws IOException {
+        // the last segment is the active one and is never deleted
+        while (this.segments.size() > 1) {
+            final var oldest = this.segments.firstEntry();
+            if (this.segments.higherKey(oldest.getKey()) > anLsn + 1) {
+                return;
+            }
+            Files.deleteIfExists(oldest.getValue());
+            this.segments.pollFirstEntry();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.active != null) {
+            this.active.close();
+            this.active = null;
+        }
+    }
+
+    private void recover(final long afterLsn, final Consumer<CategoryLogEntry> aConsumer) throws IOException {
+        this.lastLsn = afterLsn;
+        final var firstLsns = List.copyOf(this.segments.keySet());
+        for (int i = 0; i < firstLsns.size(); i++) {
+            final boolean isLast = i == firstLsns.size() - 1;
+            if (!isLast && firstLsns.get(i + 1) <= afterLsn + 1) {
+                continue;
+            }
+
+            final var file = this.segments.get(firstLsns.get(i));
+            final long validEnd = replay(file, afterLsn, aConsumer);
+            if (validEnd < Files.size(file)) {
+                if (!isLast) {
+                    throw new IOException("write-ahead log segment %s is corrupt at offset %d".formatted(file, validEnd));
+                }
+                try (final var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(validEnd);
+                    channel.force(true);
+                }
+            }
+        }
+
+        if (this.segments.isEmpty()) {
+            openSegment(this.lastLsn + 1);
+        } else {
+            final var last = this.segments.lastEntry().getValue();
+            this.active = FileChannel.open(last, StandardOpenOption.WRITE);
+            this.activeSize = this.active.size();
+            this.active.position(this.activeSize);
+        }
+    }
+
+    // Returns the offset right after the last intact record
+    private long replay(final Path aFile, final long afterLsn, final Consumer<CategoryLogEntry> aConsumer) throws IOException {
+        try (final var channel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size == 0) {
+                return 0;
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("write-ahead log segment %s is too large to map".formatted(aFile));
+            }
+
+            final var in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            while (in.remaining() >= FRAME_HEADER_SIZE) {
+                final int start = in.position();
+                final int length = in.getInt();
+                final int checksum = in.getInt();
+                if (length <= 0 || length > in.remaining()) {
+                    return start;
+                }
+
+                final var payload = in.slice(in.position(), length);
+                this.crc.reset();
+                this.crc.update(payload);
+                if ((int) this.crc.getValue() != checksum) {
+                    return start;
+                }
+
+                final var entry = CategoryLogEntry.readFrom(in.slice(in.position(), length));
+                in.position(in.position() + length);
+                if (entry.lsn() > afterLsn) {
+                    aConsumer.accept(entry);
+                }
+                this.lastLsn = Math.max(this.lastLsn, entry.lsn());
+            }
+            return in.position();
+        }
+    }
+
+    private void rotate() throws IOException {
+        this.active.close();
+        openSegment(this.lastLsn + 1);
+    }
+
+    private void openSegment(final long aFirstLsn) throws IOException {
+        final var file = this.directory.resolve(FileSupport.fileName(PREFIX, aFirstLsn, SUFFIX));
+        this.active = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.activeSize = 0;
+        this.segments.put(aFirstLsn, file);
+        FileSupport.syncDirectory(this.directory);
+    }
+
+    private ByteBuffer bufferOf(final int aSize) {
+        if (this.buffer.capacity() < aSize) {
+            this.buffer = ByteBuffer.allocate(Math.max(aSize, this.buffer.capacity() * 2));
+        }
+        this.buffer.clear();
+        return this.buffer;
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalogo.infrastructure.events;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring. Producers claim a slot with a
+ * CAS on the tail and publish it through the slot's sequence number; the
+ * consumer frees slots by advancing their sequence one lap ahead.
+ */
+class EventRingBuffer<E> {
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail;
+    private long head;
+
+    EventRingBuffer(final int aCapacity) {
+        if (aCapacity < 2 || Integer.bitCount(aCapacity) != 1) {
+            throw new IllegalArgumentException("'capacity' must be a power of two");
+        }
+        this.slots = new Object[aCapacity];
+        this.sequences = new AtomicLongArray(aCapacity);
+        for (int i = 0; i < aCapacity; i++) {
+            this.sequences.set(i, i);
+        }
+        this.mask = aCapacity - 1;
+        this.tail = new AtomicLong();
+    }
+
+    boolean offer(final E anElement) {
+        long position = this.tail.get();
+        while (true) {
+            final int index = (int) position & this.mask;
+            final long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.slots[index] = anElement;
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    // Consumer thread only
+    @SuppressWarnings("unchecked")
+    int drainTo(final List<? super E> aTarget, final int aLimit) {
+        int drained = 0;
+        while (drained < aLimit) {
+            final int index = (int) this.head & this.mask;
+            if (this.sequences.get(index) != this.head + 1) {
+                break;
+            }
+            aTarget.add((E) this.slots[index]);
+            this.slots[index] = null;
+            this.sequences.set(index, this.head + this.slots.length);
+            this.head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    // Consumer thread only
+    boolean isEmpty() {
+        return this.sequences.get((int) this.head & this.mask) != this.head + 1;
+    }
+}
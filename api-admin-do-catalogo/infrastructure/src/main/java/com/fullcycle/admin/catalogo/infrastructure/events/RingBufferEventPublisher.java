@@ -0,0 +1,156 @@
+package com.fullcycle.admin.catalogo.infrastructure.events;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.events.DomainEventPublisher;
+import com.fullcycle.admin.catalogo.domain.events.DomainEventSubscriber;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes events into a bounded lock-free ring that a single thread drains,
+ * handing subscribers everything queued so far in batches. Publishing only
+ * waits when the ring is full, that is when subscribers fall a whole ring
+ * behind. A failing subscriber is counted and does not stop the others.
+ */
+public class RingBufferEventPublisher implements DomainEventPublisher, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final EventRingBuffer<DomainEvent> ring;
+    private final int batchSize;
+    private final List<DomainEventSubscriber> subscribers;
+    private final LongAdder published;
+    private final LongAdder delivered;
+    private final LongAdder failures;
+    private final Thread drainer;
+    private volatile boolean running;
+    private volatile boolean idle;
+
+    public RingBufferEventPublisher() {
+        this(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public RingBufferEventPublisher(final int aCapacity, final int aBatchSize) {
+        if (aBatchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' must be greater than 0");
+        }
+        this.ring = new EventRingBuffer<>(aCapacity);
+        this.batchSize = aBatchSize;
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.published = new LongAdder();
+        this.delivered = new LongAdder();
+        this.failures = new LongAdder();
+        this.running = true;
+        this.drainer = new Thread(this::drainLoop, "domain-event-drainer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    public void subscribe(final DomainEventSubscriber aSubscriber) {
+        this.subscribers.add(Objects.requireNonNull(aSubscriber));
+    }
+
+    @Override
+    public void publish(final DomainEvent anEvent) {
+        Objects.requireNonNull(anEvent);
+        if (!this.running) {
+            throw new IllegalStateException("publisher is closed");
+        }
+        while (!this.ring.offer(anEvent)) {
+            if (!this.running) {
+                throw new IllegalStateException("publisher is closed");
+            }
+            LockSupport.unpark(this.drainer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        this.published.increment();
+        if (this.idle) {
+            LockSupport.unpark(this.drainer);
+        }
+    }
+
+    public long published() {
+        return this.published.sum();
+    }
+
+    public long delivered() {
+        return this.delivered.sum();
+    }
+
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Waits until every event published so far reached the subscribers.
+     */
+    public boolean awaitDrained(final Duration aTimeout) {
+        final long target = published();
+        final long deadline = System.nanoTime() + aTimeout.toNanos();
+        while (delivered() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(this.drainer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting events once everything already published is delivered.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        LockSupport.unpark(this.drainer);
+        try {
+            this.drainer.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        final var batch = new ArrayList<DomainEvent>(this.batchSize);
+        while (true) {
+            if (this.ring.drainTo(batch, this.batchSize) > 0) {
+                deliver(batch);
+                batch.clear();
+                continue;
+            }
+            if (!this.running) {
+                return;
+            }
+
+            // publishers check the flag after offering, so either they see it or we see their event
+            this.idle = true;
+            if (this.ring.isEmpty() && this.running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            this.idle = false;
+        }
+    }
+
+    private void deliver(final List<DomainEvent> aBatch) {
+        final var events = List.copyOf(aBatch);
+        for (final var subscriber : this.subscribers) {
+            try {
+                subscriber.onEvents(events);
+            } catch (final RuntimeException ex) {
+                this.failures.increment();
+            }
+        }
+        this.delivered.add(events.size());
+    }
+}
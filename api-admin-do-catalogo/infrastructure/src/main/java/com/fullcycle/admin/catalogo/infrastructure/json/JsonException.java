@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.json;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NoStackTraceException;
+
+public class JsonException extends NoStackTraceException {
+    public JsonException(final String aMessage) {
+        super(aMessage);
+    }
+}
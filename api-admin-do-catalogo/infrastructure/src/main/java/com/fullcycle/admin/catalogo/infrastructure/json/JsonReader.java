@@ -0,0 +1,351 @@
+package com.fullcycle.admin.catalogo.infrastructure.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pull parser over a UTF-8 document. Callers walk the structure they expect
+ * and skip what they do not know; nothing is materialized besides the values
+ * they read. Documents nested deeper than {@value #MAX_DEPTH} levels are
+ * rejected, which also bounds the recursion of {@link #skipValue()}.
+ */
+public final class JsonReader {
+    public static final int MAX_DEPTH = 64;
+
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 2;
+
+    private final byte[] input;
+    private int position;
+    private int[] kinds;
+    private int[] counts;
+    private int depth;
+    private boolean separated;
+
+    public JsonReader(final byte[] anInput) {
+        this.input = anInput;
+        this.kinds = new int[8];
+        this.counts = new int[8];
+    }
+
+    public void beginObject() {
+        beforeValue();
+        expect('{');
+        push(OBJECT);
+    }
+
+    public void endObject() {
+        skipWhitespace();
+        expect('}');
+        pop(OBJECT);
+    }
+
+    public void beginArray() {
+        beforeValue();
+        expect('[');
+        push(ARRAY);
+    }
+
+    public void endArray() {
+        skipWhitespace();
+        expect(']');
+        pop(ARRAY);
+    }
+
+    public boolean hasNext() {
+        skipWhitespace();
+        if (this.position >= this.input.length) {
+            return false;
+        }
+        final byte c = this.input[this.position];
+        return c != '}' && c != ']';
+    }
+
+    public String nextName() {
+        if (this.depth == 0 || this.kinds[this.depth] != OBJECT) {
+            throw error("a name is only allowed inside an object");
+        }
+        separate();
+        skipWhitespace();
+        final var name = readString();
+        skipWhitespace();
+        expect(':');
+        return name;
+    }
+
+    public boolean peekNull() {
+        prepareValue();
+        return startsWith("null");
+    }
+
+    public void nextNull() {
+        beforeValue();
+        literal("null");
+    }
+
+    public String nextString() {
+        beforeValue();
+        return readString();
+    }
+
+    /**
+     * Reads a string, or null when the value is a JSON null.
+     */
+    public String nextNullableString() {
+        if (peekNull()) {
+            nextNull();
+            return null;
+        }
+        return nextString();
+    }
+
+    public boolean nextBoolean() {
+        beforeValue();
+        if (startsWith("true")) {
+            literal("true");
+            return true;
+        }
+        literal("false");
+        return false;
+    }
+
+    public long nextLong() {
+        beforeValue();
+        final int start = this.position;
+        boolean negative = false;
+        if (this.position < this.input.length && this.input[this.position] == '-') {
+            negative = true;
+            this.position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (this.position < this.input.length && this.input[this.position] >= '0' && this.input[this.position] <= '9') {
+            value = Math.addExact(Math.multiplyExact(value, 10), this.input[this.position++] - '0');
+            digits++;
+        }
+        if (digits == 0) {
+            this.position = start;
+            throw error("expected a number");
+        }
+        return negative ? -value : value;
+    }
+
+    public void skipValue() {
+        prepareValue();
+        switch (peekByte()) {
+            case '{' -> {
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+            }
+            case '[' -> {
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+            }
+            case '"' -> nextString();
+            case 't', 'f' -> nextBoolean();
+            case 'n' -> nextNull();
+            default -> {
+                beforeValue();
+                skipNumber();
+            }
+        }
+    }
+
+    /**
+     * Fails unless only whitespace is left.
+     */
+    public void end() {
+        skipWhitespace();
+        if (this.depth != 0 || this.position != this.input.length) {
+            throw error("unexpected content after the document");
+        }
+    }
+
+    // Consumes the comma before an array element once, so a value can be peeked and then read
+    private void prepareValue() {
+        if (!this.separated && this.depth > 0 && this.kinds[this.depth] == ARRAY) {
+            separate();
+        }
+        this.separated = true;
+        skipWhitespace();
+    }
+
+    private void beforeValue() {
+        prepareValue();
+        this.separated = false;
+    }
+
+    private void separate() {
+        skipWhitespace();
+        if (this.counts[this.depth] > 0) {
+            expect(',');
+        }
+        this.counts[this.depth]++;
+    }
+
+    private void push(final int aKind) {
+        if (this.depth == MAX_DEPTH) {
+            throw error("document nested deeper than " + MAX_DEPTH + " levels");
+        }
+        this.depth++;
+        if (this.depth == this.kinds.length) {
+            this.kinds = Arrays.copyOf(this.kinds, this.depth * 2);
+            this.counts = Arrays.copyOf(this.counts, this.depth * 2);
+        }
+        this.kinds[this.depth] = aKind;
+        this.counts[this.depth] = 0;
+    }
+
+    private void pop(final int aKind) {
+        if (this.depth == 0 || this.kinds[this.depth] != aKind) {
+            throw error("unbalanced document");
+        }
+        this.depth--;
+    }
+
+    private String readString() {
+        expect('"');
+        final int start = this.position;
+        while (this.position < this.input.length) {
+            final byte c = this.input[this.position];
+            if (c == '"') {
+                return new String(this.input, start, this.position++ - start, StandardCharsets.UTF_8);
+            }
+            if (c == '\\') {
+                return readEscapedString(start);
+            }
+            if ((c & 0xFF) < 0x20) {
+                throw error("control character in string");
+            }
+            this.position++;
+        }
+        throw error("unterminated string");
+    }
+
+    private String readEscapedString(final int aStart) {
+        final var builder = new StringBuilder(this.position - aStart + 16);
+        builder.append(new String(this.input, aStart, this.position - aStart, StandardCharsets.UTF_8));
+        int chunkStart = this.position;
+        while (this.position < this.input.length) {
+            final byte c = this.input[this.position];
+            if (c == '"' || c == '\\') {
+                builder.append(new String(this.input, chunkStart, this.position - chunkStart, StandardCharsets.UTF_8));
+                this.position++;
+                if (c == '"') {
+                    return builder.toString();
+                }
+                builder.append(readEscape());
+                chunkStart = this.position;
+                continue;
+            }
+            if ((c & 0xFF) < 0x20) {
+                throw error("control character in string");
+            }
+            this.position++;
+        }
+        throw error("unterminated string");
+    }
+
+    private char readEscape() {
+        if (this.position >= this.input.length) {
+            throw error("unterminated escape");
+        }
+        final byte c = this.input[this.position++];
+        return switch (c) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '/' -> '/';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> readUnicodeEscape();
+            default -> throw error("invalid escape");
+        };
+    }
+
+    private char readUnicodeEscape() {
+        if (this.position + 4 > this.input.length) {
+            throw error("unterminated escape");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(this.input[this.position++], 16);
+            if (digit < 0) {
+                throw error("invalid escape");
+            }
+            value = value << 4 | digit;
+        }
+        return (char) value;
+    }
+
+    private void skipNumber() {
+        final int start = this.position;
+        while (this.position < this.input.length) {
+            final byte c = this.input[this.position];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                this.position++;
+            } else {
+                break;
+            }
+        }
+        if (start == this.position) {
+            throw error("unexpected character");
+        }
+    }
+
+    private void literal(final String aLiteral) {
+        if (!startsWith(aLiteral)) {
+            throw error("expected " + aLiteral);
+        }
+        this.position += aLiteral.length();
+    }
+
+    private boolean startsWith(final String aLiteral) {
+        if (this.position + aLiteral.length() > this.input.length) {
+            return false;
+        }
+        for (int i = 0; i < aLiteral.length(); i++) {
+            if (this.input[this.position + i] != aLiteral.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte peekByte() {
+        if (this.position >= this.input.length) {
+            throw error("unexpected end of document");
+        }
+        return this.input[this.position];
+    }
+
+    private void expect(final char aChar) {
+        if (this.position >= this.input.length || this.input[this.position] != aChar) {
+            throw error("expected '" + aChar + "'");
+        }
+        this.position++;
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.input.length && isWhitespace(this.input[this.position])) {
+            this.position++;
+        }
+    }
+
+    private static boolean isWhitespace(final byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private JsonException error(final String aMessage) {
+        return new JsonException("%s at offset %d".formatted(aMessage, this.position));
+    }
+}
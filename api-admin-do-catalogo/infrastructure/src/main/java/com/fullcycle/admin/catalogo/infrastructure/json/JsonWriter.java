@@ -0,0 +1,237 @@
+package com.fullcycle.admin.catalogo.infrastructure.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer emitting UTF-8 straight into a byte buffer, flushed to
+ * the underlying stream when it fills up. Commas are tracked per nesting level,
+ * so callers only describe the structure.
+ */
+public final class JsonWriter {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+    private boolean[] hasElements;
+    private int depth;
+    private boolean afterName;
+
+    public JsonWriter(final OutputStream anOut) {
+        this.out = anOut;
+        this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+        this.hasElements = new boolean[8];
+    }
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        put((byte) '{');
+        push();
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        pop();
+        put((byte) '}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        put((byte) '[');
+        push();
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        pop();
+        put((byte) ']');
+        return this;
+    }
+
+    public JsonWriter name(final String aName) {
+        if (this.depth == 0 || this.afterName) {
+            throw new IllegalStateException("a name is only allowed inside an object");
+        }
+        separate();
+        writeString(aName);
+        put((byte) ':');
+        this.afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(final String aValue) {
+        if (aValue == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(aValue);
+        return this;
+    }
+
+    public JsonWriter value(final long aValue) {
+        beforeValue();
+        if (aValue == Long.MIN_VALUE) {
+            put(Long.toString(aValue).getBytes(StandardCharsets.US_ASCII));
+            return this;
+        }
+        long value = aValue;
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        final var digits = new byte[19];
+        int index = digits.length;
+        do {
+            digits[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        put(digits, index, digits.length - index);
+        return this;
+    }
+
+    public JsonWriter value(final boolean aValue) {
+        beforeValue();
+        put(aValue ? TRUE : FALSE);
+        return this;
+    }
+
+    public JsonWriter value(final Instant aValue) {
+        return aValue == null ? nullValue() : value(aValue.toString());
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        put(NULL);
+        return this;
+    }
+
+    /**
+     * Ends a top-level value with a line break, as newline-delimited JSON does.
+     */
+    public JsonWriter newLine() {
+        if (this.depth != 0) {
+            throw new IllegalStateException("a line break is only allowed between top-level values");
+        }
+        put((byte) '\n');
+        return this;
+    }
+
+    public void flush() {
+        try {
+            this.out.write(this.buffer, 0, this.position);
+            this.position = 0;
+            this.out.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void beforeValue() {
+        if (this.afterName) {
+            this.afterName = false;
+            return;
+        }
+        separate();
+    }
+
+    private void separate() {
+        if (this.depth > 0) {
+            if (this.hasElements[this.depth]) {
+                put((byte) ',');
+            }
+            this.hasElements[this.depth] = true;
+        }
+    }
+
+    private void push() {
+        this.depth++;
+        if (this.depth == this.hasElements.length) {
+            this.hasElements = Arrays.copyOf(this.hasElements, this.depth * 2);
+        }
+        this.hasElements[this.depth] = false;
+    }
+
+    private void pop() {
+        if (this.depth == 0 || this.afterName) {
+            throw new IllegalStateException("nothing to close");
+        }
+        this.depth--;
+    }
+
+    private void writeString(final String aValue) {
+        put((byte) '"');
+        for (int i = 0; i < aValue.length(); i++) {
+            final char c = aValue.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                put((byte) c);
+            } else if (c == '"' || c == '\\') {
+                put((byte) '\\');
+                put((byte) c);
+            } else if (c == '\n') {
+                put((byte) '\\');
+                put((byte) 'n');
+            } else if (c == '\r') {
+                put((byte) '\\');
+                put((byte) 'r');
+            } else if (c == '\t') {
+                put((byte) '\\');
+                put((byte) 't');
+            } else if (c < 0x20) {
+                put((byte) '\\');
+                put((byte) 'u');
+                put((byte) '0');
+                put((byte) '0');
+                put(HEX[c >> 4]);
+                put(HEX[c & 0xF]);
+            } else if (c < 0x800) {
+                put((byte) (0xC0 | c >> 6));
+                put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < aValue.length() && Character.isLowSurrogate(aValue.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, aValue.charAt(++i));
+                put((byte) (0xF0 | codePoint >> 18));
+                put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                put((byte) '?');
+            } else {
+                put((byte) (0xE0 | c >> 12));
+                put((byte) (0x80 | c >> 6 & 0x3F));
+                put((byte) (0x80 | c & 0x3F));
+            }
+        }
+        put((byte) '"');
+    }
+
+    private void put(final byte[] aBytes) {
+        put(aBytes, 0, aBytes.length);
+    }
+
+    private void put(final byte[] aBytes, final int anOffset, final int aLength) {
+        for (int i = 0; i < aLength; i++) {
+            put(aBytes[anOffset + i]);
+        }
+    }
+
+    private void put(final byte aByte) {
+        if (this.position == this.buffer.length) {
+            try {
+                this.out.write(this.buffer, 0, this.position);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            this.position = 0;
+        }
+        this.buffer[this.position++] = aByte;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import com.fullcycle.admin.catalogo.application.NullaryUseCase;
+
+import java.util.Objects;
+
+public class InstrumentedNullaryUseCase<OUT> extends NullaryUseCase<OUT> {
+    private final NullaryUseCase<OUT> delegate;
+    private final UseCaseMetrics metrics;
+
+    InstrumentedNullaryUseCase(final NullaryUseCase<OUT> aDelegate, final UseCaseMetrics aMetrics) {
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.metrics = Objects.requireNonNull(aMetrics);
+    }
+
+    @Override
+    public OUT execute() {
+        final long start = System.nanoTime();
+        final OUT output;
+        try {
+            output = this.delegate.execute();
+        } catch (final Throwable t) {
+            this.metrics.recordFailure(System.nanoTime() - start, t);
+            throw t;
+        }
+        this.metrics.recordSuccess(System.nanoTime() - start);
+        return output;
+    }
+}
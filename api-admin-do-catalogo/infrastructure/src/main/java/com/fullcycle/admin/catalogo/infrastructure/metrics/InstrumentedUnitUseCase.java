@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+import java.util.Objects;
+
+public class InstrumentedUnitUseCase<IN> extends UnitUseCase<IN> {
+    private final UnitUseCase<IN> delegate;
+    private final UseCaseMetrics metrics;
+
+    InstrumentedUnitUseCase(final UnitUseCase<IN> aDelegate, final UseCaseMetrics aMetrics) {
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.metrics = Objects.requireNonNull(aMetrics);
+    }
+
+    @Override
+    public void execute(final IN aInput) {
+        final long start = System.nanoTime();
+        try {
+            this.delegate.execute(aInput);
+        } catch (final Throwable t) {
+            this.metrics.recordFailure(System.nanoTime() - start, t);
+            throw t;
+        }
+        this.metrics.recordSuccess(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public class InstrumentedUseCase<IN, OUT> extends UseCase<IN, OUT> {
+    private final UseCase<IN, OUT> delegate;
+    private final UseCaseMetrics metrics;
+    private final Predicate<? super OUT> isRejection;
+
+    InstrumentedUseCase(
+        final UseCase<IN, OUT> aDelegate,
+        final UseCaseMetrics aMetrics,
+        final Predicate<? super OUT> isRejection
+    ) {
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.metrics = Objects.requireNonNull(aMetrics);
+        this.isRejection = Objects.requireNonNull(isRejection);
+    }
+
+    @Override
+    public OUT execute(final IN aInput) {
+        final long start = System.nanoTime();
+        final OUT output;
+        try {
+            output = this.delegate.execute(aInput);
+        } catch (final Throwable t) {
+            this.metrics.recordFailure(System.nanoTime() - start, t);
+            throw t;
+        }
+
+        final long elapsed = System.nanoTime() - start;
+        if (this.isRejection.test(output)) {
+            this.metrics.recordRejection(elapsed);
+        } else {
+            this.metrics.recordSuccess(elapsed);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+public record LatencySnapshot(
+    long count,
+    double meanNanos,
+    long maxNanos,
+    long p50Nanos,
+    long p99Nanos,
+    long p999Nanos
+) {
+}
@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import com.fullcycle.admin.catalogo.application.NullaryUseCase;
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Named per-use-case metrics. Wrappers resolve their metrics once when they are
+ * created, so the hot path only touches counters and the histogram.
+ */
+public class MetricsRegistry {
+    public static final String JMX_DOMAIN = "com.fullcycle.admin.catalogo";
+
+    private final Map<String, UseCaseMetrics> metrics;
+    private volatile MBeanServer mBeanServer;
+
+    public MetricsRegistry() {
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    public <IN, OUT> UseCase<IN, OUT> instrument(final String aName, final UseCase<IN, OUT> aUseCase) {
+        return instrument(aName, aUseCase, anOutput -> false);
+    }
+
+    public <IN, OUT> UseCase<IN, OUT> instrument(
+        final String aName,
+        final UseCase<IN, OUT> aUseCase,
+        final Predicate<? super OUT> isRejection
+    ) {
+        return new InstrumentedUseCase<>(aUseCase, metricsFor(aName), isRejection);
+    }
+
+    public <IN> UnitUseCase<IN> instrument(final String aName, final UnitUseCase<IN> aUseCase) {
+        return new InstrumentedUnitUseCase<>(aUseCase, metricsFor(aName));
+    }
+
+    public <OUT> NullaryUseCase<OUT> instrument(final String aName, final NullaryUseCase<OUT> aUseCase) {
+        return new InstrumentedNullaryUseCase<>(aUseCase, metricsFor(aName));
+    }
+
+    public UseCaseMetrics metricsFor(final String aName) {
+        Objects.requireNonNull(aName, "'name' should not be null");
+        return this.metrics.computeIfAbsent(aName, name -> {
+            final var created = new UseCaseMetrics(name);
+            final var server = this.mBeanServer;
+            if (server != null) {
+                register(server, created);
+            }
+            return created;
+        });
+    }
+
+    public List<UseCaseMetrics> all() {
+        final var all = new ArrayList<>(this.metrics.values());
+        all.sort(Comparator.comparing(UseCaseMetrics::getName));
+        return all;
+    }
+
+    /**
+     * Exposes every current and future use case as an MXBean named
+     * {@code com.fullcycle.admin.catalogo:type=UseCase,name=<name>}.
+     */
+    public synchronized void registerMBeans(final MBeanServer aServer) {
+        this.mBeanServer = Objects.requireNonNull(aServer);
+        this.metrics.values().forEach(useCase -> register(aServer, useCase));
+    }
+
+    public String snapshot() {
+        final var out = new StringBuilder(256);
+        for (final var useCase : all()) {
+            final var latency = useCase.latency();
+            final var name = useCase.getName();
+            line(out, "usecase_calls_total", name, useCase.getCalls());
+            line(out, "usecase_domain_errors_total", name, useCase.getDomainErrors());
+            line(out, "usecase_other_errors_total", name, useCase.getOtherErrors());
+            line(out, "usecase_rejections_total", name, useCase.getRejections());
+            line(out, "usecase_latency_mean_us", name, latency.meanNanos() / 1_000.0);
+            line(out, "usecase_latency_p50_us", name, latency.p50Nanos() / 1_000.0);
+            line(out, "usecase_latency_p99_us", name, latency.p99Nanos() / 1_000.0);
+            line(out, "usecase_latency_p999_us", name, latency.p999Nanos() / 1_000.0);
+            line(out, "usecase_latency_max_us", name, latency.maxNanos() / 1_000.0);
+        }
+        return out.toString();
+    }
+
+    public static ObjectName objectNameOf(final String aName) {
+        try {
+            return new ObjectName(JMX_DOMAIN + ":type=UseCase,name=" + ObjectName.quote(aName));
+        } catch (final JMException ex) {
+            throw new IllegalArgumentException("'name' is not a valid JMX name", ex);
+        }
+    }
+
+    private static void register(final MBeanServer aServer, final UseCaseMetrics aMetrics) {
+        try {
+            aServer.registerMBean(aMetrics, objectNameOf(aMetrics.getName()));
+        } catch (final InstanceAlreadyExistsException ex) {
+            // already exposed by an earlier registration
+        } catch (final JMException ex) {
+            throw new IllegalStateException("could not register metrics for " + aMetrics.getName(), ex);
+        }
+    }
+
+    private static void line(final StringBuilder out, final String aMetric, final String aName, final long aValue) {
+        out.append(aMetric).append("{usecase=\"").append(aName).append("\"} ").append(aValue).append('\n');
+    }
+
+    private static void line(final StringBuilder out, final String aMetric, final String aName, final double aValue) {
+        out.append(aMetric).append("{usecase=\"").append(aName).append("\"} ")
+            .append(String.format(Locale.ROOT, "%.3f", aValue)).append('\n');
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+public class UseCaseMetrics implements UseCaseMetricsMXBean {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final String name;
+    private final LongAdder calls;
+    private final LongAdder domainErrors;
+    private final LongAdder otherErrors;
+    private final LongAdder rejections;
+    private final LatencyHistogram latency;
+
+    UseCaseMetrics(final String aName) {
+        this.name = Objects.requireNonNull(aName);
+        this.calls = new LongAdder();
+        this.domainErrors = new LongAdder();
+        this.otherErrors = new LongAdder();
+        this.rejections = new LongAdder();
+        this.latency = new LatencyHistogram();
+    }
+
+    void recordSuccess(final long aNanos) {
+        this.calls.increment();
+        this.latency.record(aNanos);
+    }
+
+    // A result the use case returned instead of throwing, such as an Either left
+    void recordRejection(final long aNanos) {
+        this.rejections.increment();
+        recordSuccess(aNanos);
+    }
+
+    void recordFailure(final long aNanos, final Throwable aFailure) {
+        if (aFailure instanceof DomainException) {
+            this.domainErrors.increment();
+        } else {
+            this.otherErrors.increment();
+        }
+        recordSuccess(aNanos);
+    }
+
+    public LatencySnapshot latency() {
+        return this.latency.snapshot();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getDomainErrors() {
+        return domainErrors.sum();
+    }
+
+    @Override
+    public long getOtherErrors() {
+        return otherErrors.sum();
+    }
+
+    @Override
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latency().meanNanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency().p50Nanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency().p99Nanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latency().p999Nanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latency().maxNanos() / NANOS_PER_MICRO;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+public interface UseCaseMetricsMXBean {
+    String getName();
+
+    long getCalls();
+
+    long getDomainErrors();
+
+    long getOtherErrors();
+
+    long getRejections();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+}
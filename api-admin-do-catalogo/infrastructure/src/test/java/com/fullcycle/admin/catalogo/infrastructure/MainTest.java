@@ -1,13 +1,27 @@
 package com.fullcycle.admin.catalogo.infrastructure;
 
+import com.fullcycle.admin.catalogo.infrastructure.metrics.MetricsRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
 public class MainTest {
 
     @Test
-    public void testMain() {
-        Assertions.assertNotNull(new Main());
-        Main.main(new String[]{});
+    public void givenAnyFreePort_whenStarts_thenShouldServeTheApiUntilClosed() throws Exception {
+        try (final var server = Main.start(0, new MetricsRegistry())) {
+            Assertions.assertTrue(server.port() > 0);
+
+            final var response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + "/metrics")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+
+            Assertions.assertEquals(200, response.statusCode());
+        }
     }
 }
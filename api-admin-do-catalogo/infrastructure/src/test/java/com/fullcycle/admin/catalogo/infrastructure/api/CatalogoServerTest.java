@@ -0,0 +1,160 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+public class CatalogoServerTest {
+
+    private CatalogoServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.server = CatalogoServer.start(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            new InMemoryCategoryGateway(),
+            new MetricsRegistry()
+        );
+        this.client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.server.close();
+    }
+
+    @Test
+    public void givenAValidBody_whenPostsACategory_thenShouldCreateAndServeIt() throws Exception {
+        final var created = post("/categories", "{\"name\": \"Filmes\", \"description\": null, \"is_active\": true}");
+
+        Assertions.assertEquals(201, created.statusCode());
+        final var location = created.headers().firstValue("Location").orElseThrow();
+        Assertions.assertTrue(created.body().startsWith("{\"id\":\""));
+
+        final var found = get(location);
+        Assertions.assertEquals(200, found.statusCode());
+        Assertions.assertTrue(found.body().contains("\"name\":\"Filmes\""));
+        Assertions.assertTrue(found.body().contains("\"description\":null"));
+        Assertions.assertTrue(found.body().contains("\"is_active\":true"));
+
+        final var listed = get("/categories?search=film&per_page=5");
+        Assertions.assertEquals(200, listed.statusCode());
+        Assertions.assertTrue(listed.body().contains("\"total\":1"));
+        Assertions.assertTrue(listed.body().contains("\"name\":\"Filmes\""));
+
+        final var metrics = get("/metrics");
+        Assertions.assertTrue(metrics.body().contains("usecase_calls_total{usecase=\"CreateCategory\"} 1"));
+    }
+
+    @Test
+    public void givenInvalidRequests_whenCallsTheApi_thenShouldAnswerWithTheMatchingStatus() throws Exception {
+        final var invalidName = post("/categories", "{\"name\": \"  \"}");
+        Assertions.assertEquals(422, invalidName.statusCode());
+        Assertions.assertTrue(invalidName.body().contains("'name' should not be empty"));
+
+        Assertions.assertEquals(400, post("/categories", "{\"name\": ").statusCode());
+        Assertions.assertEquals(400, get("/categories?page=abc").statusCode());
+        Assertions.assertEquals(404, get("/categories/0190a4b2-7c3e-7000-8000-000000000000").statusCode());
+        Assertions.assertEquals(404, get("/categoriesx").statusCode());
+        Assertions.assertEquals(405, send(HttpRequest.newBuilder(uri("/categories")).DELETE()).statusCode());
+    }
+
+    @Test
+    public void givenADeeplyNestedBody_whenPostsACategory_thenShouldAnswerBadRequest() throws Exception {
+        final var body = "{\"name\": \"abc\", \"x\": " + "[".repeat(30_000) + "]".repeat(30_000) + "}";
+
+        final var response = post("/categories", body);
+
+        Assertions.assertEquals(400, response.statusCode());
+        Assertions.assertEquals(201, post("/categories", "{\"name\": \"Filmes\"}").statusCode());
+    }
+
+    @Test
+    public void givenStoredCategories_whenGetsTheExport_thenShouldStreamEveryCategory() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(201, post("/categories", "{\"name\": \"Categoria " + i + "\"}").statusCode());
+        }
+
+        final var ndjson = get("/categories/export?sort=name");
+        Assertions.assertEquals(200, ndjson.statusCode());
+        Assertions.assertEquals("application/x-ndjson", ndjson.headers().firstValue("Content-Type").orElseThrow());
+        final var lines = ndjson.body().split("\n");
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertTrue(lines[2].contains("\"name\":\"Categoria 2\""));
+
+        final var csv = get("/categories/export?format=csv");
+        Assertions.assertEquals(200, csv.statusCode());
+        Assertions.assertEquals(4, csv.body().split("\r\n").length);
+
+        Assertions.assertEquals(400, get("/categories/export?format=xml").statusCode());
+    }
+
+    @Test
+    public void givenAStoredCategory_whenPatchesIt_thenShouldChangeOnlyTheGivenFields() throws Exception {
+        final var location = post("/categories", "{\"name\": \"Filmes\", \"description\": \"Longas\"}")
+            .headers().firstValue("Location").orElseThrow();
+
+        final var patched = patch(location, "{\"description\": null, \"version\": 0}");
+        Assertions.assertEquals(200, patched.statusCode());
+        Assertions.assertTrue(patched.body().contains("\"version\":1"));
+
+        final var found = get(location).body();
+        Assertions.assertTrue(found.contains("\"name\":\"Filmes\""));
+        Assertions.assertTrue(found.contains("\"description\":null"));
+
+        Assertions.assertTrue(patch(location, "{\"name\": \"Filmes\"}").body().contains("\"version\":1"));
+        Assertions.assertEquals(409, patch(location, "{\"name\": \"Series\", \"version\": 0}").statusCode());
+        Assertions.assertEquals(422, patch(location, "{\"name\": \"\"}").statusCode());
+    }
+
+    @Test
+    public void givenARetriedPost_whenItCarriesTheSameIdempotencyKey_thenShouldCreateOnce() throws Exception {
+        final var aRequest = HttpRequest.newBuilder(uri("/categories"))
+            .header("Content-Type", "application/json")
+            .header("Idempotency-Key", "7d2c7b0e")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"name\": \"Filmes\"}"));
+
+        final var first = send(aRequest);
+        final var retried = send(aRequest);
+
+        Assertions.assertEquals(201, retried.statusCode());
+        Assertions.assertEquals(first.headers().firstValue("Location"), retried.headers().firstValue("Location"));
+        Assertions.assertTrue(get("/categories").body().contains("\"total\":1"));
+    }
+
+    private HttpResponse<String> get(final String aPath) throws Exception {
+        return send(HttpRequest.newBuilder(uri(aPath)).GET());
+    }
+
+    private HttpResponse<String> post(final String aPath, final String aBody) throws Exception {
+        return send(HttpRequest.newBuilder(uri(aPath))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(aBody)));
+    }
+
+    private HttpResponse<String> patch(final String aPath, final String aBody) throws Exception {
+        return send(HttpRequest.newBuilder(uri(aPath))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString(aBody)));
+    }
+
+    private HttpResponse<String> send(final HttpRequest.Builder aRequest) throws Exception {
+        return this.client.send(aRequest.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(final String aPath) {
+        return URI.create("http://127.0.0.1:" + this.server.port() + aPath);
+    }
+}
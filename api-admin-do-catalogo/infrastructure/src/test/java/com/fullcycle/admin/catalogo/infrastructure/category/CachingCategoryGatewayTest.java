@@ -0,0 +1,162 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachingCategoryGatewayTest {
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdAgain_thenShouldNotHitTheDelegate() {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMinutes(5));
+        final var aCategory = delegate.create(Category.newCategory("Filmes", null, true));
+
+        final var firstRead = gateway.findById(aCategory.getId()).orElseThrow();
+        final var secondRead = gateway.findById(aCategory.getId()).orElseThrow();
+
+        Assertions.assertEquals("Filmes", firstRead.getName());
+        Assertions.assertEquals("Filmes", secondRead.getName());
+        Assertions.assertEquals(1, delegate.reads.get());
+        Assertions.assertEquals(1, gateway.stats().hits());
+        Assertions.assertEquals(1, gateway.stats().misses());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_thenNextReadShouldSeeTheWrite() {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMinutes(5));
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.findById(aCategory.getId());
+
+        gateway.update(aCategory.update("Series", "Atualizada", false));
+
+        final var actualCategory = gateway.findById(aCategory.getId()).orElseThrow();
+        Assertions.assertEquals("Series", actualCategory.getName());
+        Assertions.assertFalse(actualCategory.getIsActive());
+        Assertions.assertEquals(0, delegate.reads.get());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsDeleteById_thenShouldNotReturnIt() {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMinutes(5));
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        Assertions.assertEquals(1, delegate.reads.get());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallerMutatesTheReturnedInstance_thenCacheShouldKeepStoredState() {
+        final var gateway = new CachingCategoryGateway(new CountingCategoryGateway(), 100, Duration.ofMinutes(5));
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.findById(aCategory.getId()).orElseThrow().update("Series", null, false);
+
+        Assertions.assertEquals("Filmes", gateway.findById(aCategory.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenAFullCache_whenNewEntriesArrive_thenShouldEvictAndCountIt() {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 1, Duration.ofMinutes(5));
+        final var first = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+
+        gateway.findById(first.getId());
+
+        Assertions.assertEquals(1, delegate.reads.get());
+        Assertions.assertTrue(gateway.stats().evictions() >= 1);
+        Assertions.assertEquals(1, gateway.stats().size());
+    }
+
+    @Test
+    public void givenAnExpiredEntry_whenCallsFindById_thenShouldReloadFromDelegate() throws InterruptedException {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMillis(1));
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+        Thread.sleep(5);
+        gateway.findById(aCategory.getId());
+
+        Assertions.assertEquals(1, delegate.reads.get());
+        Assertions.assertEquals(1, gateway.stats().evictions());
+    }
+
+    @Test
+    public void givenACachedPage_whenCallsFindAllWithTheSameQuery_thenShouldNotHitTheDelegate() {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMinutes(5));
+        gateway.create(Category.newCategory("Filmes", null, true));
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        gateway.findAll(aQuery).items().get(0).update("Series", null, false);
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals("Filmes", actualPage.items().get(0).getName());
+        Assertions.assertEquals(1, delegate.pageReads.get());
+        Assertions.assertEquals(1, gateway.pageStats().hits());
+        Assertions.assertEquals(1, gateway.pageStats().misses());
+        Assertions.assertEquals(0.5, gateway.pageStats().hitRate());
+    }
+
+    @Test
+    public void givenACachedPage_whenAnyCategoryIsWritten_thenNextFindAllShouldReload() {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMinutes(5));
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var movies = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.findAll(aQuery);
+
+        gateway.create(Category.newCategory("Series", null, true));
+        Assertions.assertEquals(2, gateway.findAll(aQuery).total());
+
+        gateway.update(movies.update("Documentarios", null, true));
+        Assertions.assertEquals("Documentarios", gateway.findAll(aQuery).items().get(0).getName());
+
+        gateway.deleteById(movies.getId());
+        Assertions.assertEquals(1, gateway.findAll(aQuery).total());
+        Assertions.assertEquals(4, delegate.pageReads.get());
+        Assertions.assertEquals(0, gateway.pageStats().hits());
+    }
+
+    @Test
+    public void givenALargePage_whenCallsFindAll_thenShouldNotCacheIt() {
+        final var delegate = new CountingCategoryGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMinutes(5));
+        final var aQuery = new CategorySearchQuery(0, CachingCategoryGateway.MAX_CACHED_PER_PAGE + 1, "", "name", "asc");
+
+        gateway.findAll(aQuery);
+        gateway.findAll(aQuery);
+
+        Assertions.assertEquals(2, delegate.pageReads.get());
+        Assertions.assertEquals(0, gateway.pageStats().size());
+    }
+
+    private static class CountingCategoryGateway extends InMemoryCategoryGateway {
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger pageReads = new AtomicInteger();
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+            pageReads.incrementAndGet();
+            return super.findAll(aQuery);
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryID anId) {
+            reads.incrementAndGet();
+            return super.findById(anId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+public class DeletedCategorySweeperTest {
+
+    @Test
+    public void givenCategoriesDeletedAtDifferentTimes_whenSweeps_thenShouldPurgeOnlyThosePastRetentionInBatches() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var now = Instant.parse("2024-06-01T00:00:00Z");
+        for (int i = 0; i < 7; i++) {
+            final var deletedAt = now.minus(Duration.ofDays(40 + i));
+            gateway.create(Category.with(CategoryID.unique(), "Antiga " + i, null, false, deletedAt, deletedAt, deletedAt));
+        }
+        final var recent = now.minus(Duration.ofDays(5));
+        final var kept = gateway.create(Category.with(CategoryID.unique(), "Recente", null, false, recent, recent, recent));
+
+        try (final var sweeper = new DeletedCategorySweeper(gateway, Duration.ofDays(30), Clock.fixed(now, ZoneOffset.UTC), 3)) {
+            Assertions.assertEquals(7, sweeper.sweep());
+            Assertions.assertEquals(0, sweeper.sweep());
+            Assertions.assertEquals(7, sweeper.purged());
+            Assertions.assertEquals(0, sweeper.failures());
+        }
+
+        Assertions.assertTrue(gateway.findById(kept.getId()).isPresent());
+    }
+}
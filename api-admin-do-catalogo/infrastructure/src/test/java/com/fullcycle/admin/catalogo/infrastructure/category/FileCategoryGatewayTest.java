@@ -0,0 +1,229 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class FileCategoryGatewayTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("categories");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (final var files = Files.walk(this.directory)) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void givenWrittenCategories_whenGatewayIsReopened_thenShouldRecoverThemFromTheLog() throws IOException {
+        final Category series;
+        final Category movies;
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            movies = gateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+            series = gateway.create(Category.newCategory("Series", null, true));
+            gateway.createAll(List.of(Category.newCategory("Animes", null, false), Category.newCategory("Kids", null, true)));
+            gateway.update(Category.with(movies).update("Filmes e documentarios", null, false));
+            gateway.deleteById(series.getId());
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            final var actualMovies = gateway.findById(movies.getId()).orElseThrow();
+            Assertions.assertEquals("Filmes e documentarios", actualMovies.getName());
+            Assertions.assertNull(actualMovies.getDescription());
+            Assertions.assertFalse(actualMovies.getIsActive());
+            Assertions.assertNotNull(actualMovies.getDeletedAt());
+            Assertions.assertEquals(movies.getCreatedAt(), actualMovies.getCreatedAt());
+            Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+            Assertions.assertEquals(3, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenAStaleUpdate_whenGatewayIsReopened_thenOnlyTheAcceptedVersionShouldBeRecovered() throws IOException {
+        final Category movies;
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            movies = gateway.create(Category.newCategory("Filmes", null, true));
+            final var stale = gateway.findById(movies.getId()).orElseThrow();
+
+            final var updated = gateway.update(Category.with(movies).update("Series", null, true));
+            Assertions.assertEquals(1, updated.getVersion());
+            Assertions.assertThrows(VersionConflictException.class, () -> gateway.update(stale.update("Documentarios", null, true)));
+            Assertions.assertEquals(2, gateway.update(updated.update("Series e documentarios", null, true)).getVersion());
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            final var actualMovies = gateway.findById(movies.getId()).orElseThrow();
+            Assertions.assertEquals("Series e documentarios", actualMovies.getName());
+            Assertions.assertEquals(2, actualMovies.getVersion());
+            Assertions.assertThrows(VersionConflictException.class, () -> gateway.update(Category.with(movies).update("Kids", null, true)));
+        }
+    }
+
+    @Test
+    public void givenPartialUpdates_whenGatewayIsReopened_thenShouldReplayThemOnTheStoredCategory() throws IOException {
+        final Category movies;
+        final Category renamed;
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            movies = gateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+            final var described = gateway.update(gateway.findById(movies.getId()).orElseThrow().update("Filmes", null, true));
+            final var deactivated = gateway.update(described.deactivate());
+            renamed = gateway.update(deactivated.update("Documentarios", null, false));
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            final var actual = gateway.findById(movies.getId()).orElseThrow();
+            Assertions.assertEquals("Documentarios", actual.getName());
+            Assertions.assertNull(actual.getDescription());
+            Assertions.assertFalse(actual.getIsActive());
+            Assertions.assertEquals(renamed.getDeletedAt(), actual.getDeletedAt());
+            Assertions.assertEquals(renamed.getUpdatedAt(), actual.getUpdatedAt());
+            Assertions.assertEquals(movies.getCreatedAt(), actual.getCreatedAt());
+            Assertions.assertEquals(3, actual.getVersion());
+            Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "documentarios", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsDeleteById_thenShouldNeitherLogNorPublishIt() throws IOException {
+        final var events = new ArrayList<DomainEvent>();
+        try (final var gateway = FileCategoryGateway.open(this.directory, FileCategoryGateway.DEFAULT_COMPACTION_THRESHOLD, events::add)) {
+            final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+            final var logged = sizeOf(this.directory);
+
+            gateway.deleteById(CategoryID.unique());
+            Assertions.assertEquals(logged, sizeOf(this.directory));
+
+            gateway.deleteById(aCategory.getId());
+            gateway.deleteById(aCategory.getId());
+            Assertions.assertEquals(1, events.stream().filter(CategoryDeleted.class::isInstance).count());
+            Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        }
+    }
+
+    @Test
+    public void givenPurgedCategories_whenGatewayIsReopened_thenShouldNotRecoverThem() throws IOException {
+        final var longAgo = Instant.now().minus(Duration.ofDays(30));
+        final Category purged;
+        final Category kept;
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            purged = gateway.create(Category.with(CategoryID.unique(), "Antiga", null, false, longAgo, longAgo, longAgo));
+            kept = gateway.create(Category.newCategory("Recente", null, false));
+            Assertions.assertEquals(List.of(purged.getId()), gateway.purgeDeletedBefore(Instant.now().minus(Duration.ofDays(1)), 10));
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            Assertions.assertTrue(gateway.findById(purged.getId()).isEmpty());
+            Assertions.assertTrue(gateway.findById(kept.getId()).isPresent());
+            Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc").withActive(false)).total());
+        }
+    }
+
+    @Test
+    public void givenACompactedGateway_whenReopened_thenShouldLoadTheSnapshotAndReplayTheTail() throws IOException {
+        final Category deleted;
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            for (int i = 0; i < 1_000; i++) {
+                gateway.create(Category.newCategory("Categoria %04d".formatted(i), null, true));
+            }
+            deleted = gateway.create(Category.newCategory("Temporaria", null, true));
+            gateway.compact();
+            gateway.deleteById(deleted.getId());
+            gateway.create(Category.newCategory("Depois do snapshot", null, true));
+        }
+
+        try (final var files = Files.list(this.directory)) {
+            Assertions.assertTrue(files.anyMatch(file -> file.getFileName().toString().endsWith(".manifest")));
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            Assertions.assertEquals(1_001, gateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).total());
+            Assertions.assertTrue(gateway.findById(deleted.getId()).isEmpty());
+            Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "snapshot", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenATornRecordAtTheEndOfTheLog_whenReopened_thenShouldKeepEverythingBeforeIt() throws IOException {
+        final Category aCategory;
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        }
+        try (final var files = Files.list(this.directory)) {
+            final var log = files.filter(file -> file.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+            Files.write(log, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            Assertions.assertTrue(gateway.findById(aCategory.getId()).isPresent());
+            final var next = gateway.create(Category.newCategory("Series", null, true));
+            Assertions.assertEquals("Series", gateway.findById(next.getId()).orElseThrow().getName());
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            Assertions.assertEquals(2, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenGatewayIsReopened_thenShouldRecoverEveryAcknowledgedWrite() throws Exception {
+        try (final var gateway = FileCategoryGateway.open(this.directory, 16 * 1024)) {
+            final var executor = Executors.newFixedThreadPool(8);
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 8; t++) {
+                final var thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        gateway.create(Category.newCategory("Categoria " + thread + " " + i, null, true));
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        try (final var gateway = FileCategoryGateway.open(this.directory)) {
+            Assertions.assertEquals(2_000, gateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).total());
+        }
+    }
+
+    private static long sizeOf(final Path aDirectory) throws IOException {
+        try (final var files = Files.walk(aDirectory)) {
+            long size = 0;
+            for (final var file : files.filter(Files::isRegularFile).toList()) {
+                size += Files.size(file);
+            }
+            return size;
+        }
+    }
+}
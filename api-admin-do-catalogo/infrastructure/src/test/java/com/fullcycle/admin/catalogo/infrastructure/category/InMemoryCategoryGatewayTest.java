@@ -0,0 +1,440 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeactivated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryUpdated;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.VersionConflictException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class InMemoryCategoryGatewayTest {
+
+    @Test
+    public void givenAValidCategory_whenCallsCreate_thenShouldFindItById() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        final var actualCategory = gateway.create(aCategory);
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+        final var foundCategory = gateway.findById(aCategory.getId()).orElseThrow();
+        Assertions.assertEquals(aCategory.getId(), foundCategory.getId());
+        Assertions.assertEquals("Filmes", foundCategory.getName());
+        Assertions.assertEquals("A categoria mais assistida", foundCategory.getDescription());
+        Assertions.assertTrue(foundCategory.getIsActive());
+        Assertions.assertEquals(aCategory.getCreatedAt(), foundCategory.getCreatedAt());
+    }
+
+    @Test
+    public void givenWritesOfACategory_whenTheyArePublished_thenEveryEventShouldCarryTheStoredVersion() {
+        final var events = new ArrayList<DomainEvent>();
+        final var gateway = new InMemoryCategoryGateway(events::add);
+
+        final var created = gateway.create(Category.newCategory("Filmes", null, true));
+        final var updated = gateway.update(created.update("Filmes", null, false));
+        gateway.deleteById(created.getId());
+
+        Assertions.assertEquals(
+            List.of(CategoryCreated.class, CategoryUpdated.class, CategoryDeactivated.class, CategoryDeleted.class),
+            events.stream().map(Object::getClass).toList()
+        );
+        Assertions.assertEquals(
+            List.of(0L, 1L, 1L, 1L),
+            events.stream().map(anEvent -> ((CategoryEvent) anEvent).version()).toList()
+        );
+        Assertions.assertEquals(1, updated.getVersion());
+    }
+
+    @Test
+    public void givenAStoredCategory_whenCallerMutatesItsInstance_thenStoredCategoryIsNotAffected() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        gateway.create(aCategory);
+
+        aCategory.update("Series", "Outra", false);
+
+        final var foundCategory = gateway.findById(aCategory.getId()).orElseThrow();
+        Assertions.assertEquals("Filmes", foundCategory.getName());
+        Assertions.assertTrue(foundCategory.getIsActive());
+    }
+
+    @Test
+    public void givenManyCategories_whenCallsCreateAll_thenShouldIndexAllOfThem() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var categories = List.of(
+            Category.newCategory("Filmes", null, true),
+            Category.newCategory("Animes", null, true),
+            Category.newCategory("Series", null, false)
+        );
+
+        final var actualCategories = gateway.createAll(categories);
+
+        Assertions.assertEquals(3, actualCategories.size());
+        Assertions.assertEquals(categories.get(0).getId(), actualCategories.get(0).getId());
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        Assertions.assertEquals(3, actualPage.total());
+        Assertions.assertEquals("Animes", actualPage.items().get(0).getName());
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsFindAllSortedByName_thenShouldReturnRequestedPage() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (final var aName : new String[]{"Series", "Documentarios", "Filmes", "Animes", "Kids"}) {
+            gateway.create(Category.newCategory(aName, null, true));
+        }
+
+        final var ascending = gateway.findAll(new CategorySearchQuery(1, 2, "", "name", "asc"));
+        Assertions.assertEquals(1, ascending.currentPage());
+        Assertions.assertEquals(2, ascending.perPage());
+        Assertions.assertEquals(5, ascending.total());
+        Assertions.assertEquals("Filmes", ascending.items().get(0).getName());
+        Assertions.assertEquals("Kids", ascending.items().get(1).getName());
+
+        final var descending = gateway.findAll(new CategorySearchQuery(2, 2, "", "name", "desc"));
+        Assertions.assertEquals(1, descending.items().size());
+        Assertions.assertEquals("Animes", descending.items().get(0).getName());
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsFindAllWithTerms_thenShouldReturnOnlyMatches() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.newCategory("Filmes de acao", null, true));
+        gateway.create(Category.newCategory("Filmes de terror", null, true));
+        gateway.create(Category.newCategory("Series de acao", null, true));
+        gateway.create(Category.newCategory("Documentarios", null, true));
+
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, "ACAO filmes", "name", "asc"));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals("Filmes de acao", actualPage.items().get(0).getName());
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsFindAllWithTermsAndNoSort_thenShouldRankByRelevance() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var inDescription = gateway.create(Category.newCategory("Classicos", "Os melhores filmes", true));
+        final var inName = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, "filmes", "", "asc"));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(inName.getId(), actualPage.items().get(0).getId());
+        Assertions.assertEquals(inDescription.getId(), actualPage.items().get(1).getId());
+
+        final var firstPage = gateway.findAll(CategorySearchQuery.after(null, 1, "filmes", "relevance", null));
+        final var secondPage = gateway.findAll(CategorySearchQuery.after(firstPage.nextCursor(), 1, "filmes", "relevance", null));
+        Assertions.assertEquals(inName.getId(), firstPage.items().get(0).getId());
+        Assertions.assertEquals(inDescription.getId(), secondPage.items().get(0).getId());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallsFindAll_thenShouldReflectNewSortKeyAndTerms() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Animes", null, true));
+        gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.update(aCategory.update("Series", null, true));
+
+        final var byName = gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc"));
+        Assertions.assertEquals(2, byName.total());
+        Assertions.assertEquals("Filmes", byName.items().get(0).getName());
+        Assertions.assertEquals("Series", byName.items().get(1).getName());
+        Assertions.assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "animes", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsFindAll_thenShouldNotReturnIt() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+
+        gateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, "", "createdAt", "asc"));
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals("Series", actualPage.items().get(0).getName());
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsFindAllWithCursor_thenShouldWalkEveryItemOnceWithoutTotal() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (int i = 0; i < 1_500; i++) {
+            gateway.create(Category.newCategory("Categoria %04d".formatted(i), null, true));
+        }
+
+        for (final var direction : new String[]{"asc", "desc"}) {
+            final var names = new ArrayList<String>();
+            var aPage = gateway.findAll(CategorySearchQuery.after(null, 100, "", "name", direction));
+            while (true) {
+                Assertions.assertFalse(aPage.hasTotal());
+                aPage.items().forEach(aCategory -> names.add(aCategory.getName()));
+                if (!aPage.hasNext()) {
+                    break;
+                }
+                aPage = gateway.findAll(CategorySearchQuery.after(aPage.nextCursor(), 100, "", "name", direction));
+            }
+
+            Assertions.assertEquals(1_500, names.size());
+            final var expectedFirst = "asc".equals(direction) ? "Categoria 0000" : "Categoria 1499";
+            Assertions.assertEquals(expectedFirst, names.get(0));
+            for (int i = 1; i < names.size(); i++) {
+                final var comparison = names.get(i - 1).compareTo(names.get(i));
+                Assertions.assertTrue("asc".equals(direction) ? comparison < 0 : comparison > 0);
+            }
+        }
+    }
+
+    @Test
+    public void givenACursor_whenItsItemIsDeletedAndTermsAreUsed_thenShouldContinueAfterIt() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var first = gateway.create(Category.newCategory("Filmes 1", null, true));
+        gateway.create(Category.newCategory("Series 1", null, true));
+        gateway.create(Category.newCategory("Filmes 2", null, true));
+        gateway.create(Category.newCategory("Filmes 3", null, true));
+
+        final var firstPage = gateway.findAll(CategorySearchQuery.after("", 1, "filmes", "createdAt", "asc"));
+        Assertions.assertEquals(first.getId(), firstPage.items().get(0).getId());
+
+        gateway.deleteById(first.getId());
+
+        final var secondPage = gateway.findAll(CategorySearchQuery.after(firstPage.nextCursor(), 5, "filmes", "createdAt", "asc"));
+        Assertions.assertEquals(2, secondPage.items().size());
+        Assertions.assertEquals("Filmes 2", secondPage.items().get(0).getName());
+        Assertions.assertEquals("Filmes 3", secondPage.items().get(1).getName());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    public void givenACursorForAnotherSort_whenCallsFindAll_thenShouldReceiveError() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+        final var aCursor = gateway.findAll(CategorySearchQuery.after(null, 1, "", "name", "asc")).nextCursor();
+
+        final var actualException = Assertions.assertThrows(
+            DomainException.class,
+            () -> gateway.findAll(CategorySearchQuery.after(aCursor, 1, "", "createdAt", "asc"))
+        );
+
+        Assertions.assertEquals("'cursor' does not match sort 'createdAt'", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenCallsFindAll_thenIndexesShouldStayConsistent() throws Exception {
+        final var gateway = new InMemoryCategoryGateway();
+        final var executor = Executors.newFixedThreadPool(8);
+        final var futures = new ArrayList<Future<?>>();
+        for (int t = 0; t < 8; t++) {
+            final var thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    final var aCategory = gateway.create(Category.newCategory("Categoria " + thread + " " + i, null, true));
+                    if (i % 2 == 0) {
+                        gateway.deleteById(aCategory.getId());
+                    }
+                }
+            }));
+        }
+        for (final var future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        final var byName = gateway.findAll(new CategorySearchQuery(0, 10_000, "", "name", "asc"));
+        final var byUpdatedAt = gateway.findAll(new CategorySearchQuery(0, 10_000, "", "updatedAt", "desc"));
+        Assertions.assertEquals(8_000, byName.total());
+        Assertions.assertEquals(8_000, byName.items().size());
+        Assertions.assertEquals(8_000, byUpdatedAt.items().size());
+        for (int i = 1; i < byName.items().size(); i++) {
+            Assertions.assertTrue(byName.items().get(i - 1).getName().compareTo(byName.items().get(i).getName()) < 0);
+        }
+    }
+
+    @Test
+    public void givenManyCategories_whenCallsStreamAll_thenShouldWalkEveryCategoryInSortOrder() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (int i = 0; i < 1_500; i++) {
+            gateway.create(Category.newCategory("Categoria %04d".formatted(i), null, i % 3 != 0));
+        }
+
+        final List<String> actualNames;
+        try (final var categories = gateway.streamAll(new CategorySearchQuery(0, 64, "", "name", "asc"))) {
+            actualNames = categories.map(Category::getName).toList();
+        }
+
+        Assertions.assertEquals(1_500, actualNames.size());
+        for (int i = 0; i < actualNames.size(); i++) {
+            Assertions.assertEquals("Categoria %04d".formatted(i), actualNames.get(i));
+        }
+    }
+
+    @Test
+    public void givenTwoEditorsOfTheSameVersion_whenBothCallUpdate_thenOnlyTheFirstShouldWin() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        final var first = gateway.findById(aCategory.getId()).orElseThrow();
+        final var second = gateway.findById(aCategory.getId()).orElseThrow();
+
+        final var actualUpdated = gateway.update(first.update("Series", null, true));
+
+        final var actualException = Assertions.assertThrows(
+            VersionConflictException.class,
+            () -> gateway.update(second.update("Documentarios", null, true))
+        );
+
+        Assertions.assertEquals(0, aCategory.getVersion());
+        Assertions.assertEquals(1, actualUpdated.getVersion());
+        Assertions.assertEquals(0, actualException.getExpectedVersion());
+        Assertions.assertEquals(1, actualException.getActualVersion());
+        Assertions.assertEquals(
+            "Category with ID %s was modified concurrently: expected version 0 but found 1".formatted(aCategory.getId().getValue()),
+            actualException.getErrors().get(0).message()
+        );
+        final var stored = gateway.findById(aCategory.getId()).orElseThrow();
+        Assertions.assertEquals("Series", stored.getName());
+        Assertions.assertEquals(1, stored.getVersion());
+        Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "series", "name", "asc")).total());
+        Assertions.assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "documentarios", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsUpdate_thenShouldReceiveNotFound() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.deleteById(aCategory.getId());
+
+        Assertions.assertThrows(NotFoundException.class, () -> gateway.update(aCategory.update("Series", null, true)));
+        Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenConcurrentReadModifyWriteLoops_whenTheyRetryOnConflict_thenNoUpdateShouldBeLost() throws Exception {
+        final var gateway = new InMemoryCategoryGateway();
+        final var anId = gateway.create(Category.newCategory("Categoria 0", null, true)).getId();
+        final var executor = Executors.newFixedThreadPool(8);
+        final var futures = new ArrayList<Future<?>>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    while (true) {
+                        final var current = gateway.findById(anId).orElseThrow();
+                        final var counter = Integer.parseInt(current.getName().substring("Categoria ".length()));
+                        try {
+                            gateway.update(current.update("Categoria " + (counter + 1), null, true));
+                            break;
+                        } catch (final VersionConflictException ex) {
+                            // someone else won; read again
+                        }
+                    }
+                }
+            }));
+        }
+        for (final var future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        final var actualCategory = gateway.findById(anId).orElseThrow();
+        Assertions.assertEquals("Categoria 2000", actualCategory.getName());
+        Assertions.assertEquals(2_000, actualCategory.getVersion());
+    }
+
+    @Test
+    public void givenActiveAndInactiveCategories_whenCallsFindAllWithAnActiveFilter_thenShouldOnlyReturnThatPartition() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (int i = 0; i < 30; i++) {
+            gateway.create(Category.newCategory("Categoria %02d".formatted(i), i % 3 == 0 ? "arquivada" : null, i % 3 != 0));
+        }
+
+        final var actives = gateway.findAll(new CategorySearchQuery(1, 5, "", "name", "asc").withActive(true));
+        final var inactives = gateway.findAll(new CategorySearchQuery(0, 5, "", "name", "desc").withActive(false));
+        final var all = gateway.findAll(new CategorySearchQuery(2, 4, "", "name", "asc"));
+        final var searched = gateway.findAll(new CategorySearchQuery(0, 50, "arquivada", "name", "asc").withActive(true));
+
+        Assertions.assertEquals(20, actives.total());
+        Assertions.assertEquals(List.of("Categoria 08", "Categoria 10", "Categoria 11", "Categoria 13", "Categoria 14"), namesOf(actives.items()));
+        Assertions.assertEquals(10, inactives.total());
+        Assertions.assertEquals(List.of("Categoria 27", "Categoria 24", "Categoria 21", "Categoria 18", "Categoria 15"), namesOf(inactives.items()));
+        Assertions.assertEquals(30, all.total());
+        Assertions.assertEquals(List.of("Categoria 08", "Categoria 09", "Categoria 10", "Categoria 11"), namesOf(all.items()));
+        Assertions.assertEquals(0, searched.total());
+
+        final var keysetNames = new ArrayList<String>();
+        String aCursor = null;
+        do {
+            final var page = gateway.findAll(CategorySearchQuery.after(aCursor, 4, "", "name", "desc").withActive(false));
+            keysetNames.addAll(namesOf(page.items()));
+            aCursor = page.nextCursor();
+        } while (aCursor != null);
+        Assertions.assertEquals(10, keysetNames.size());
+        Assertions.assertEquals("Categoria 27", keysetNames.get(0));
+        Assertions.assertEquals("Categoria 00", keysetNames.get(9));
+    }
+
+    @Test
+    public void givenADeactivatedCategory_whenItIsActivatedAgain_thenShouldMoveBetweenPartitions() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        final var activeOnly = new CategorySearchQuery(0, 10, "filmes", "name", "asc").withActive(true);
+        final var inactiveOnly = new CategorySearchQuery(0, 10, "filmes", "name", "asc").withActive(false);
+
+        final var deactivated = gateway.update(aCategory.deactivate());
+        Assertions.assertEquals(0, gateway.findAll(activeOnly).total());
+        Assertions.assertEquals(1, gateway.findAll(inactiveOnly).total());
+
+        gateway.update(deactivated.activate());
+        Assertions.assertEquals(1, gateway.findAll(activeOnly).total());
+        Assertions.assertEquals(0, gateway.findAll(inactiveOnly).total());
+    }
+
+    @Test
+    public void givenLongDeletedCategories_whenCallsPurgeDeletedBefore_thenShouldRemoveOnlyThoseInBatches() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var now = Instant.now();
+        final var ids = new ArrayList<CategoryID>();
+        for (int i = 0; i < 5; i++) {
+            final var deletedAt = now.minus(Duration.ofDays(10 - i));
+            final var aCategory = Category.with(CategoryID.unique(), "Antiga " + i, null, false, deletedAt, deletedAt, deletedAt);
+            ids.add(gateway.create(aCategory).getId());
+        }
+        final var recent = gateway.create(Category.newCategory("Recente", null, false));
+        final var active = gateway.create(Category.newCategory("Ativa", null, true));
+        final var cutoff = now.minus(Duration.ofDays(7));
+
+        Assertions.assertEquals(ids.subList(0, 2), gateway.purgeDeletedBefore(cutoff, 2));
+        Assertions.assertEquals(List.of(ids.get(2)), gateway.purgeDeletedBefore(cutoff, 2));
+        Assertions.assertEquals(List.of(), gateway.purgeDeletedBefore(cutoff, 2));
+
+        Assertions.assertTrue(gateway.findById(ids.get(0)).isEmpty());
+        Assertions.assertTrue(gateway.findById(ids.get(3)).isPresent());
+        Assertions.assertTrue(gateway.findById(recent.getId()).isPresent());
+        Assertions.assertTrue(gateway.findById(active.getId()).isPresent());
+        Assertions.assertEquals(4, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+        Assertions.assertEquals(2, gateway.findAll(new CategorySearchQuery(0, 10, "antiga", "name", "asc")).total());
+    }
+
+    private static List<String> namesOf(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+}
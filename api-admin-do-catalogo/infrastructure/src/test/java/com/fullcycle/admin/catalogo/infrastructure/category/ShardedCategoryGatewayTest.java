@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShardedCategoryGatewayTest {
+    private static final String[] NAMES = {"Filmes", "Series", "Documentarios", "Filmes de acao", "Series de drama", "Kids"};
+
+    @Test
+    public void givenCategoriesSpreadOverShards_whenCallsFindAll_thenShouldReturnTheSamePagesAsOneGateway() throws Exception {
+        final var single = new InMemoryCategoryGateway();
+        try (final var sharded = ShardedCategoryGateway.inMemory(4)) {
+            store(single, sharded, 60);
+
+            final var queries = List.of(
+                new CategorySearchQuery(0, 7, "", "name", "asc"),
+                new CategorySearchQuery(2, 7, "", "name", "desc"),
+                new CategorySearchQuery(1, 10, "", "createdAt", "asc"),
+                new CategorySearchQuery(8, 10, "", "updatedAt", "desc"),
+                new CategorySearchQuery(0, 5, "filmes", "", "asc"),
+                new CategorySearchQuery(1, 5, "ser dra", "relevance", "asc"),
+                new CategorySearchQuery(1, 4, "series", "name", "desc"),
+                new CategorySearchQuery(0, 8, "", "name", "asc").withActive(false)
+            );
+            for (final var aQuery : queries) {
+                final var expected = single.findAll(aQuery);
+                final var actual = sharded.findAll(aQuery);
+
+                Assertions.assertEquals(expected.total(), actual.total(), aQuery.toString());
+                Assertions.assertEquals(idsOf(expected), idsOf(actual), aQuery.toString());
+            }
+        }
+    }
+
+    @Test
+    public void givenCategoriesSpreadOverShards_whenStreamsWithKeysetPages_thenShouldWalkEveryCategoryInOrder() throws Exception {
+        final var single = new InMemoryCategoryGateway();
+        try (final var sharded = ShardedCategoryGateway.inMemory(3)) {
+            store(single, sharded, 45);
+
+            for (final var aQuery : List.of(
+                new CategorySearchQuery(0, 4, "", "name", "desc"),
+                new CategorySearchQuery(0, 4, "filmes", "relevance", "asc")
+            )) {
+                final List<CategoryID> expected;
+                final List<CategoryID> actual;
+                try (
+                    final var expectedStream = single.streamAll(aQuery);
+                    final var actualStream = sharded.streamAll(aQuery)
+                ) {
+                    expected = expectedStream.map(Category::getId).toList();
+                    actual = actualStream.map(Category::getId).toList();
+                }
+                Assertions.assertFalse(expected.isEmpty());
+                Assertions.assertEquals(expected, actual, aQuery.toString());
+            }
+        }
+    }
+
+    @Test
+    public void givenABatch_whenCallsCreateAll_thenShouldRouteEachCategoryToItsShardAndKeepTheOrder() throws Exception {
+        final var shards = List.of(new InMemoryCategoryGateway(), new InMemoryCategoryGateway(), new InMemoryCategoryGateway());
+        try (final var sharded = new ShardedCategoryGateway(shards)) {
+            final var batch = new ArrayList<Category>();
+            for (int i = 0; i < 30; i++) {
+                batch.add(Category.newCategory("Categoria " + i, null, true));
+            }
+
+            final var created = sharded.createAll(batch);
+
+            Assertions.assertEquals(batch.stream().map(Category::getId).toList(), created.stream().map(Category::getId).toList());
+            for (final var aCategory : created) {
+                final var owner = shards.get(sharded.shardOf(aCategory.getId()));
+                Assertions.assertTrue(owner.findById(aCategory.getId()).isPresent());
+                Assertions.assertTrue(sharded.findById(aCategory.getId()).isPresent());
+            }
+            Assertions.assertEquals(30, sharded.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    public void givenDeactivatedCategoriesOnEveryShard_whenCallsPurgeDeletedBefore_thenShouldHonourTheLimitAcrossShards() throws Exception {
+        try (final var sharded = ShardedCategoryGateway.inMemory(4)) {
+            for (int i = 0; i < 20; i++) {
+                sharded.create(Category.newCategory("Inativa " + i, null, false));
+            }
+            final var cutoff = Instant.now().plusSeconds(1);
+
+            final var firstRound = sharded.purgeDeletedBefore(cutoff, 15);
+            final var secondRound = sharded.purgeDeletedBefore(cutoff, 15);
+
+            Assertions.assertEquals(15, firstRound.size());
+            Assertions.assertEquals(5, secondRound.size());
+            Assertions.assertEquals(0, sharded.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).total());
+        }
+    }
+
+    private static void store(final CategoryGateway single, final CategoryGateway sharded, final int aCount) {
+        final var categories = new ArrayList<Category>(aCount);
+        for (int i = 0; i < aCount; i++) {
+            final var aName = NAMES[i % NAMES.length] + (i % 4 == 0 ? "" : " " + i);
+            final var aDescription = i % 3 == 0 ? "Drama e acao para toda familia" : null;
+            categories.add(Category.newCategory(aName, aDescription, i % 5 != 0));
+        }
+        single.createAll(categories.stream().map(Category::with).toList());
+        sharded.createAll(categories.stream().map(Category::with).toList());
+    }
+
+    private static List<CategoryID> idsOf(final Pagination<Category> aPage) {
+        return aPage.items().stream().map(Category::getId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.export;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.json.JsonReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class CategoryExportWriterTest {
+
+    @Test
+    public void givenCategories_whenWritesNdjson_thenShouldEmitOneObjectPerLine() {
+        final var filmes = Category.newCategory("Filmes", "A categoria \"mais\" assistida", true);
+        final var series = Category.newCategory("Series", null, false);
+        final var out = new ByteArrayOutputStream();
+
+        final var aWriter = CategoryExportFormat.from("ndjson").writerFor(out);
+        aWriter.write(filmes);
+        aWriter.write(series);
+        aWriter.flush();
+
+        final var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, lines.length);
+
+        final var reader = new JsonReader(lines[0].getBytes(StandardCharsets.UTF_8));
+        reader.beginObject();
+        Assertions.assertEquals("id", reader.nextName());
+        Assertions.assertEquals(filmes.getId().getValue(), reader.nextString());
+        Assertions.assertEquals("name", reader.nextName());
+        Assertions.assertEquals("Filmes", reader.nextString());
+        Assertions.assertEquals("description", reader.nextName());
+        Assertions.assertEquals("A categoria \"mais\" assistida", reader.nextString());
+        Assertions.assertTrue(lines[1].contains("\"is_active\":false"));
+        Assertions.assertTrue(lines[1].contains("\"deleted_at\":\""));
+    }
+
+    @Test
+    public void givenCategories_whenWritesCsv_thenShouldQuoteOnlyWhereNeeded() {
+        final var filmes = Category.newCategory("Filmes, Series", "Com \"aspas\"", true);
+        final var out = new ByteArrayOutputStream();
+
+        final var aWriter = CategoryExportFormat.from("CSV").writerFor(out);
+        aWriter.write(filmes);
+        aWriter.flush();
+
+        final var lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(CsvCategoryExportWriter.HEADER, lines[0]);
+        Assertions.assertEquals(
+            filmes.getId().getValue() + ",\"Filmes, Series\",\"Com \"\"aspas\"\"\",true," + filmes.getCreatedAt() + "," + filmes.getUpdatedAt() + ",",
+            lines[1]
+        );
+    }
+
+    @Test
+    public void givenNoCategories_whenFlushesCsv_thenShouldStillWriteTheHeader() {
+        final var out = new ByteArrayOutputStream();
+
+        CategoryExportFormat.CSV.writerFor(out).flush();
+
+        Assertions.assertEquals(CsvCategoryExportWriter.HEADER + "\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenAnUnknownFormat_whenCallsFrom_thenShouldReceiveError() {
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryExportFormat.from("xml"));
+
+        Assertions.assertEquals("'format' should be one of ndjson, csv", actualException.getMessage());
+    }
+}
@@ -0,0 +1,128 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.importing;
+
+import com.fullcycle.admin.catalogo.application.category.importing.CategoryImportRow;
+import com.fullcycle.admin.catalogo.application.category.importing.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.importing.ImportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.importing.ImportCategoriesOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.export.CategoryExportFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class FileCategoryImportSourceTest {
+
+    @Test
+    public void givenAnNdjsonFileLargerThanTheChunk_whenReadsIt_thenShouldCutChunksOnRecordBoundaries() throws IOException {
+        final var aFile = Files.createTempFile("categories", ".ndjson");
+        try {
+            final var content = new StringBuilder();
+            for (int i = 0; i < 200; i++) {
+                content.append("{\"name\":\"Categoria ").append(i).append("\",\"is_active\":").append(i % 2 == 0).append("}\r\n");
+            }
+            content.append("\n{\"name\": \n{\"name\":\"").append("x".repeat(300)).append("\"}");
+            Files.writeString(aFile, content, StandardCharsets.UTF_8);
+
+            final var rows = readAll(aFile, CategoryImportFormat.NDJSON, 64);
+
+            Assertions.assertEquals(202, rows.size());
+            for (int i = 0; i < 200; i++) {
+                Assertions.assertEquals(i + 1, rows.get(i).line());
+                Assertions.assertEquals("Categoria " + i, rows.get(i).command().name());
+                Assertions.assertEquals(i % 2 == 0, rows.get(i).command().isActive());
+            }
+            Assertions.assertEquals(202, rows.get(200).line());
+            Assertions.assertTrue(rows.get(200).isMalformed());
+            Assertions.assertEquals(203, rows.get(201).line());
+            Assertions.assertEquals(300, rows.get(201).command().name().length());
+        } finally {
+            Files.deleteIfExists(aFile);
+        }
+    }
+
+    @Test
+    public void givenAnExportedCsvFile_whenReadsIt_thenShouldKeepQuotedLineBreaksAndCommas() throws IOException {
+        final var aFile = Files.createTempFile("categories", ".csv");
+        try {
+            try (final var out = Files.newOutputStream(aFile)) {
+                final var aWriter = CategoryExportFormat.CSV.writerFor(out);
+                aWriter.write(Category.newCategory("Filmes, \"Series\"", "Primeira linha\nSegunda linha", true));
+                aWriter.write(Category.newCategory("Documentarios", null, false));
+                aWriter.flush();
+            }
+
+            final var rows = readAll(aFile, CategoryImportFormat.fromFileName(aFile), 16);
+
+            Assertions.assertEquals(2, rows.size());
+            Assertions.assertEquals(2, rows.get(0).line());
+            Assertions.assertEquals("Filmes, \"Series\"", rows.get(0).command().name());
+            Assertions.assertEquals("Primeira linha\nSegunda linha", rows.get(0).command().description());
+            Assertions.assertEquals(4, rows.get(1).line());
+            Assertions.assertEquals("Documentarios", rows.get(1).command().name());
+            Assertions.assertNull(rows.get(1).command().description());
+            Assertions.assertFalse(rows.get(1).command().isActive());
+        } finally {
+            Files.deleteIfExists(aFile);
+        }
+    }
+
+    @Test
+    public void givenAFileWithBadRows_whenImportsIt_thenShouldStoreValidRowsAndReportTheOthers() throws IOException {
+        final var aFile = Files.createTempFile("categories", ".csv");
+        final var aRejectedFile = Files.createTempFile("categories", ".rejected.ndjson");
+        try {
+            final var content = new StringBuilder("name,is_active\n");
+            for (int i = 0; i < 1_000; i++) {
+                content.append("Categoria ").append(i).append(",true\n");
+            }
+            content.append("Fi,true\n");
+            content.append("Series,maybe\n");
+            Files.writeString(aFile, content, StandardCharsets.UTF_8);
+
+            final var gateway = new InMemoryCategoryGateway();
+            final var useCase = new DefaultImportCategoriesUseCase(gateway, ForkJoinPool.commonPool(), 128, 4);
+
+            final ImportCategoriesOutput actualOutput;
+            try (
+                final var aSource = FileCategoryImportSource.open(aFile, CategoryImportFormat.CSV, 256);
+                final var aRejections = FileCategoryImportRejections.open(aRejectedFile)
+            ) {
+                actualOutput = useCase.execute(ImportCategoriesCommand.with(aSource, aRejections, null));
+            }
+
+            Assertions.assertEquals(1_002, actualOutput.rows());
+            Assertions.assertEquals(1_000, actualOutput.imported());
+            Assertions.assertEquals(2, actualOutput.rejected());
+            Assertions.assertEquals(1_000, gateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).total());
+            Assertions.assertEquals(
+                List.of(
+                    "{\"line\":1002,\"errors\":[\"'name' must be between 3 and 255 characters\"],\"row\":\"Fi,true\"}",
+                    "{\"line\":1003,\"errors\":[\"'is_active' should be true or false\"],\"row\":\"Series,maybe\"}"
+                ),
+                Files.readAllLines(aRejectedFile)
+            );
+        } finally {
+            Files.deleteIfExists(aFile);
+            Files.deleteIfExists(aRejectedFile);
+        }
+    }
+
+    private static List<CategoryImportRow> readAll(final Path aFile, final CategoryImportFormat aFormat, final int aChunkBytes) throws IOException {
+        final var rows = new ArrayList<CategoryImportRow>();
+        try (final var source = FileCategoryImportSource.open(aFile, aFormat, aChunkBytes)) {
+            for (var chunk = source.nextChunk(); chunk != null; chunk = source.nextChunk()) {
+                rows.addAll(chunk.rows());
+            }
+        }
+        return rows;
+    }
+}
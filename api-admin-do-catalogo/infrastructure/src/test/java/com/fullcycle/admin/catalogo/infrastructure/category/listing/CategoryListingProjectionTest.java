@@ -0,0 +1,196 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.listing;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeactivated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryListing;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryUpdated;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.events.RingBufferEventPublisher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CategoryListingProjectionTest {
+    private static final String[] NAMES = {"Filmes", "Series", "Documentarios", "Filmes de acao", "Series de drama", "Kids"};
+
+    @Test
+    public void givenWritesThroughTheGateway_whenEventsAreApplied_thenShouldListLikeTheGateway() {
+        final var projection = new CategoryListingProjection();
+        try (final var events = new RingBufferEventPublisher()) {
+            events.subscribe(projection);
+            final var gateway = new InMemoryCategoryGateway(events);
+
+            final var stored = new ArrayList<Category>();
+            for (int i = 0; i < 40; i++) {
+                final var aName = NAMES[i % NAMES.length] + (i % 4 == 0 ? "" : " " + i);
+                stored.add(gateway.create(Category.newCategory(aName, i % 3 == 0 ? "Drama e acao" : null, true)));
+            }
+            for (int i = 0; i < 40; i += 5) {
+                final var aCategory = gateway.findById(stored.get(i).getId()).orElseThrow();
+                gateway.update(aCategory.update(aCategory.getName() + " editado", "Nova", i % 10 != 0));
+            }
+            gateway.deleteById(stored.get(1).getId());
+            Assertions.assertTrue(events.awaitDrained(Duration.ofSeconds(5)));
+
+            final var queries = List.of(
+                new CategorySearchQuery(0, 7, "", "name", "asc"),
+                new CategorySearchQuery(2, 7, "", "name", "desc"),
+                new CategorySearchQuery(1, 10, "", "createdAt", "asc"),
+                new CategorySearchQuery(0, 10, "", "updatedAt", "desc"),
+                new CategorySearchQuery(0, 5, "filmes", "", "asc"),
+                new CategorySearchQuery(0, 5, "ser dra", "relevance", "asc"),
+                new CategorySearchQuery(1, 4, "editado", "name", "desc"),
+                new CategorySearchQuery(0, 8, "", "name", "asc").withActive(false),
+                new CategorySearchQuery(0, 8, "", "name", "asc").withActive(true)
+            );
+            for (final var aQuery : queries) {
+                final var expected = gateway.findAll(aQuery);
+                final var actual = projection.findAll(aQuery);
+
+                Assertions.assertEquals(expected.total(), actual.total(), aQuery.toString());
+                Assertions.assertEquals(expected.items().stream().map(Category::getId).toList(), idsOf(actual), aQuery.toString());
+            }
+            Assertions.assertEquals(39, projection.size());
+        }
+    }
+
+    @Test
+    public void givenKeysetQueries_whenWalkingEveryPage_thenShouldMatchTheGatewayCursors() {
+        final var projection = new CategoryListingProjection();
+        final var gateway = new InMemoryCategoryGateway(anEvent -> projection.onEvents(List.of(anEvent)));
+        for (int i = 0; i < 25; i++) {
+            gateway.create(Category.newCategory(NAMES[i % NAMES.length] + " " + i, null, true));
+        }
+
+        for (final var aSort : List.of("name", "createdAt", "relevance")) {
+            final var terms = "relevance".equals(aSort) ? "filmes" : "";
+            var expected = gateway.findAll(CategorySearchQuery.after("", 4, terms, aSort, "desc"));
+            var actual = projection.findAll(CategorySearchQuery.after("", 4, terms, aSort, "desc"));
+            while (true) {
+                Assertions.assertEquals(expected.items().stream().map(Category::getId).toList(), idsOf(actual), aSort);
+                Assertions.assertEquals(expected.nextCursor(), actual.nextCursor(), aSort);
+                if (!expected.hasNext()) {
+                    break;
+                }
+                expected = gateway.findAll(CategorySearchQuery.after(expected.nextCursor(), 4, terms, aSort, "desc"));
+                actual = projection.findAll(CategorySearchQuery.after(actual.nextCursor(), 4, terms, aSort, "desc"));
+            }
+        }
+    }
+
+    @Test
+    public void givenACategoryLifecycle_whenEventsAreApplied_thenListingShouldFollowIt() {
+        final var projection = new CategoryListingProjection();
+        final var gateway = new InMemoryCategoryGateway(anEvent -> projection.onEvents(List.of(anEvent)));
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.update(gateway.findById(aCategory.getId()).orElseThrow().update("Filmes antigos", "Classicos", true));
+        final var deactivated = gateway.update(gateway.findById(aCategory.getId()).orElseThrow().deactivate());
+
+        final var listing = onlyListing(projection);
+        Assertions.assertEquals("Filmes antigos", listing.name());
+        Assertions.assertEquals("Classicos", listing.description());
+        Assertions.assertFalse(listing.isActive());
+        Assertions.assertEquals(deactivated.getDeletedAt(), listing.deletedAt());
+        Assertions.assertEquals(aCategory.getCreatedAt(), listing.createdAt());
+
+        gateway.update(gateway.findById(aCategory.getId()).orElseThrow().activate());
+        Assertions.assertTrue(onlyListing(projection).isActive());
+        Assertions.assertNull(onlyListing(projection).deletedAt());
+        Assertions.assertEquals(1, projection.findAll(new CategorySearchQuery(0, 10, "antigos", "", "asc")).total());
+        Assertions.assertEquals(0, projection.findAll(new CategorySearchQuery(0, 10, "Filmes novos", "", "asc")).total());
+
+        gateway.update(gateway.findById(aCategory.getId()).orElseThrow().deactivate());
+        Assertions.assertEquals(List.of(aCategory.getId()), gateway.purgeDeletedBefore(Instant.now().plusSeconds(1), 10));
+        Assertions.assertEquals(0, projection.size());
+        Assertions.assertEquals(0, projection.findAll(new CategorySearchQuery(0, 10, "filmes", "", "asc")).total());
+    }
+
+    @Test
+    public void givenAnExistingStore_whenCallsRebuild_thenShouldListWhatWasWrittenBefore() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var ids = new ArrayList<CategoryID>();
+        for (int i = 0; i < 2_500; i++) {
+            ids.add(gateway.create(Category.newCategory("Categoria " + i, null, i % 2 == 0)).getId());
+        }
+        final var projection = new CategoryListingProjection();
+
+        projection.rebuild(gateway);
+
+        final var aQuery = new CategorySearchQuery(3, 50, "", "createdAt", "asc").withActive(false);
+        Assertions.assertEquals(2_500, projection.size());
+        Assertions.assertEquals(gateway.findAll(aQuery).total(), projection.findAll(aQuery).total());
+        Assertions.assertEquals(gateway.findAll(aQuery).items().stream().map(Category::getId).toList(), idsOf(projection.findAll(aQuery)));
+        Assertions.assertEquals(ids.get(0), projection.findAll(new CategorySearchQuery(0, 1, "", "createdAt", "asc")).items().get(0).id());
+    }
+
+    @Test
+    public void givenAnUpdateArrivingAfterTheDelete_whenEventsAreApplied_thenShouldNotBringTheCategoryBack() {
+        final var events = new ArrayList<DomainEvent>();
+        final var gateway = new InMemoryCategoryGateway(events::add);
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.update(aCategory.update("Filmes antigos", null, true));
+        gateway.deleteById(aCategory.getId());
+        final var projection = new CategoryListingProjection();
+
+        projection.onEvents(List.of(events.get(0), events.get(2), events.get(1)));
+
+        Assertions.assertEquals(0, projection.size());
+        Assertions.assertEquals(0, projection.findAll(new CategorySearchQuery(0, 10, "filmes", "", "asc")).total());
+    }
+
+    @Test
+    public void givenACreationArrivingAfterAnUpdate_whenEventsAreApplied_thenShouldKeepTheUpdateAndTheCreationTime() {
+        final var events = new ArrayList<DomainEvent>();
+        final var gateway = new InMemoryCategoryGateway(events::add);
+        final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+        final var updated = gateway.update(aCategory.update("Filmes antigos", "Classicos", true));
+        final var projection = new CategoryListingProjection();
+
+        projection.onEvents(List.of(events.get(1), events.get(0)));
+
+        final var listing = onlyListing(projection);
+        Assertions.assertEquals("Filmes antigos", listing.name());
+        Assertions.assertEquals("Classicos", listing.description());
+        Assertions.assertEquals(aCategory.getCreatedAt(), listing.createdAt());
+        Assertions.assertEquals(updated.getUpdatedAt(), listing.updatedAt());
+    }
+
+    @Test
+    public void givenEventsAtTheSameInstantOrADeactivationFirst_whenEventsAreApplied_thenTheVersionShouldDecide() {
+        final var anId = CategoryID.unique();
+        final var now = Instant.now();
+        final var projection = new CategoryListingProjection();
+
+        projection.onEvents(List.of(
+            new CategoryDeactivated(anId, now, 3),
+            new CategoryUpdated(anId, "Series", null, true, now, 2),
+            new CategoryUpdated(anId, "Filmes", null, true, now, 1),
+            new CategoryCreated(anId, "Documentarios", null, true, now, 0)
+        ));
+
+        final var listing = onlyListing(projection);
+        Assertions.assertEquals("Series", listing.name());
+        Assertions.assertFalse(listing.isActive());
+        Assertions.assertEquals(now, listing.deletedAt());
+    }
+
+    private static CategoryListing onlyListing(final CategoryListingProjection projection) {
+        final var page = projection.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        Assertions.assertEquals(1, page.items().size());
+        return page.items().get(0);
+    }
+
+    private static List<CategoryID> idsOf(final Pagination<CategoryListing> aPage) {
+        return aPage.items().stream().map(CategoryListing::id).toList();
+    }
+}
@@ -0,0 +1,108 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+
+public class CategoryCodecTest {
+
+    @Test
+    public void givenAFullCategory_whenEncodedAndDecoded_thenShouldKeepEveryField() {
+        final var createdAt = Instant.parse("2024-03-01T10:15:30.123456789Z");
+        final var expected = Category.with(
+            CategoryID.unique(),
+            "Fic\u00e7\u00e3o \ud83c\udfac",
+            "A categoria mais assistida",
+            false,
+            createdAt,
+            createdAt.plusSeconds(3600).plusNanos(1),
+            createdAt.plusSeconds(7200),
+            300
+        );
+
+        final var encoded = CategoryCodec.encode(expected);
+        final var actual = CategoryCodec.decode(encoded);
+
+        Assertions.assertEquals(CategoryCodec.sizeOf(expected), encoded.position());
+        assertSameCategory(expected, actual);
+    }
+
+    @Test
+    public void givenMissingOptionalFieldsAndAnInstantBefore1970_whenEncodedAndDecoded_thenShouldKeepThem() {
+        final var createdAt = Instant.parse("1969-12-31T23:59:59.999000001Z");
+        final var expected = Category.with(CategoryID.unique(), null, null, true, createdAt, createdAt.minusMillis(5), null);
+
+        final var out = ByteBuffer.allocateDirect(CategoryCodec.sizeOf(expected)).order(ByteOrder.LITTLE_ENDIAN);
+        CategoryCodec.encode(expected, out);
+        Assertions.assertFalse(out.hasRemaining());
+
+        assertSameCategory(expected, CategoryCodec.decode(out.flip()));
+    }
+
+    @Test
+    public void givenAnEncodedCategory_whenReadThroughAView_thenShouldDecodeOnlyTheRequestedFields() {
+        final var expected = Category.newCategory("Filmes", "A categoria mais assistida", false);
+        final var out = ByteBuffer.allocate(64 + CategoryCodec.sizeOf(expected));
+        out.put(new byte[7]);
+        CategoryCodec.encode(expected, out);
+        out.position(7);
+
+        final var view = CategoryCodec.view(out);
+
+        Assertions.assertEquals(7, out.position());
+        Assertions.assertEquals(expected.getId(), view.id());
+        Assertions.assertFalse(view.isActive());
+        Assertions.assertEquals("A categoria mais assistida", view.description());
+        Assertions.assertEquals("Filmes", view.name());
+        Assertions.assertEquals(expected.getCreatedAt(), view.createdAt());
+        Assertions.assertEquals(expected.getUpdatedAt(), view.updatedAt());
+        Assertions.assertEquals(expected.getDeletedAt(), view.deletedAt());
+        Assertions.assertEquals(0, view.version());
+        Assertions.assertEquals(CategoryCodec.sizeOf(expected), view.size());
+        assertSameCategory(expected, view.toCategory());
+    }
+
+    @Test
+    public void givenAnUnknownVersion_whenDecoded_thenShouldFail() {
+        final var encoded = CategoryCodec.encode(Category.newCategory("Filmes", null, true));
+        encoded.put(0, (byte) 99);
+
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryCodec.decode(encoded));
+
+        Assertions.assertEquals("unsupported category encoding version 99", actualException.getMessage());
+    }
+
+    @Test
+    public void givenACategoryEncodedBeforeVersioning_whenDecoded_thenShouldReadItAsVersionZero() {
+        final var expected = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var current = CategoryCodec.encode(expected);
+        final var legacy = ByteBuffer.allocate(current.remaining() - 1)
+            .put(CategoryCodec.UNREVISED_VERSION)
+            .put(current.slice(1, CategoryCodec.ID_OFFSET - 1 + CategoryCodec.ID_SIZE))
+            .put(current.slice(CategoryCodec.ID_OFFSET + CategoryCodec.ID_SIZE + 1, current.remaining() - CategoryCodec.ID_OFFSET - CategoryCodec.ID_SIZE - 1))
+            .flip();
+
+        final var view = CategoryCodec.view(legacy);
+
+        Assertions.assertEquals(0, view.version());
+        Assertions.assertEquals(expected.getCreatedAt(), view.createdAt());
+        Assertions.assertEquals(legacy.remaining(), view.size());
+        assertSameCategory(expected, CategoryCodec.decode(legacy));
+    }
+
+    private static void assertSameCategory(final Category expected, final Category actual) {
+        Assertions.assertEquals(expected.getId(), actual.getId());
+        Assertions.assertEquals(expected.getName(), actual.getName());
+        Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+        Assertions.assertEquals(expected.getIsActive(), actual.getIsActive());
+        Assertions.assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        Assertions.assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+        Assertions.assertEquals(expected.getVersion(), actual.getVersion());
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CategorySearchIndexTest {
+
+    @Test
+    public void givenAccentedText_whenCallsTokenize_thenShouldFoldAccentsAndCase() {
+        final var actualTokens = CategoryTokenizer.tokenize("A\u00e7\u00e3o, COM\u00c9DIA e Fic\u00e7\u00e3o-cient\u00edfica");
+
+        Assertions.assertEquals(List.of("acao", "comedia", "e", "ficcao", "cientifica"), actualTokens);
+    }
+
+    @Test
+    public void givenIndexedCategories_whenSearchesWithoutAccents_thenShouldMatchAccentedNames() {
+        final var index = new CategorySearchIndex();
+        final var action = Category.newCategory("Filmes de a\u00e7\u00e3o", null, true);
+        index.add(action);
+        index.add(Category.newCategory("Filmes de terror", null, true));
+
+        final var actualScores = index.search("ACAO");
+
+        Assertions.assertEquals(1, actualScores.size());
+        Assertions.assertTrue(actualScores.containsKey(action.getId()));
+    }
+
+    @Test
+    public void givenIndexedCategories_whenSearchesByPrefix_thenShouldMatchAndRankExactNameMatchesFirst() {
+        final var index = new CategorySearchIndex();
+        final var exactName = Category.newCategory("Filme", null, true);
+        final var prefixName = Category.newCategory("Filmes antigos", null, true);
+        final var inDescription = Category.newCategory("Classicos", "Filmes em preto e branco", true);
+        index.add(exactName);
+        index.add(prefixName);
+        index.add(inDescription);
+        index.add(Category.newCategory("Series", "Episodios", true));
+
+        final var actualScores = index.search("film");
+
+        Assertions.assertEquals(3, actualScores.size());
+        Assertions.assertTrue(actualScores.get(prefixName.getId()) > actualScores.get(inDescription.getId()));
+        final var exactScores = index.search("filme");
+        Assertions.assertTrue(exactScores.get(exactName.getId()) > exactScores.get(prefixName.getId()));
+    }
+
+    @Test
+    public void givenAnIndexedCategory_whenItIsReplacedOrRemoved_thenSearchShouldFollow() {
+        final var index = new CategorySearchIndex();
+        final var aCategory = Category.newCategory("Documentarios", "Natureza", true);
+        index.add(aCategory);
+
+        final var updated = Category.with(aCategory).update("Animes", "Japao", true);
+        index.replace(aCategory, updated);
+
+        Assertions.assertTrue(index.search("natureza").isEmpty());
+        Assertions.assertTrue(index.search("japao anim").containsKey(aCategory.getId()));
+
+        index.remove(updated);
+        Assertions.assertTrue(index.search("animes").isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class MergedSortedViewTest {
+
+    @Test
+    public void givenTwoInterleavedIndexes_whenSlicedAtEveryOffset_thenShouldMatchTheSortedUnion() {
+        final var random = new Random(42);
+        final var first = new SortedIndex<Integer>(Comparator.naturalOrder(), 4);
+        final var second = new SortedIndex<Integer>(Comparator.naturalOrder(), 4);
+        final var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 200; i++) {
+            (random.nextInt(3) == 0 ? second : first).add(i);
+            expected.add(i);
+        }
+
+        final var merged = new MergedSortedView<>(first, second, Comparator.<Integer>naturalOrder());
+        final var reversed = new ArrayList<>(expected);
+        reversed.sort(Comparator.reverseOrder());
+
+        Assertions.assertEquals(200, merged.size());
+        for (int offset = 0; offset <= 200; offset += 7) {
+            Assertions.assertEquals(sliceOf(expected, offset, 10), merged.slice(offset, 10, false));
+            Assertions.assertEquals(sliceOf(reversed, offset, 10), merged.slice(offset, 10, true));
+        }
+        Assertions.assertEquals(57, merged.get(57));
+        Assertions.assertEquals(100, merged.rank(100));
+    }
+
+    @Test
+    public void givenOneEmptyIndex_whenIterated_thenShouldWalkTheOther() {
+        final var first = new SortedIndex<Integer>(Comparator.naturalOrder(), 2);
+        final var second = new SortedIndex<Integer>(Comparator.naturalOrder(), 2);
+        List.of(5, 1, 4, 2, 3).forEach(second::add);
+
+        final var merged = new MergedSortedView<>(first, second, Comparator.<Integer>naturalOrder());
+        final var visited = new ArrayList<Integer>();
+        merged.forEach(1, true, anElement -> visited.add(anElement) || true);
+
+        Assertions.assertEquals(List.of(4, 3, 2, 1), visited);
+        Assertions.assertFalse(merged.iterator(5, false).hasNext());
+    }
+
+    private static List<Integer> sliceOf(final List<Integer> aList, final int anOffset, final int aLimit) {
+        return aList.subList(Math.min(anOffset, aList.size()), Math.min(anOffset + aLimit, aList.size()));
+    }
+}
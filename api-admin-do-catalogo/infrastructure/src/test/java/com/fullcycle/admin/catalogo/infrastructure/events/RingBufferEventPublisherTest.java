@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.events;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryUpdated;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RingBufferEventPublisherTest {
+
+    @Test
+    public void givenConcurrentPublishersAndASmallRing_whenDrained_thenEverySubscriberShouldSeeEveryEventOnce() throws Exception {
+        final var received = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var largestBatch = new AtomicInteger();
+        final var failures = new AtomicInteger();
+        try (final var publisher = new RingBufferEventPublisher(64, 16)) {
+            publisher.subscribe(anEvents -> {
+                received.addAll(anEvents);
+                largestBatch.accumulateAndGet(anEvents.size(), Math::max);
+            });
+            publisher.subscribe(anEvents -> {
+                failures.incrementAndGet();
+                throw new IllegalStateException("projection is down");
+            });
+
+            final var executor = Executors.newFixedThreadPool(4);
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        publisher.publish(new CategoryCreated(CategoryID.unique(), "Filmes", null, true, Instant.now(), 0));
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            Assertions.assertTrue(publisher.awaitDrained(Duration.ofSeconds(10)));
+            Assertions.assertEquals(20_000, publisher.published());
+            Assertions.assertEquals(20_000, publisher.delivered());
+            Assertions.assertEquals(failures.get(), publisher.failures());
+        }
+
+        Assertions.assertEquals(20_000, received.size());
+        Assertions.assertEquals(20_000, new HashSet<>(received.stream().map(anEvent -> ((CategoryCreated) anEvent).id()).toList()).size());
+        Assertions.assertTrue(largestBatch.get() <= 16);
+    }
+
+    @Test
+    public void givenAGatewayWithAPublisher_whenCategoriesAreWritten_thenShouldPublishTheirEventsOnce() {
+        final var received = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        try (final var publisher = new RingBufferEventPublisher()) {
+            publisher.subscribe(received::addAll);
+            final var gateway = new InMemoryCategoryGateway(publisher);
+
+            final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+            final var toUpdate = gateway.findById(aCategory.getId()).orElseThrow();
+            final var updated = gateway.update(toUpdate.update("Series", null, true));
+            gateway.update(updated);
+
+            Assertions.assertTrue(publisher.awaitDrained(Duration.ofSeconds(5)));
+        }
+
+        Assertions.assertEquals(2, received.size());
+        Assertions.assertTrue(received.get(0) instanceof CategoryCreated);
+        Assertions.assertEquals("Series", ((CategoryUpdated) received.get(1)).name());
+    }
+
+    @Test
+    public void givenAClosedPublisher_whenPublishing_thenShouldFail() {
+        final var publisher = new RingBufferEventPublisher();
+        publisher.close();
+
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> publisher.publishAll(List.of(new CategoryCreated(CategoryID.unique(), "Filmes", null, true, Instant.now(), 0)))
+        );
+    }
+}
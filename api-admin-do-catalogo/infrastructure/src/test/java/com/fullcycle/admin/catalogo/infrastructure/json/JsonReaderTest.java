@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalogo.infrastructure.json;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+public class JsonReaderTest {
+
+    @Test
+    public void givenADocumentWithNestedAndUnknownValues_whenRead_thenShouldReturnTheRequestedFields() {
+        final var json = """
+            {"skip": {"a": [1, -2.5e3, true, null, {"b": "c"}]},
+             "name": "A\\u00e7\\"\\u00e3o\\n",
+             "tags": ["x", null, "y"],
+             "count": -42, "active": false}
+            """;
+        final var in = new JsonReader(json.getBytes(StandardCharsets.UTF_8));
+
+        String name = null;
+        final var tags = new ArrayList<String>();
+        long count = 0;
+        boolean active = true;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name" -> name = in.nextString();
+                case "tags" -> {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        tags.add(in.nextNullableString());
+                    }
+                    in.endArray();
+                }
+                case "count" -> count = in.nextLong();
+                case "active" -> active = in.nextBoolean();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        in.end();
+
+        Assertions.assertEquals("A\u00e7\"\u00e3o\n", name);
+        Assertions.assertEquals(3, tags.size());
+        Assertions.assertEquals("x", tags.get(0));
+        Assertions.assertNull(tags.get(1));
+        Assertions.assertEquals(-42, count);
+        Assertions.assertFalse(active);
+    }
+
+    @Test
+    public void givenAMalformedDocument_whenRead_thenShouldFailWithOffset() {
+        final var in = new JsonReader("{\"name\" \"Filmes\"}".getBytes(StandardCharsets.UTF_8));
+        in.beginObject();
+
+        final var actualException = Assertions.assertThrows(JsonException.class, in::nextName);
+
+        Assertions.assertEquals("expected ':' at offset 8", actualException.getMessage());
+    }
+
+    @Test
+    public void givenADeeplyNestedUnknownValue_whenSkipped_thenShouldFailInsteadOfOverflowingTheStack() {
+        final var json = "{\"name\": \"abc\", \"x\": " + "[".repeat(30_000) + "]".repeat(30_000) + "}";
+        final var in = new JsonReader(json.getBytes(StandardCharsets.UTF_8));
+        in.beginObject();
+        Assertions.assertEquals("name", in.nextName());
+        Assertions.assertEquals("abc", in.nextString());
+        Assertions.assertEquals("x", in.nextName());
+
+        final var actualException = Assertions.assertThrows(JsonException.class, in::skipValue);
+
+        Assertions.assertTrue(actualException.getMessage().startsWith("document nested deeper than 64 levels"));
+    }
+
+    @Test
+    public void givenWrittenValues_whenReadBack_thenShouldRoundTrip() {
+        final var bytes = new ByteArrayOutputStream();
+        final var out = new JsonWriter(bytes);
+        out.beginObject()
+            .name("text").value("tab\t \"quoted\" \\ \u00e7 \ud83c\udfac \u0001")
+            .name("number").value(Long.MIN_VALUE)
+            .name("empty").beginArray().endArray()
+            .name("missing").value((String) null)
+            .endObject();
+        out.flush();
+
+        final var in = new JsonReader(bytes.toByteArray());
+        in.beginObject();
+        Assertions.assertEquals("text", in.nextName());
+        Assertions.assertEquals("tab\t \"quoted\" \\ \u00e7 \ud83c\udfac \u0001", in.nextString());
+        Assertions.assertEquals("number", in.nextName());
+        in.skipValue();
+        Assertions.assertEquals("empty", in.nextName());
+        in.beginArray();
+        Assertions.assertFalse(in.hasNext());
+        in.endArray();
+        Assertions.assertEquals("missing", in.nextName());
+        Assertions.assertNull(in.nextNullableString());
+        in.endObject();
+        in.end();
+    }
+}
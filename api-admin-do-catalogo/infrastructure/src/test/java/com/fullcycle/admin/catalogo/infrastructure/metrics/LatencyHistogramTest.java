@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void givenAnyValue_whenMappedToABucket_thenBucketShouldContainItWithinSixPercent() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            final var highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+
+            Assertions.assertTrue(highest >= value);
+            Assertions.assertTrue(highest - value <= value / 16 + 1);
+        }
+    }
+
+    @Test
+    public void givenUniformLatencies_whenCallsSnapshot_thenShouldReportPercentiles() {
+        final var histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        final var actualSnapshot = histogram.snapshot();
+
+        Assertions.assertEquals(10_000, actualSnapshot.count());
+        Assertions.assertEquals(10_000_000, actualSnapshot.maxNanos());
+        Assertions.assertEquals(5_000_500.0, actualSnapshot.meanNanos(), 0.001);
+        assertWithin(5_000_000, actualSnapshot.p50Nanos());
+        assertWithin(9_900_000, actualSnapshot.p99Nanos());
+        assertWithin(9_990_000, actualSnapshot.p999Nanos());
+    }
+
+    @Test
+    public void givenNoRecords_whenCallsSnapshot_thenShouldReportZeros() {
+        final var actualSnapshot = new LatencyHistogram().snapshot();
+
+        Assertions.assertEquals(0, actualSnapshot.count());
+        Assertions.assertEquals(0, actualSnapshot.p99Nanos());
+        Assertions.assertEquals(0.0, actualSnapshot.meanNanos(), 0.0);
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        Assertions.assertTrue(actual >= expected && actual <= expected + expected / 16, "got " + actual);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.metrics;
+
+import com.fullcycle.admin.catalogo.application.NullaryUseCase;
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.Validation.Error;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServerFactory;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void givenAnInstrumentedUseCase_whenItSucceedsRejectsAndFails_thenShouldCountEachOutcome() {
+        final var registry = new MetricsRegistry();
+        final var useCase = registry.instrument("CreateCategory", new UseCase<String, String>() {
+            @Override
+            public String execute(final String aInput) {
+                if (aInput == null) {
+                    throw DomainException.with(new Error("'name' should not be null"));
+                }
+                if (aInput.isEmpty()) {
+                    throw new IllegalStateException("gateway is down");
+                }
+                return aInput.startsWith("!") ? "rejected" : aInput;
+            }
+        }, "rejected"::equals);
+
+        Assertions.assertEquals("Filmes", useCase.execute("Filmes"));
+        Assertions.assertEquals("rejected", useCase.execute("!Filmes"));
+        Assertions.assertThrows(DomainException.class, () -> useCase.execute(null));
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(""));
+
+        final var actualMetrics = registry.metricsFor("CreateCategory");
+        Assertions.assertEquals(4, actualMetrics.getCalls());
+        Assertions.assertEquals(1, actualMetrics.getRejections());
+        Assertions.assertEquals(1, actualMetrics.getDomainErrors());
+        Assertions.assertEquals(1, actualMetrics.getOtherErrors());
+        Assertions.assertEquals(4, actualMetrics.latency().count());
+    }
+
+    @Test
+    public void givenUnitAndNullaryUseCases_whenCallsSnapshot_thenShouldListEveryUseCase() {
+        final var registry = new MetricsRegistry();
+        registry.instrument("DeleteCategory", new UnitUseCase<String>() {
+            @Override
+            public void execute(final String aInput) {
+            }
+        }).execute("123");
+        registry.instrument("ListCategories", new NullaryUseCase<Integer>() {
+            @Override
+            public Integer execute() {
+                return 1;
+            }
+        }).execute();
+
+        final var actualSnapshot = registry.snapshot();
+
+        Assertions.assertTrue(actualSnapshot.contains("usecase_calls_total{usecase=\"DeleteCategory\"} 1\n"));
+        Assertions.assertTrue(actualSnapshot.contains("usecase_calls_total{usecase=\"ListCategories\"} 1\n"));
+        Assertions.assertTrue(actualSnapshot.contains("usecase_latency_p999_us{usecase=\"ListCategories\"} "));
+    }
+
+    @Test
+    public void givenAnMBeanServer_whenUseCasesAreInstrumented_thenShouldExposeThemOverJmx() throws Exception {
+        final var server = MBeanServerFactory.newMBeanServer();
+        final var registry = new MetricsRegistry();
+        registry.instrument("CreateCategory", new NullaryUseCase<String>() {
+            @Override
+            public String execute() {
+                return "ok";
+            }
+        }).execute();
+
+        registry.registerMBeans(server);
+        registry.metricsFor("DeleteCategory");
+
+        Assertions.assertEquals(1L, server.getAttribute(MetricsRegistry.objectNameOf("CreateCategory"), "Calls"));
+        Assertions.assertEquals(0L, server.getAttribute(MetricsRegistry.objectNameOf("DeleteCategory"), "Calls"));
+    }
+}
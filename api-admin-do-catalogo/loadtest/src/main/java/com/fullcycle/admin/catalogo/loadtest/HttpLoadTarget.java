@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sends every operation to a running server's category API. Any status
+ * outside 2xx counts as a failure.
+ */
+public class HttpLoadTarget implements LoadTarget {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private String[] ids;
+
+    public HttpLoadTarget(final URI aBaseUri) {
+        this.baseUri = aBaseUri;
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        this.ids = new String[0];
+    }
+
+    @Override
+    public String describe() {
+        return "http " + this.baseUri;
+    }
+
+    @Override
+    public void prepare(final int aCount) throws IOException, InterruptedException {
+        final var random = RandomGenerator.of("L64X128MixRandom");
+        final var prepared = new ArrayList<String>(aCount);
+        for (int i = 0; i < aCount; i++) {
+            final var response = create(LoadTarget.nameFor(random));
+            final var location = response.headers().firstValue("Location")
+                .orElseThrow(() -> new IOException("created category has no Location header"));
+            prepared.add(location.substring(location.lastIndexOf('/') + 1));
+        }
+        this.ids = prepared.toArray(String[]::new);
+    }
+
+    @Override
+    public void execute(final Operation anOperation, final RandomGenerator aRandom) throws IOException, InterruptedException {
+        switch (anOperation) {
+            case CREATE -> create(LoadTarget.nameFor(aRandom));
+            case READ -> send(HttpRequest.newBuilder(uri("/categories/" + this.ids[aRandom.nextInt(this.ids.length)])).GET());
+            case SEARCH -> send(HttpRequest.newBuilder(uri("/categories?per_page=10&sort=name&search=" + LoadTarget.termFor(aRandom))).GET());
+        }
+    }
+
+    private HttpResponse<Void> create(final String aName) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri("/categories"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"" + aName + "\",\"is_active\":true}")));
+    }
+
+    private HttpResponse<Void> send(final HttpRequest.Builder aRequest) throws IOException, InterruptedException {
+        final var response = this.client.send(aRequest.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("unexpected status " + response.statusCode());
+        }
+        return response;
+    }
+
+    private URI uri(final String aPath) {
+        return this.baseUri.resolve(aPath);
+    }
+}
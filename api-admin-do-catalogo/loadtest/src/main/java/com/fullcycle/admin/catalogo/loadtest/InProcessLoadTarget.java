@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Calls the use cases and the gateway directly, without the HTTP layer.
+ */
+public class InProcessLoadTarget implements LoadTarget {
+    private static final int PREPARE_BATCH_SIZE = 1_000;
+    private static final int SEARCH_PAGE_SIZE = 10;
+
+    private final CategoryGateway gateway;
+    private final String description;
+    private final Closeable onClose;
+    private final DefaultCreateCategoryUseCase createCategory;
+    private final DefaultGetCategoryByIdUseCase getCategoryById;
+    private String[] ids;
+
+    public InProcessLoadTarget(final CategoryGateway aGateway, final String aDescription, final Closeable onClose) {
+        this.gateway = Objects.requireNonNull(aGateway);
+        this.description = aDescription;
+        this.onClose = onClose;
+        this.createCategory = new DefaultCreateCategoryUseCase(aGateway);
+        this.getCategoryById = new DefaultGetCategoryByIdUseCase(aGateway);
+        this.ids = new String[0];
+    }
+
+    @Override
+    public String describe() {
+        return this.description;
+    }
+
+    @Override
+    public void prepare(final int aCount) {
+        final var random = RandomGenerator.of("L64X128MixRandom");
+        final var prepared = new ArrayList<String>(aCount);
+        while (prepared.size() < aCount) {
+            final var batch = new ArrayList<Category>(PREPARE_BATCH_SIZE);
+            for (int i = 0; i < PREPARE_BATCH_SIZE && prepared.size() + batch.size() < aCount; i++) {
+                batch.add(Category.newCategory(LoadTarget.nameFor(random), null, random.nextInt(10) > 0));
+            }
+            this.gateway.createAll(batch).forEach(aCategory -> prepared.add(aCategory.getId().getValue()));
+        }
+        this.ids = prepared.toArray(String[]::new);
+    }
+
+    @Override
+    public void execute(final Operation anOperation, final RandomGenerator aRandom) {
+        switch (anOperation) {
+            case CREATE -> {
+                final var result = this.createCategory.execute(CreateCategoryCommand.with(LoadTarget.nameFor(aRandom), null, true));
+                if (result.isLeft()) {
+                    throw new IllegalStateException(result.getLeft().getErrors().get(0).message());
+                }
+            }
+            case READ -> this.getCategoryById.execute(this.ids[aRandom.nextInt(this.ids.length)]);
+            case SEARCH -> this.gateway.findAll(
+                new CategorySearchQuery(0, SEARCH_PAGE_SIZE, LoadTarget.termFor(aRandom), "name", "asc")
+            );
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.onClose != null) {
+            this.onClose.close();
+        }
+    }
+}
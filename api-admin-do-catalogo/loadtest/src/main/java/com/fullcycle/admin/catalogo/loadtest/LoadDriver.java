@@ -0,0 +1,209 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fullcycle.admin.catalogo.infrastructure.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * Runs a warmup and then a measured window against a {@link LoadTarget}.
+ * <p>
+ * With a positive rate the load is open: a single scheduler thread works out
+ * when each request is due ({@code start + i / rate}) and hands it to the
+ * workers, which never slow the schedule down. Latency is taken from that due
+ * time, so a request that sat in the queue behind a stall is charged for the
+ * wait, which is what a client would have seen. Service time, from the moment
+ * a worker picked the request up, is kept next to it.
+ * <p>
+ * With a rate of zero every worker fires back-to-back, which finds the peak
+ * throughput but can't report honest latencies under load.
+ * <p>
+ * Requests still queued when the drain timeout runs out are counted as
+ * dropped rather than forgotten, since they are the slowest ones of the run.
+ */
+public class LoadDriver {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTarget target;
+    private final OperationMix mix;
+    private final double rate;
+    private final int concurrency;
+    private final Duration drainTimeout;
+
+    public LoadDriver(final LoadTarget aTarget, final OperationMix aMix, final double aRate, final int aConcurrency) {
+        this(aTarget, aMix, aRate, aConcurrency, DRAIN_TIMEOUT);
+    }
+
+    LoadDriver(
+        final LoadTarget aTarget,
+        final OperationMix aMix,
+        final double aRate,
+        final int aConcurrency,
+        final Duration aDrainTimeout
+    ) {
+        if (aRate < 0) {
+            throw new IllegalArgumentException("'rate' must not be negative");
+        }
+        if (aConcurrency < 1) {
+            throw new IllegalArgumentException("'concurrency' must be at least 1");
+        }
+        this.target = aTarget;
+        this.mix = aMix;
+        this.rate = aRate;
+        this.concurrency = aConcurrency;
+        this.drainTimeout = aDrainTimeout;
+    }
+
+    public List<OperationResult> run(final Duration aWarmup, final Duration aDuration) throws InterruptedException {
+        if (!aWarmup.isZero()) {
+            drive(aWarmup);
+        }
+        return drive(aDuration).results();
+    }
+
+    private Phase drive(final Duration aDuration) throws InterruptedException {
+        final var phase = new Phase();
+        final var workers = Executors.newFixedThreadPool(this.concurrency, new WorkerFactory());
+        final long start = System.nanoTime();
+        final long end = start + aDuration.toNanos();
+        try {
+            if (this.rate > 0) {
+                schedule(workers, phase, start, end);
+            } else {
+                for (int i = 0; i < this.concurrency; i++) {
+                    workers.execute(() -> {
+                        final var random = ThreadLocalRandom.current();
+                        long now;
+                        while ((now = System.nanoTime()) < end) {
+                            execute(phase, this.mix.next(random), now, random);
+                        }
+                    });
+                }
+            }
+        } finally {
+            workers.shutdown();
+            if (!workers.awaitTermination(this.drainTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                for (final var dropped : workers.shutdownNow()) {
+                    if (dropped instanceof Request request) {
+                        phase.recorders.get(request.operation).dropped.increment();
+                    }
+                }
+            }
+        }
+        phase.elapsedNanos = System.nanoTime() - start;
+        return phase;
+    }
+
+    private void schedule(final ExecutorService workers, final Phase phase, final long start, final long end) {
+        final var random = RandomGenerator.of("L64X128MixRandom");
+        final double intervalNanos = TimeUnit.SECONDS.toNanos(1) / this.rate;
+        for (long i = 0; ; i++) {
+            final long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                return;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            workers.execute(new Request(phase, this.mix.next(random), intended));
+        }
+    }
+
+    private void execute(final Phase phase, final Operation anOperation, final long intended, final RandomGenerator aRandom) {
+        final var recorder = phase.recorders.get(anOperation);
+        final long started = System.nanoTime();
+        try {
+            this.target.execute(anOperation, aRandom);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            recorder.errors.increment();
+            return;
+        } catch (final Exception ex) {
+            recorder.errors.increment();
+            return;
+        }
+        final long finished = System.nanoTime();
+        recorder.latency.record(finished - intended);
+        recorder.serviceTime.record(finished - started);
+    }
+
+    private final class Request implements Runnable {
+        private final Phase phase;
+        private final Operation operation;
+        private final long intended;
+
+        private Request(final Phase aPhase, final Operation anOperation, final long anIntended) {
+            this.phase = aPhase;
+            this.operation = anOperation;
+            this.intended = anIntended;
+        }
+
+        @Override
+        public void run() {
+            execute(this.phase, this.operation, this.intended, ThreadLocalRandom.current());
+        }
+    }
+
+    private static class Recorder {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+
+    private class Phase {
+        private final Map<Operation, Recorder> recorders;
+        private long elapsedNanos;
+
+        private Phase() {
+            this.recorders = new EnumMap<>(Operation.class);
+            for (final var operation : Operation.values()) {
+                this.recorders.put(operation, new Recorder());
+            }
+        }
+
+        private List<OperationResult> results() {
+            final double seconds = this.elapsedNanos / 1e9;
+            final var results = new ArrayList<OperationResult>();
+            this.recorders.forEach((operation, recorder) -> {
+                if (!mix.includes(operation)) {
+                    return;
+                }
+                final var latency = recorder.latency.snapshot();
+                results.add(new OperationResult(
+                    operation,
+                    recorder.errors.sum(),
+                    recorder.dropped.sum(),
+                    latency.count() / seconds,
+                    latency,
+                    recorder.serviceTime.snapshot()
+                ));
+            });
+            return results;
+        }
+    }
+
+    private static class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable aTask) {
+            final var thread = new Thread(aTask, "loadtest-worker-" + this.sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LoadOptions(
+    URI url,
+    Path dataDirectory,
+    double rate,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    OperationMix mix,
+    int preload,
+    Path baseline,
+    boolean writeBaseline,
+    double tolerance
+) {
+
+    public static final String USAGE = """
+        usage: loadtest [--url http://localhost:8080] [--data-dir <dir>]
+                        [--rate 1000] [--concurrency 16] [--warmup PT10S] [--duration PT60S]
+                        [--mix create=20,read=60,search=20] [--preload 10000]
+                        [--baseline <file>] [--write-baseline] [--tolerance 0.10]
+          --rate 0 runs closed-loop, each worker firing back-to-back""";
+
+    public static LoadOptions parse(final String[] args) {
+        URI url = null;
+        Path dataDirectory = null;
+        double rate = 1_000;
+        int concurrency = 16;
+        var warmup = Duration.ofSeconds(10);
+        var duration = Duration.ofSeconds(60);
+        var mix = OperationMix.parse("create=20,read=60,search=20");
+        int preload = 10_000;
+        Path baseline = null;
+        boolean writeBaseline = false;
+        double tolerance = 0.10;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> url = URI.create(valueOf(args, ++i));
+                case "--data-dir" -> dataDirectory = Path.of(valueOf(args, ++i));
+                case "--rate" -> rate = Double.parseDouble(valueOf(args, ++i));
+                case "--concurrency" -> concurrency = Integer.parseInt(valueOf(args, ++i));
+                case "--warmup" -> warmup = Duration.parse(valueOf(args, ++i));
+                case "--duration" -> duration = Duration.parse(valueOf(args, ++i));
+                case "--mix" -> mix = OperationMix.parse(valueOf(args, ++i));
+                case "--preload" -> preload = Integer.parseInt(valueOf(args, ++i));
+                case "--baseline" -> baseline = Path.of(valueOf(args, ++i));
+                case "--write-baseline" -> writeBaseline = true;
+                case "--tolerance" -> tolerance = Double.parseDouble(valueOf(args, ++i));
+                default -> throw new IllegalArgumentException("unknown option '%s'".formatted(args[i]));
+            }
+        }
+
+        if (url != null && dataDirectory != null) {
+            throw new IllegalArgumentException("'--url' and '--data-dir' can't be used together");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("'duration' must be positive");
+        }
+        if (preload < 1 && mix.includes(Operation.READ)) {
+            throw new IllegalArgumentException("'preload' must be at least 1 when the mix has reads");
+        }
+        if (writeBaseline && baseline == null) {
+            throw new IllegalArgumentException("'--write-baseline' needs '--baseline <file>'");
+        }
+        return new LoadOptions(url, dataDirectory, rate, concurrency, warmup, duration, mix, preload, baseline, writeBaseline, tolerance);
+    }
+
+    private static String valueOf(final String[] args, final int anIndex) {
+        if (anIndex >= args.length) {
+            throw new IllegalArgumentException("'%s' needs a value".formatted(args[anIndex - 1]));
+        }
+        return args[anIndex];
+    }
+}
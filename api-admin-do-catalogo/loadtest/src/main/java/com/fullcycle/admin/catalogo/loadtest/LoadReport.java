@@ -0,0 +1,101 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prints the results and checks them against a baseline saved by an earlier
+ * run. The baseline is a properties file with {@code <operation>.throughput}
+ * and {@code <operation>.p99} entries, p99 in microseconds.
+ */
+public class LoadReport {
+    private static final String THROUGHPUT = ".throughput";
+    private static final String P99 = ".p99";
+
+    private final List<OperationResult> results;
+
+    public LoadReport(final List<OperationResult> aResults) {
+        this.results = List.copyOf(aResults);
+    }
+
+    public String format() {
+        final var out = new StringBuilder();
+        out.append("%-8s %10s %8s %8s %10s %10s %10s %10s %12s%n".formatted(
+            "op", "ops/s", "errors", "dropped", "p50 us", "p99 us", "p99.9 us", "max us", "svc p99 us"
+        ));
+        for (final var result : this.results) {
+            final var latency = result.latency();
+            out.append("%-8s %10.1f %8d %8d %10d %10d %10d %10d %12d%n".formatted(
+                result.operation().label(),
+                result.throughput(),
+                result.errors(),
+                result.dropped(),
+                micros(latency.p50Nanos()),
+                micros(latency.p99Nanos()),
+                micros(latency.p999Nanos()),
+                micros(latency.maxNanos()),
+                micros(result.serviceTime().p99Nanos())
+            ));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Lists every operation whose throughput dropped, or whose p99 grew, by
+     * more than {@code aTolerance} (0.10 is 10%), and every operation that
+     * dropped requests, whose latencies leave out the slowest ones. Operations
+     * missing from the baseline are only checked for drops.
+     */
+    public List<String> regressionsAgainst(final Properties aBaseline, final double aTolerance) {
+        final var regressions = new ArrayList<String>();
+        for (final var result : this.results) {
+            final var label = result.operation().label();
+
+            if (result.dropped() > 0) {
+                regressions.add("%s dropped %d requests still queued at the end of the run".formatted(label, result.dropped()));
+            }
+
+            final var throughput = aBaseline.getProperty(label + THROUGHPUT);
+            if (throughput != null && result.throughput() < Double.parseDouble(throughput) * (1 - aTolerance)) {
+                regressions.add("%s throughput %.1f ops/s is below the baseline %s ops/s".formatted(label, result.throughput(), throughput));
+            }
+
+            final var p99 = aBaseline.getProperty(label + P99);
+            final long currentP99 = micros(result.latency().p99Nanos());
+            if (p99 != null && currentP99 > Long.parseLong(p99) * (1 + aTolerance)) {
+                regressions.add("%s p99 %d us is above the baseline %s us".formatted(label, currentP99, p99));
+            }
+        }
+        return regressions;
+    }
+
+    public Properties toBaseline() {
+        final var baseline = new Properties();
+        for (final var result : this.results) {
+            final var label = result.operation().label();
+            baseline.setProperty(label + THROUGHPUT, String.format(Locale.ROOT, "%.1f", result.throughput()));
+            baseline.setProperty(label + P99, Long.toString(micros(result.latency().p99Nanos())));
+        }
+        return baseline;
+    }
+
+    public static Properties readBaseline(final Reader aReader) throws IOException {
+        final var baseline = new Properties();
+        baseline.load(aReader);
+        return baseline;
+    }
+
+    public void writeBaseline(final Writer aWriter, final String aComment) throws IOException {
+        toBaseline().store(aWriter, aComment);
+    }
+
+    private static long micros(final long aNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(aNanos);
+    }
+}
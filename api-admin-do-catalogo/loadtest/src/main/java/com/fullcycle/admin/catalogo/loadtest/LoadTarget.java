@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * What the driver sends operations to. {@link #execute} runs concurrently and
+ * reports failures by throwing.
+ */
+public interface LoadTarget extends AutoCloseable {
+    String[] WORDS = {"Filmes", "Series", "Documentarios", "Animes", "Kids", "Esportes", "Noticias", "Musica"};
+
+    String describe();
+
+    /**
+     * Stores {@code aCount} categories for reads and searches to hit.
+     */
+    void prepare(int aCount) throws Exception;
+
+    void execute(Operation anOperation, RandomGenerator aRandom) throws Exception;
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    static String nameFor(final RandomGenerator aRandom) {
+        return WORDS[aRandom.nextInt(WORDS.length)] + " " + aRandom.nextInt(1_000_000);
+    }
+
+    static String termFor(final RandomGenerator aRandom) {
+        return WORDS[aRandom.nextInt(WORDS.length)].toLowerCase();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fullcycle.admin.catalogo.infrastructure.category.FileCategoryGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.InMemoryCategoryGateway;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+
+/**
+ * Drives the category use cases in this JVM, or a running server with
+ * {@code --url}, and prints throughput and latency percentiles per operation.
+ * With {@code --baseline} the run is compared to a saved one and exits with 1
+ * when any operation regressed by more than {@code --tolerance}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        final LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (final IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        final LoadReport report;
+        try (final var target = openTarget(options)) {
+            System.out.printf("Preloading %,d categories into %s%n", options.preload(), target.describe());
+            target.prepare(options.preload());
+
+            System.out.printf(
+                "Running %s for %s after a %s warmup, %d workers%n",
+                options.rate() > 0 ? "%,.0f ops/s".formatted(options.rate()) : "closed-loop",
+                options.duration(),
+                options.warmup(),
+                options.concurrency()
+            );
+            final var driver = new LoadDriver(target, options.mix(), options.rate(), options.concurrency());
+            report = new LoadReport(driver.run(options.warmup(), options.duration()));
+        }
+        System.out.print(report.format());
+
+        if (options.baseline() == null) {
+            return;
+        }
+        if (options.writeBaseline()) {
+            try (final var writer = Files.newBufferedWriter(options.baseline())) {
+                report.writeBaseline(writer, "loadtest baseline written " + Instant.now());
+            }
+            System.out.println("Baseline written to " + options.baseline());
+            return;
+        }
+
+        final var regressions = compare(report, options);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int compare(final LoadReport aReport, final LoadOptions options) throws IOException {
+        try (final var reader = Files.newBufferedReader(options.baseline())) {
+            final var regressions = aReport.regressionsAgainst(LoadReport.readBaseline(reader), options.tolerance());
+            regressions.forEach(aRegression -> System.out.println("REGRESSION " + aRegression));
+            if (regressions.isEmpty()) {
+                System.out.printf("No regression beyond %.0f%% of %s%n", options.tolerance() * 100, options.baseline());
+            }
+            return regressions.size();
+        }
+    }
+
+    private static LoadTarget openTarget(final LoadOptions options) throws IOException {
+        if (options.url() != null) {
+            return new HttpLoadTarget(options.url());
+        }
+        if (options.dataDirectory() != null) {
+            final var gateway = FileCategoryGateway.open(options.dataDirectory());
+            return new InProcessLoadTarget(gateway, "file store " + options.dataDirectory(), gateway::close);
+        }
+        return new InProcessLoadTarget(new InMemoryCategoryGateway(), "in-memory store", null);
+    }
+}
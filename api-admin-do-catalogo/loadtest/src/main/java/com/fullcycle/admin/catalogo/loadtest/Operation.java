@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+public enum Operation {
+    CREATE("create"),
+    READ("read"),
+    SEARCH("search");
+
+    private final String label;
+
+    Operation(final String aLabel) {
+        this.label = aLabel;
+    }
+
+    public static Operation from(final String aLabel) {
+        for (final var operation : values()) {
+            if (operation.label.equalsIgnoreCase(aLabel)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("unknown operation '%s', expected create, read or search".formatted(aLabel));
+    }
+
+    public String label() {
+        return label;
+    }
+}
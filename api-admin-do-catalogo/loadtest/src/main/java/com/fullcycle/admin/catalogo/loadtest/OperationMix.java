@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted choice of the next operation, parsed from {@code create=20,read=60,search=20}.
+ */
+public final class OperationMix {
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private OperationMix(final Map<Operation, Integer> aWeights) {
+        this.operations = new Operation[aWeights.size()];
+        this.cumulativeWeights = new int[aWeights.size()];
+        int total = 0;
+        int i = 0;
+        for (final var entry : aWeights.entrySet()) {
+            total += entry.getValue();
+            this.operations[i] = entry.getKey();
+            this.cumulativeWeights[i++] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("the operation mix needs at least one positive weight");
+        }
+        this.totalWeight = total;
+    }
+
+    public static OperationMix parse(final String aMix) {
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (final var part : aMix.split(",")) {
+            final var pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("'mix' entries should look like read=60, got '%s'".formatted(part));
+            }
+            final int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("'mix' weights must not be negative");
+            }
+            if (weight > 0) {
+                weights.put(Operation.from(pair[0].trim()), weight);
+            }
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(final RandomGenerator aRandom) {
+        final int roll = aRandom.nextInt(this.totalWeight);
+        for (int i = 0; i < this.cumulativeWeights.length; i++) {
+            if (roll < this.cumulativeWeights[i]) {
+                return this.operations[i];
+            }
+        }
+        return this.operations[this.operations.length - 1];
+    }
+
+    public boolean includes(final Operation anOperation) {
+        for (final var operation : this.operations) {
+            if (operation == anOperation) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fullcycle.admin.catalogo.infrastructure.metrics.LatencySnapshot;
+
+/**
+ * What one operation did during the measured window. {@code latency} runs from
+ * the moment the request was due to start, {@code serviceTime} from the moment
+ * it actually started. {@code dropped} requests were still queued when the run
+ * gave up waiting for them, so they are in neither.
+ */
+public record OperationResult(
+    Operation operation,
+    long errors,
+    long dropped,
+    double throughput,
+    LatencySnapshot latency,
+    LatencySnapshot serviceTime
+) {
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.random.RandomGenerator;
+
+public class LoadDriverTest {
+
+    @Test
+    public void givenATargetThatNeverAnswers_whenTheDrainTimesOut_thenQueuedRequestsShouldBeReportedAsDropped() throws Exception {
+        final var never = new CountDownLatch(1);
+        final var aDriver = new LoadDriver(
+            new StuckTarget(never),
+            OperationMix.parse("read=1"),
+            1_000,
+            1,
+            Duration.ofMillis(100)
+        );
+
+        final var actualResults = aDriver.run(Duration.ZERO, Duration.ofMillis(50));
+
+        Assertions.assertEquals(1, actualResults.size());
+        final var actualResult = actualResults.get(0);
+        Assertions.assertEquals(Operation.READ, actualResult.operation());
+        Assertions.assertEquals(1, actualResult.errors());
+        Assertions.assertTrue(actualResult.dropped() > 0);
+        Assertions.assertEquals(0, actualResult.latency().count());
+    }
+
+    @Test
+    public void givenATargetThatAnswers_whenRuns_thenShouldDropNothing() throws Exception {
+        final var aDriver = new LoadDriver(new StuckTarget(new CountDownLatch(0)), OperationMix.parse("read=1"), 1_000, 2);
+
+        final var actualResult = aDriver.run(Duration.ZERO, Duration.ofMillis(50)).get(0);
+
+        Assertions.assertEquals(0, actualResult.errors());
+        Assertions.assertEquals(0, actualResult.dropped());
+        Assertions.assertEquals(50, actualResult.latency().count());
+    }
+
+    private record StuckTarget(CountDownLatch release) implements LoadTarget {
+
+        @Override
+        public String describe() {
+            return "stuck";
+        }
+
+        @Override
+        public void prepare(final int aCount) {
+        }
+
+        @Override
+        public void execute(final Operation anOperation, final RandomGenerator aRandom) throws InterruptedException {
+            this.release.await();
+        }
+    }
+}
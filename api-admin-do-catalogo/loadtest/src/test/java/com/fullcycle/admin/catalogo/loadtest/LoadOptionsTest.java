@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class LoadOptionsTest {
+
+    @Test
+    public void givenNoArguments_whenCallsParse_thenShouldUseTheDefaults() {
+        final var actualOptions = LoadOptions.parse(new String[0]);
+
+        Assertions.assertNull(actualOptions.url());
+        Assertions.assertNull(actualOptions.dataDirectory());
+        Assertions.assertEquals(1_000.0, actualOptions.rate());
+        Assertions.assertEquals(16, actualOptions.concurrency());
+        Assertions.assertEquals(Duration.ofSeconds(10), actualOptions.warmup());
+        Assertions.assertEquals(Duration.ofSeconds(60), actualOptions.duration());
+        Assertions.assertEquals(10_000, actualOptions.preload());
+        Assertions.assertNull(actualOptions.baseline());
+        Assertions.assertFalse(actualOptions.writeBaseline());
+        Assertions.assertEquals(0.10, actualOptions.tolerance());
+    }
+
+    @Test
+    public void givenEveryOption_whenCallsParse_thenShouldReadThemAll() {
+        final var actualOptions = LoadOptions.parse(new String[]{
+            "--url", "http://localhost:9090",
+            "--rate", "0",
+            "--concurrency", "4",
+            "--warmup", "PT0S",
+            "--duration", "PT5S",
+            "--mix", "create=1",
+            "--preload", "0",
+            "--baseline", "baseline.properties",
+            "--write-baseline",
+            "--tolerance", "0.25"
+        });
+
+        Assertions.assertEquals(URI.create("http://localhost:9090"), actualOptions.url());
+        Assertions.assertEquals(0.0, actualOptions.rate());
+        Assertions.assertEquals(4, actualOptions.concurrency());
+        Assertions.assertEquals(Duration.ZERO, actualOptions.warmup());
+        Assertions.assertEquals(Duration.ofSeconds(5), actualOptions.duration());
+        Assertions.assertFalse(actualOptions.mix().includes(Operation.READ));
+        Assertions.assertEquals(0, actualOptions.preload());
+        Assertions.assertEquals(Path.of("baseline.properties"), actualOptions.baseline());
+        Assertions.assertTrue(actualOptions.writeBaseline());
+        Assertions.assertEquals(0.25, actualOptions.tolerance());
+    }
+
+    @Test
+    public void givenInvalidArguments_whenCallsParse_thenShouldFail() {
+        assertRejected("--unknown");
+        assertRejected("--rate");
+        assertRejected("--url", "http://localhost:8080", "--data-dir", "/tmp/catalogo");
+        assertRejected("--duration", "PT0S");
+        assertRejected("--duration", "-PT1S");
+        assertRejected("--preload", "0");
+        assertRejected("--write-baseline");
+    }
+
+    private static void assertRejected(final String... args) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadOptions.parse(args));
+    }
+}
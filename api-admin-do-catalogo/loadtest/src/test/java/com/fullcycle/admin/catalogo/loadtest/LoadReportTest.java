@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fullcycle.admin.catalogo.infrastructure.metrics.LatencySnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Properties;
+
+public class LoadReportTest {
+
+    @Test
+    public void givenResults_whenCallsToBaseline_thenShouldKeepThroughputAndP99InMicros() {
+        final var aReport = new LoadReport(List.of(
+            result(Operation.READ, 0, 1234.56, 2_500_000),
+            result(Operation.SEARCH, 0, 80.0, 15_000_999)
+        ));
+
+        final var actualBaseline = aReport.toBaseline();
+
+        Assertions.assertEquals(4, actualBaseline.size());
+        Assertions.assertEquals("1234.6", actualBaseline.getProperty("read.throughput"));
+        Assertions.assertEquals("2500", actualBaseline.getProperty("read.p99"));
+        Assertions.assertEquals("80.0", actualBaseline.getProperty("search.throughput"));
+        Assertions.assertEquals("15000", actualBaseline.getProperty("search.p99"));
+    }
+
+    @Test
+    public void givenAWrittenBaseline_whenReadBack_thenShouldFindNoRegressions() throws IOException {
+        final var aReport = new LoadReport(List.of(result(Operation.CREATE, 0, 500.0, 1_000_000)));
+        final var out = new StringWriter();
+
+        aReport.writeBaseline(out, "test");
+        final var actualBaseline = LoadReport.readBaseline(new StringReader(out.toString()));
+
+        Assertions.assertEquals(aReport.toBaseline(), actualBaseline);
+        Assertions.assertTrue(aReport.regressionsAgainst(actualBaseline, 0.0).isEmpty());
+    }
+
+    @Test
+    public void givenResultsWithinTheTolerance_whenCallsRegressionsAgainst_thenShouldFindNone() {
+        final var aBaseline = baseline("read", "1000.0", "2000");
+        final var aReport = new LoadReport(List.of(result(Operation.READ, 0, 901.0, 2_199_000)));
+
+        Assertions.assertTrue(aReport.regressionsAgainst(aBaseline, 0.10).isEmpty());
+    }
+
+    @Test
+    public void givenSlowerResults_whenCallsRegressionsAgainst_thenShouldListThroughputAndP99() {
+        final var aBaseline = baseline("read", "1000.0", "2000");
+        final var aReport = new LoadReport(List.of(result(Operation.READ, 0, 899.0, 2_201_000)));
+
+        final var actualRegressions = aReport.regressionsAgainst(aBaseline, 0.10);
+
+        Assertions.assertEquals(2, actualRegressions.size());
+        Assertions.assertTrue(actualRegressions.get(0).startsWith("read throughput 899.0 ops/s"));
+        Assertions.assertTrue(actualRegressions.get(1).startsWith("read p99 2201 us"));
+    }
+
+    @Test
+    public void givenAnOperationMissingFromTheBaseline_whenCallsRegressionsAgainst_thenShouldOnlyCheckForDrops() {
+        final var aBaseline = baseline("read", "1000.0", "2000");
+        final var aReport = new LoadReport(List.of(
+            result(Operation.CREATE, 0, 1.0, 90_000_000),
+            result(Operation.SEARCH, 3, 1.0, 90_000_000)
+        ));
+
+        final var actualRegressions = aReport.regressionsAgainst(aBaseline, 0.10);
+
+        Assertions.assertEquals(List.of("search dropped 3 requests still queued at the end of the run"), actualRegressions);
+    }
+
+    @Test
+    public void givenResults_whenCallsFormat_thenShouldPrintARowPerOperation() {
+        final var aReport = new LoadReport(List.of(result(Operation.READ, 7, 1000.0, 2_000_000)));
+
+        final var actualLines = aReport.format().split("\\R");
+
+        Assertions.assertEquals(2, actualLines.length);
+        Assertions.assertTrue(actualLines[0].contains("dropped"));
+        Assertions.assertEquals(List.of("read", "1000.0", "0", "7"), List.of(actualLines[1].trim().split("\\s+")).subList(0, 4));
+    }
+
+    private static OperationResult result(final Operation anOperation, final long aDropped, final double aThroughput, final long aP99Nanos) {
+        final var latency = new LatencySnapshot(100, aP99Nanos / 2.0, aP99Nanos, aP99Nanos / 2, aP99Nanos, aP99Nanos);
+        return new OperationResult(anOperation, 0, aDropped, aThroughput, latency, latency);
+    }
+
+    private static Properties baseline(final String aLabel, final String aThroughput, final String aP99) {
+        final var baseline = new Properties();
+        baseline.setProperty(aLabel + ".throughput", aThroughput);
+        baseline.setProperty(aLabel + ".p99", aP99);
+        return baseline;
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.random.RandomGenerator;
+
+public class OperationMixTest {
+
+    @Test
+    public void givenAValidMix_whenCallsParse_thenShouldIncludeOnlyPositiveWeights() {
+        final var actualMix = OperationMix.parse(" create = 20 , READ=80,search=0");
+
+        Assertions.assertTrue(actualMix.includes(Operation.CREATE));
+        Assertions.assertTrue(actualMix.includes(Operation.READ));
+        Assertions.assertFalse(actualMix.includes(Operation.SEARCH));
+    }
+
+    @Test
+    public void givenInvalidMixes_whenCallsParse_thenShouldFail() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read=60=1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read=-1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("read=0,search=0"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("update=10"));
+        Assertions.assertThrows(NumberFormatException.class, () -> OperationMix.parse("read=many"));
+    }
+
+    @Test
+    public void givenAWeightedMix_whenCallsNext_thenShouldFollowTheWeights() {
+        final var aMix = OperationMix.parse("create=20,read=60,search=20");
+        final var random = RandomGenerator.of("L64X128MixRandom");
+        final var counts = new EnumMap<Operation, Integer>(Operation.class);
+
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(aMix.next(random), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(20_000, counts.get(Operation.CREATE), 1_000);
+        Assertions.assertEquals(60_000, counts.get(Operation.READ), 1_000);
+        Assertions.assertEquals(20_000, counts.get(Operation.SEARCH), 1_000);
+    }
+
+    @Test
+    public void givenASingleOperation_whenCallsNext_thenShouldAlwaysReturnIt() {
+        final var aMix = OperationMix.parse("search=1");
+        final var random = RandomGenerator.of("L64X128MixRandom");
+
+        for (int i = 0; i < 1_000; i++) {
+            Assertions.assertEquals(Operation.SEARCH, aMix.next(random));
+        }
+    }
+}